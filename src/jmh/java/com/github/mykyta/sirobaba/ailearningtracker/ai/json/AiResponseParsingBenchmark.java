@@ -0,0 +1,92 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.GoalAiResultDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.PlanAiResultDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction of JSON from raw model output and its deserialization into the AI result DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiResponseParsingBenchmark {
+
+    private static final String GOAL = """
+            {"generalGoal":"Master Spring Boot in depth","difficulty":"MEDIUM"}""";
+
+    private static final String PLAN = """
+            {"generalGoal":"Master Spring Boot in depth","difficulty":"MEDIUM","subGoals":[\
+            {"title":"Basics","description":"Learn dependency injection and auto-configuration","difficulty":"EASY","estimatedHours":10},\
+            {"title":"Data","description":"Build repositories with Spring Data JPA","difficulty":"MEDIUM","estimatedHours":15},\
+            {"title":"Security","description":"Secure the API with Spring Security and JWT","difficulty":"HARD","estimatedHours":20}]}""";
+
+    private static final String ANALYSIS = """
+            {"title":"Log analysis","analysisText":"A. Summary Progress Analysis:\\n- Overall Status: On Track\\n\
+            - Key Achievements: Finished the basics\\n- Problems/Blockers: None\\n\\nB. Recommended Next Steps:\\n\
+            1. Priority #1: Start Spring Data\\n2. Priority #2: Practice queries\\n3. Long-Term Recommendation: Keep the pace"}""";
+
+    private ObjectMapper objectMapper;
+    private String wrappedPlan;
+    private String truncatedPlan;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        wrappedPlan = "Here is your plan:\n```json\n" + PLAN + "\n```\nGood luck!";
+        truncatedPlan = PLAN.substring(0, PLAN.length() * 3 / 4);
+    }
+
+    @Benchmark
+    public Optional<String> extractClean() {
+        return JsonExtractor.extract(PLAN);
+    }
+
+    @Benchmark
+    public Optional<String> extractWrapped() {
+        return JsonExtractor.extract(wrappedPlan);
+    }
+
+    @Benchmark
+    public Optional<String> extractTruncated() {
+        return JsonExtractor.extract(truncatedPlan);
+    }
+
+    @Benchmark
+    public GoalAiResultDto readGoal() throws Exception {
+        return objectMapper.readValue(GOAL, GoalAiResultDto.class);
+    }
+
+    @Benchmark
+    public PlanAiResultDto readPlan() throws Exception {
+        return objectMapper.readValue(PLAN, PlanAiResultDto.class);
+    }
+
+    @Benchmark
+    public AiAnalysisOfProgressLogDto readAnalysis() throws Exception {
+        return objectMapper.readValue(ANALYSIS, AiAnalysisOfProgressLogDto.class);
+    }
+
+    @Benchmark
+    public PlanAiResultDto extractAndReadWrappedPlan() throws Exception {
+        return objectMapper.readValue(JsonExtractor.extract(wrappedPlan).orElseThrow(), PlanAiResultDto.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.prompt;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering of the progress analysis prompt, whose size grows with the number of progress logs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptRenderingBenchmark {
+
+    private static final String TEMPLATE = """
+            You are an analytical AI designed to evaluate progress data.
+            Analyze the progress logs against the goal and its subgoals.
+
+            GeneralGoalDescription: {{goalDescription}}
+            SubGoals: {{subgoals}}
+            ProgressLogs: {{progressLogContent}}
+            """;
+
+    @Param({"10", "200"})
+    private int progressLogCount;
+
+    private PromptTemplate template;
+    private List<Subgoal> subgoals;
+    private List<ProgressLogContentDto> progressLogs;
+
+    @Setup
+    public void setUp() {
+        template = PromptTemplate.compile("createAnalysisProgressLogs", TEMPLATE);
+        subgoals = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            subgoals.add(Subgoal.builder()
+                    .id(i)
+                    .title("Subgoal " + i)
+                    .description("Description of subgoal " + i)
+                    .difficulty(Difficulty.MEDIUM)
+                    .estimatedHours(10)
+                    .build());
+        }
+        progressLogs = new ArrayList<>(progressLogCount);
+        for (long i = 1; i <= progressLogCount; i++) {
+            progressLogs.add(ProgressLogContentDto.builder()
+                    .id(i)
+                    .content("Studied chapter " + i + " and\nsolved the exercises")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public String renderAnalysisPrompt() {
+        return template.render(Map.of(
+                "goalDescription", "Master Spring Boot in depth",
+                "subgoals", PromptFormats.subgoals(subgoals),
+                "progressLogContent", PromptFormats.progressLogs(progressLogs)));
+    }
+
+    @Benchmark
+    public String formatProgressLogs() {
+        return PromptFormats.progressLogs(progressLogs);
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.mykyta.sirobaba.ailearningtracker.aspects;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.github.mykyta.sirobaba.ailearningtracker.controllers.UserController;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.RequestLogProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of logging a controller call: no logging ({@code none}), the former controller log aspect with two
+ * synchronous INFO lines per call ({@code legacy}), and {@link RequestLogAspect} with one asynchronous line
+ * for every call ({@code full}) or for one call in ten ({@code sampled}).
+ * <p>
+ * Log output is formatted as in the application and discarded, so the numbers include formatting,
+ * appender locking and the asynchronous queue, but not the terminal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RequestLogBenchmark {
+
+    private static final String CONSOLE_PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"none", "legacy", "full", "sampled"})
+    private String mode;
+
+    private UserController controller;
+    private CurrentUserInfoDto currentUser;
+
+    @Setup
+    public void setUp() {
+        configureLogging();
+
+        UserController target = new UserController(null);
+        if (mode.equals("none")) {
+            controller = target;
+        } else {
+            AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAspect(mode.equals("legacy") ? new LegacyControllerLogAspect() : requestLogAspect());
+            controller = proxyFactory.getProxy();
+        }
+        currentUser = CurrentUserInfoDto.builder()
+                .id(42L)
+                .username("benchmark")
+                .email("benchmark@example.com")
+                .role(Role.USER)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+    }
+
+    @Benchmark
+    public Object getCurrentUser(RequestState request) {
+        return controller.getCurrentUser(currentUser);
+    }
+
+    private RequestLogAspect requestLogAspect() {
+        RequestLogProperties properties = new RequestLogProperties();
+        properties.setSampleRate(mode.equals("sampled") ? 0.1 : 1.0);
+        return new RequestLogAspect(properties);
+    }
+
+    /**
+     * Writes the application loggers synchronously, as the former configuration did,
+     * and the request log through an asynchronous appender, as {@code logback-spring.xml} does.
+     */
+    private static void configureLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(discardingAppender(context, CONSOLE_PATTERN));
+
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(discardingAppender(context, "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} REQUEST %kvp%n"));
+        asyncAppender.start();
+
+        Logger requestLog = context.getLogger(RequestLogAspect.LOGGER_NAME);
+        requestLog.setAdditive(false);
+        requestLog.addAppender(asyncAppender);
+    }
+
+    private static Appender<ILoggingEvent> discardingAppender(LoggerContext context, String pattern) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(pattern);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    /**
+     * Binds a request to the benchmark thread, as the dispatcher servlet does.
+     */
+    @State(Scope.Thread)
+    public static class RequestState {
+
+        @Setup
+        public void setUp() {
+            RequestContextHolder.setRequestAttributes(
+                    new ServletRequestAttributes(new MockHttpServletRequest("GET", "/user/me")));
+        }
+
+        @TearDown
+        public void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * The controller log aspect replaced by {@link RequestLogAspect}, kept here as the baseline.
+     */
+    @Slf4j
+    @Aspect
+    public static class LegacyControllerLogAspect {
+
+        @Around("execution(* com.github.mykyta.sirobaba.ailearningtracker.controllers..*(..))")
+        public Object logRequestAndResponse(ProceedingJoinPoint joinPoint) throws Throwable {
+            HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+
+            String methodName = joinPoint.getSignature().getName();
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            Object[] args = joinPoint.getArgs();
+
+            log.info("==> REQUEST: [{} {}] -> Method: {}.{}",
+                    request.getMethod(), request.getRequestURI(), className, methodName);
+            log.debug("==> ARGS: {}", Arrays.toString(args));
+
+            long startTime = System.currentTimeMillis();
+
+            try {
+                Object result = joinPoint.proceed(args);
+
+                long executionTime = System.currentTimeMillis() - startTime;
+                log.info("<== RESPONSE: Status: OK | Time: {}ms | Body: {}", executionTime, result);
+                return result;
+            } catch (Throwable ex) {
+                long executionTime = System.currentTimeMillis() - startTime;
+                log.error("<== ERROR in {}.{} | Time: {}ms | Message: {}", className, methodName, executionTime, ex.getMessage());
+                throw ex;
+            }
+        }
+    }
+}
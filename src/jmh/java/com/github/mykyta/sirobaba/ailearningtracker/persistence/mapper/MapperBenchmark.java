@@ -0,0 +1,85 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping done for every goal and progress log returned by the API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"5", "50"})
+    private int subgoalCount;
+
+    private GoalMapper goalMapper;
+    private ProgressLogMapper progressLogMapper;
+    private Goal goal;
+
+    @Setup
+    public void setUp() {
+        goalMapper = new GoalMapperImpl(Mappers.getMapper(SubgoalMapper.class));
+        progressLogMapper = Mappers.getMapper(ProgressLogMapper.class);
+
+        List<Subgoal> subgoals = new ArrayList<>(subgoalCount);
+        for (long i = 1; i <= subgoalCount; i++) {
+            subgoals.add(Subgoal.builder()
+                    .id(i)
+                    .title("Subgoal " + i)
+                    .description("Description of subgoal " + i)
+                    .difficulty(Difficulty.MEDIUM)
+                    .estimatedHours(10)
+                    .build());
+        }
+        goal = Goal.builder()
+                .id(1L)
+                .title("Learn Spring Boot")
+                .description("Master Spring Boot in depth")
+                .difficulty(Difficulty.HARD)
+                .createdAt(LocalDate.now())
+                .deadline(LocalDate.now().plusWeeks(10))
+                .estimatedHours(10 * subgoalCount)
+                .subgoalCount(subgoalCount)
+                .subgoals(subgoals)
+                .build();
+    }
+
+    @Benchmark
+    public GoalResponseDto toGoalResponseDto() {
+        return goalMapper.toGoalResponseDto(goal);
+    }
+
+    @Benchmark
+    public String formatMinutesUnderAnHour() {
+        return progressLogMapper.formatMinutes(45);
+    }
+
+    @Benchmark
+    public String formatMinutesHours() {
+        return progressLogMapper.formatMinutes(135);
+    }
+}
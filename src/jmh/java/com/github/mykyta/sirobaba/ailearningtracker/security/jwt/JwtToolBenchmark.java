@@ -0,0 +1,71 @@
+package com.github.mykyta.sirobaba.ailearningtracker.security.jwt;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing and verification done on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtToolBenchmark {
+
+    private JwtTool jwtTool;
+    private User user;
+    private UserDetails userDetails;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTool = new JwtTool("123123123123123123123123123123123123", 7_200_000L, 36_000_000L, 300_000L);
+        user = User.builder()
+                .id(42L)
+                .email("benchmark@example.com")
+                .refreshTokenKey("refresh-key")
+                .role(Role.USER)
+                .build();
+        userDetails = org.springframework.security.core.userdetails.User.withUsername(user.getEmail())
+                .password("")
+                .roles(Role.USER.name())
+                .build();
+        accessToken = jwtTool.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTool.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTool.validateToken(accessToken, userDetails);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtTool.extractEmail(accessToken);
+    }
+
+    @Benchmark
+    public Optional<AccessTokenClaims> parseAccessToken() {
+        return jwtTool.parseAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.mykyta.sirobaba.ailearningtracker.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Seeds the database with users, goals, subgoals, progress logs and their daily rollup, generated by PostgreSQL
+ * itself with {@code generate_series} so that tens of millions of rows take minutes rather than hours.
+ * <p>
+ * Ids are deterministic: user {@code u} owns goals {@code (u - 1) * goalsPerUser + 1 .. u * goalsPerUser},
+ * which lets the driver build valid requests without reading the data back. Every user has the password
+ * {@link #PASSWORD}. The id sequences are moved past the seeded ids so the application can keep inserting.
+ * A database that already holds the configured number of users is reused as is.
+ */
+@Slf4j
+final class DataSeeder {
+
+    static final String PASSWORD = "LoadTest123!";
+
+    private static final long GOALS_PER_STATEMENT = 50_000;
+
+    private static final String INSERT_USERS = """
+            INSERT INTO users (id, username, email, password, refresh_token_key, two_factor_enabled, role)
+            SELECT u, 'lt_user_' || u, 'lt-user-' || u || '@loadtest.local', ?, md5(u::text), false, 'USER'
+            FROM generate_series(1::bigint, ?::bigint) AS u""";
+
+    private static final String INSERT_GOALS = """
+            INSERT INTO goals (id, title, description, difficulty, created_at, deadline, solved_at, estimated_hours,
+                               is_completed, user_id, subgoal_count, completed_subgoal_count)
+            SELECT g, 'Load test goal ' || g, 'Seeded goal number ' || g,
+                   (ARRAY['EASY', 'MEDIUM', 'HARD'])[1 + g % 3],
+                   current_date - (g % 365)::int,
+                   current_date + 30 + (g % 365)::int,
+                   CASE WHEN g % 5 = 0 THEN current_date END,
+                   ? * 10, g % 5 = 0, (g - 1) / ? + 1, ?, CASE WHEN g % 5 = 0 THEN ? ELSE 0 END
+            FROM generate_series(?::bigint, ?::bigint) AS g""";
+
+    private static final String INSERT_SUBGOALS = """
+            INSERT INTO subgoals (id, title, description, difficulty, is_completed, estimated_hours, goal_id)
+            SELECT s, 'Subgoal ' || s, 'Seeded subgoal number ' || s,
+                   (ARRAY['EASY', 'MEDIUM', 'HARD'])[1 + s % 3],
+                   ((s - 1) / ? + 1) % 5 = 0, 10, (s - 1) / ? + 1
+            FROM generate_series(?::bigint, ?::bigint) AS s""";
+
+    private static final String INSERT_PROGRESS_LOGS = """
+            INSERT INTO progress_logs (id, title, log_time, minutes_spent, note, goal_id)
+            SELECT p, 'Study session ' || p,
+                   localtimestamp - make_interval(days => ((p - 1) % ?)::int, mins => (p % 600)::int),
+                   15 + (p % 120)::int,
+                   'Worked through chapter ' || p || ' and solved the exercises at the end of it',
+                   (p - 1) / ? + 1
+            FROM generate_series(?::bigint, ?::bigint) AS p""";
+
+    private static final String INSERT_DAILY_STATS = """
+            INSERT INTO progress_log_daily_stats (goal_id, log_date, user_id, log_count, minutes_spent)
+            SELECT p.goal_id, CAST(p.log_time AS DATE), g.user_id, count(*), sum(p.minutes_spent)
+            FROM progress_logs p
+                     JOIN goals g ON g.id = p.goal_id
+            WHERE p.goal_id BETWEEN ? AND ?
+            GROUP BY p.goal_id, CAST(p.log_time AS DATE), g.user_id""";
+
+    private final LoadTestConfig config;
+    private final String jdbcUrl;
+    private final String jdbcUser;
+    private final String jdbcPassword;
+
+    DataSeeder(LoadTestConfig config, String jdbcUrl, String jdbcUser, String jdbcPassword) {
+        this.config = config;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUser = jdbcUser;
+        this.jdbcPassword = jdbcPassword;
+    }
+
+    void seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, jdbcUser, jdbcPassword)) {
+            long existingUsers = count(connection, "users");
+            if (existingUsers >= config.users()) {
+                log.info("Reusing {} seeded users", existingUsers);
+                return;
+            }
+            if (existingUsers > 0) {
+                throw new IllegalStateException("Database has " + existingUsers
+                        + " users, fewer than loadtest.users; seed into an empty database");
+            }
+
+            long start = System.nanoTime();
+            log.info("Seeding {} users, {} goals, {} subgoals and {} progress logs",
+                    config.users(), config.goals(),
+                    config.goals() * config.subgoalsPerGoal(), config.goals() * config.logsPerGoal());
+
+            update(connection, INSERT_USERS, new BCryptPasswordEncoder().encode(PASSWORD), config.users());
+            for (long firstGoal = 1; firstGoal <= config.goals(); firstGoal += GOALS_PER_STATEMENT) {
+                long lastGoal = Math.min(config.goals(), firstGoal + GOALS_PER_STATEMENT - 1);
+                seedGoals(connection, firstGoal, lastGoal);
+                log.info("Seeded goals {}..{} of {}", firstGoal, lastGoal, config.goals());
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), (SELECT max(id) FROM users))");
+                for (String table : new String[]{"goals", "subgoals", "progress_logs"}) {
+                    statement.execute("SELECT setval('" + table + "_seq', (SELECT coalesce(max(id), 0) FROM "
+                            + table + ") + 50)");
+                }
+                statement.execute("ANALYZE");
+            }
+            log.info("Seeding finished in {} s", (System.nanoTime() - start) / 1_000_000_000L);
+        }
+    }
+
+    private void seedGoals(Connection connection, long firstGoal, long lastGoal) throws SQLException {
+        int subgoals = config.subgoalsPerGoal();
+        int logs = config.logsPerGoal();
+
+        update(connection, INSERT_GOALS,
+                subgoals, config.goalsPerUser(), subgoals, subgoals, firstGoal, lastGoal);
+        if (subgoals > 0) {
+            update(connection, INSERT_SUBGOALS,
+                    subgoals, subgoals, (firstGoal - 1) * subgoals + 1, lastGoal * subgoals);
+        }
+        if (logs > 0) {
+            update(connection, INSERT_PROGRESS_LOGS,
+                    logs, logs, (firstGoal - 1) * logs + 1, lastGoal * logs);
+            update(connection, INSERT_DAILY_STATS, firstGoal, lastGoal);
+        }
+    }
+
+    private static void update(Connection connection, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.mykyta.sirobaba.ailearningtracker.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and outcomes of the measured requests of one scenario.
+ * <p>
+ * Latency is taken from the moment a request was scheduled to start, not when it was actually sent,
+ * so time spent queued behind a slow server counts against it instead of being hidden.
+ */
+final class EndpointStats {
+
+    /**
+     * Status recorded for requests that failed without an HTTP response.
+     */
+    static final int NO_RESPONSE = 0;
+
+    private final String name;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int dropped;
+    private final Map<Integer, Integer> statuses = new TreeMap<>();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        statuses.merge(status, 1, Integer::sum);
+    }
+
+    synchronized void recordDropped() {
+        dropped++;
+    }
+
+    /**
+     * Summarizes the recorded requests.
+     *
+     * @param window measured time, used to compute the throughput
+     * @return summary of the scenario
+     */
+    synchronized Summary summarize(Duration window) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int errors = statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 400)
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+        return new Summary(name, count, errors, dropped,
+                count / Math.max(1e-9, window.toNanos() / 1e9),
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1],
+                new TreeMap<>(statuses));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * Results of one scenario; latencies in nanoseconds.
+     */
+    record Summary(String name,
+                   int requests,
+                   int errors,
+                   int dropped,
+                   double throughput,
+                   long p50,
+                   long p95,
+                   long p99,
+                   long max,
+                   Map<Integer, Integer> statuses) {
+    }
+}
@@ -0,0 +1,200 @@
+package com.github.mykyta.sirobaba.ailearningtracker.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-model load generator: requests are started at a fixed rate, whatever the response times,
+ * each on its own virtual thread, with the scenario picked at random by its weight in the mix.
+ */
+@Slf4j
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final List<Session> sessions;
+    private final List<Scenario> scenarios = new ArrayList<>();
+    private final int totalWeight;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    LoadDriver(LoadTestConfig config, HttpClient httpClient, URI baseUri, List<Session> sessions) {
+        this.config = config;
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.sessions = sessions;
+
+        Map<String, Function<Session, HttpRequest>> requests = requests();
+        config.mix().forEach((name, weight) -> {
+            Function<Session, HttpRequest> request = requests.get(name);
+            if (request == null) {
+                throw new IllegalArgumentException("Unknown scenario " + name + ", expected one of " + requests.keySet());
+            }
+            if (weight > 0) {
+                scenarios.add(new Scenario(name, weight, request));
+                stats.put(name, new EndpointStats(name));
+            }
+        });
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("loadtest.mix has no scenario with a positive weight");
+        }
+    }
+
+    /**
+     * Runs the warmup and the measured window and waits for the requests still in flight.
+     *
+     * @return statistics of the measured requests by scenario
+     */
+    Map<String, EndpointStats> run() {
+        long intervalNanos = 1_000_000_000L / config.rps();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+
+        log.info("Running {} rps for {} after {} of warmup", config.rps(), config.duration(), config.warmup());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                if (scheduledAt >= end) {
+                    break;
+                }
+                long delay = scheduledAt - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+
+                Scenario scenario = pick();
+                boolean measured = scheduledAt >= measureFrom;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        stats.get(scenario.name()).recordDropped();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        send(scenario, scheduledAt, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    private void send(Scenario scenario, long scheduledAt, boolean measured) {
+        Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        int status;
+        try {
+            status = httpClient.send(scenario.request().apply(session), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (IOException e) {
+            log.debug("{} failed: {}", scenario.name(), e.getMessage());
+            status = EndpointStats.NO_RESPONSE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measured) {
+            stats.get(scenario.name()).record(System.nanoTime() - scheduledAt, status);
+        }
+    }
+
+    private Scenario pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Scenario weights changed during the run");
+    }
+
+    private Map<String, Function<Session, HttpRequest>> requests() {
+        Map<String, Function<Session, HttpRequest>> requests = new LinkedHashMap<>();
+        requests.put("auth.login", session -> post("/auth/login", null, login(randomUser())));
+        requests.put("goal.get", session -> get("/goal/" + randomGoal(session), session));
+        requests.put("goal.list", session -> get("/goal/goals?page=0&size=10", session));
+        requests.put("goal.create", session -> post("/goal/create", session, """
+                {"title":"Load test created goal","prompt":"Learn distributed systems fundamentals",\
+                "deadline":"%s","hoursPerWeek":10}""".formatted(LocalDate.now().plusWeeks(12))));
+        requests.put("progressLog.list", session ->
+                get("/progressLog/" + randomGoal(session) + "/logs?page=0&size=10", session));
+        requests.put("progressLog.create", session -> post("/progressLog/" + randomGoal(session) + "/log", session, """
+                {"title":"Load test session","hours":1,"minutes":15,\
+                "note":"Read a chapter and solved the exercises during the load test"}"""));
+        requests.put("aiAnalysis.list", session ->
+                get("/aiAnalysis/" + randomGoal(session) + "/analysis/?page=0&size=10", session));
+        requests.put("aiAnalysis.create", session ->
+                post("/aiAnalysis/" + randomGoal(session) + "/analysis", session, "{\"limit\":20}"));
+        requests.put("stats.get", session -> get("/stats", session));
+        requests.put("stats.goal", session -> get("/stats/goals/" + randomGoal(session), session));
+        return requests;
+    }
+
+    private long randomUser() {
+        return ThreadLocalRandom.current().nextLong(1, config.users() + 1L);
+    }
+
+    private long randomGoal(Session session) {
+        return config.firstGoalOf(session.userId()) + ThreadLocalRandom.current().nextInt(config.goalsPerUser());
+    }
+
+    static String login(long userId) {
+        return "{\"email\":\"lt-user-%d@loadtest.local\",\"password\":\"%s\"}".formatted(userId, DataSeeder.PASSWORD);
+    }
+
+    private HttpRequest get(String path, Session session) {
+        return request(path, session).GET().build();
+    }
+
+    private HttpRequest post(String path, Session session, String body) {
+        return request(path, session)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, Session session) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (session != null) {
+            builder.header("Authorization", "Bearer " + session.accessToken());
+        }
+        return builder;
+    }
+
+    /**
+     * Logged-in seeded user.
+     *
+     * @param userId      id of the user
+     * @param accessToken access token of the user
+     */
+    record Session(long userId, String accessToken) {
+    }
+
+    private record Scenario(String name, int weight, Function<Session, HttpRequest> request) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.mykyta.sirobaba.ailearningtracker.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param users           seeded users
+ * @param goalsPerUser    seeded goals of every user
+ * @param subgoalsPerGoal seeded subgoals of every goal
+ * @param logsPerGoal     seeded progress logs of every goal
+ * @param rps             requests started per second, regardless of how fast responses come back
+ * @param warmup          time before measurements start
+ * @param duration        measured time
+ * @param sessions        users logged in before the run and used for authenticated requests
+ * @param maxInFlight     requests in flight above which new requests are dropped and counted as such
+ * @param mix             relative weight of every scenario
+ * @param jdbcUrl         existing PostgreSQL database, or {@code null} to start a disposable container
+ * @param jdbcUser        user of the existing database
+ * @param jdbcPassword    password of the existing database
+ * @param report          CSV file the results are written to
+ */
+record LoadTestConfig(int users,
+                      int goalsPerUser,
+                      int subgoalsPerGoal,
+                      int logsPerGoal,
+                      int rps,
+                      Duration warmup,
+                      Duration duration,
+                      int sessions,
+                      int maxInFlight,
+                      Map<String, Integer> mix,
+                      String jdbcUrl,
+                      String jdbcUser,
+                      String jdbcPassword,
+                      Path report) {
+
+    static final String DEFAULT_MIX = "goal.get=20,goal.list=15,progressLog.list=20,progressLog.create=15,"
+            + "aiAnalysis.list=10,aiAnalysis.create=5,goal.create=5,auth.login=10";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProperty("users", 100_000),
+                intProperty("goalsPerUser", 10),
+                intProperty("subgoalsPerGoal", 3),
+                intProperty("logsPerGoal", 20),
+                intProperty("rps", 100),
+                DurationStyle.detectAndParse(property("warmup", "30s")),
+                DurationStyle.detectAndParse(property("duration", "2m")),
+                intProperty("sessions", 500),
+                intProperty("maxInFlight", 2_000),
+                parseMix(property("mix", DEFAULT_MIX)),
+                property("jdbcUrl", null),
+                property("jdbcUser", "postgres"),
+                property("jdbcPassword", "postgres"),
+                Path.of(property("report", "target/loadtest-report.csv")));
+    }
+
+    long goals() {
+        return (long) users * goalsPerUser;
+    }
+
+    long firstGoalOf(long userId) {
+        return (userId - 1) * goalsPerUser + 1;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        Arrays.stream(mix.split(","))
+                .map(String::strip)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    String[] parts = entry.split("=", 2);
+                    if (parts.length != 2) {
+                        throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+                    }
+                    weights.put(parts[0].strip(), Integer.parseInt(parts[1].strip()));
+                });
+        return weights;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = property(name, null);
+        return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+
+    /**
+     * Reads a property, treating a blank value like a missing one, since Maven passes unset properties as empty.
+     */
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value.strip();
+    }
+}
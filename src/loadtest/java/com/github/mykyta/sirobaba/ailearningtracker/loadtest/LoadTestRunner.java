@@ -0,0 +1,176 @@
+package com.github.mykyta.sirobaba.ailearningtracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.AiLearningTrackerApplication;
+import com.github.mykyta.sirobaba.ailearningtracker.loadtest.EndpointStats.Summary;
+import com.github.mykyta.sirobaba.ailearningtracker.loadtest.LoadDriver.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end load test of the REST API.
+ * <p>
+ * Starts PostgreSQL in a disposable container, unless {@code loadtest.jdbcUrl} points to an existing database,
+ * boots the application on it with the {@code ai-stub} profile, so Liquibase creates the schema and AI calls
+ * are answered by the stub model, seeds the data with {@link DataSeeder}, logs in {@code loadtest.sessions}
+ * users and drives the API with {@link LoadDriver}. Prints p50/p95/p99 latency and throughput per scenario
+ * and writes them to {@code loadtest.report}.
+ * <p>
+ * Run with {@code mvn -P loadtest -DskipTests verify}; program arguments are passed on to the application,
+ * e.g. {@code --app.ai.stub.latency=2s}.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final int LOGIN_CONCURRENCY = 32;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        PostgreSQLContainer<?> postgres = null;
+        String jdbcUrl = config.jdbcUrl();
+        String jdbcUser = config.jdbcUser();
+        String jdbcPassword = config.jdbcPassword();
+        if (jdbcUrl == null) {
+            // Durability is pointless for a disposable database and slows seeding down considerably
+            postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16-alpine"))
+                    .withCommand("postgres", "-c", "fsync=off", "-c", "synchronous_commit=off",
+                            "-c", "full_page_writes=off", "-c", "max_connections=200");
+            postgres.start();
+            jdbcUrl = postgres.getJdbcUrl();
+            jdbcUser = postgres.getUsername();
+            jdbcPassword = postgres.getPassword();
+        }
+
+        try (ConfigurableApplicationContext application = new SpringApplicationBuilder(AiLearningTrackerApplication.class)
+                .run(applicationArgs(jdbcUrl, jdbcUser, jdbcPassword, args))) {
+            new DataSeeder(config, jdbcUrl, jdbcUser, jdbcPassword).seed();
+
+            int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            List<Session> sessions = login(config, httpClient, baseUri);
+            Map<String, EndpointStats> stats = new LoadDriver(config, httpClient, baseUri, sessions).run();
+
+            List<Summary> summaries = stats.values().stream()
+                    .map(endpointStats -> endpointStats.summarize(config.duration()))
+                    .toList();
+            report(config, summaries);
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static String[] applicationArgs(String jdbcUrl, String jdbcUser, String jdbcPassword, String[] args) {
+        Stream<String> defaults = Stream.of(
+                "--spring.profiles.active=dev,ai-stub",
+                "--server.port=0",
+                "--management.server.port=0",
+                "--DATASOURCE_URL=" + jdbcUrl,
+                "--DATASOURCE_USER=" + jdbcUser,
+                "--DATASOURCE_PASSWORD=" + jdbcPassword,
+                "--GOOGLE_CLIENT_ID=loadtest",
+                "--GOOGLE_CLIENT_SECRET=loadtest",
+                "--PROJECT_ID=loadtest",
+                "--AI_GEMINI_KEY=loadtest",
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false");
+        return Stream.concat(defaults, Stream.of(args)).toArray(String[]::new);
+    }
+
+    /**
+     * Logs in the first {@code loadtest.sessions} users in parallel.
+     */
+    private static List<Session> login(LoadTestConfig config, HttpClient httpClient, URI baseUri) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        int sessionCount = Math.min(config.sessions(), config.users());
+        List<Future<Session>> logins = new ArrayList<>(sessionCount);
+        try (ExecutorService executor = Executors.newFixedThreadPool(LOGIN_CONCURRENCY)) {
+            for (long userId = 1; userId <= sessionCount; userId++) {
+                long id = userId;
+                logins.add(executor.submit(() -> login(httpClient, baseUri, objectMapper, id)));
+            }
+        }
+
+        List<Session> sessions = new ArrayList<>(sessionCount);
+        for (Future<Session> login : logins) {
+            sessions.add(login.get());
+        }
+        log.info("Logged in {} users", sessions.size());
+        return sessions;
+    }
+
+    private static Session login(HttpClient httpClient, URI baseUri, ObjectMapper objectMapper, long userId)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(LoadDriver.login(userId)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of user " + userId + " failed with status " + response.statusCode());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return new Session(userId, body.path("tokens").path("accessToken").asText());
+    }
+
+    private static void report(LoadTestConfig config, List<Summary> summaries) throws IOException {
+        StringBuilder table = new StringBuilder(String.format("%n%-20s %9s %7s %8s %9s %9s %9s %9s %9s  %s%n",
+                "scenario", "requests", "errors", "dropped", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "statuses"));
+        List<String> csv = new ArrayList<>();
+        csv.add("scenario,requests,errors,dropped,throughput,p50_ms,p95_ms,p99_ms,max_ms");
+        for (Summary summary : summaries) {
+            table.append(String.format("%-20s %9d %7d %8d %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    summary.name(), summary.requests(), summary.errors(), summary.dropped(), summary.throughput(),
+                    millis(summary.p50()), millis(summary.p95()), millis(summary.p99()), millis(summary.max()),
+                    summary.statuses()));
+            csv.add(Stream.of(summary.name(), summary.requests(), summary.errors(), summary.dropped(),
+                            String.format(Locale.ROOT, "%.1f", summary.throughput()),
+                            millis(summary.p50()), millis(summary.p95()), millis(summary.p99()), millis(summary.max()))
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        }
+        log.info("Load test results, {} rps offered for {}:{}", config.rps(), config.duration(), table);
+
+        if (config.report().getParent() != null) {
+            Files.createDirectories(config.report().getParent());
+        }
+        Files.write(config.report(), csv);
+        log.info("Report written to {}", config.report().toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -1,12 +1,23 @@
 package com.github.mykyta.sirobaba.ailearningtracker;
 
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiAnalysisStreamProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiCallLimiterProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiJsonRepairProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiResponseCacheProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties;
 import com.github.mykyta.sirobaba.ailearningtracker.properties.FrontendProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.GoalCreationJobProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.ProgressLogBatchProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.RequestLogProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(FrontendProperties.class)
+@EnableConfigurationProperties({FrontendProperties.class, GoalCreationJobProperties.class,
+        AiAnalysisStreamProperties.class, AiResponseCacheProperties.class, ProgressLogBatchProperties.class,
+        AiCallLimiterProperties.class, AiJsonRepairProperties.class, AiStubProperties.class,
+        RequestLogProperties.class})
 public class AiLearningTrackerApplication {
 
     public static void main(String[] args) {
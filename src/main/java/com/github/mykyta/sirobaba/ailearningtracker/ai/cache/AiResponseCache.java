@@ -0,0 +1,165 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.AiResponseCacheEntry;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.AiResponseCacheRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiResponseCacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed cache of raw AI responses.
+ * <p>
+ * Keys are the SHA-256 hash of the template name, the model id and the rendered prompt
+ * with collapsed whitespace, so prompts that differ only in spacing share one entry.
+ * Casing is kept, since it can change the meaning of a prompt. Entries live in a bounded
+ * in-memory tier and, when enabled, in the {@code ai_response_cache} table, which survives
+ * restarts and is purged of expired entries periodically. A failing database tier is logged
+ * and treated as a miss.
+ */
+@Slf4j
+@Component
+public class AiResponseCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AiResponseCacheProperties properties;
+    private final AiResponseCacheRepo aiResponseCacheRepo;
+    private final Cache<String, String> responses;
+
+    public AiResponseCache(AiResponseCacheProperties properties, AiResponseCacheRepo aiResponseCacheRepo) {
+        this.properties = properties;
+        this.aiResponseCacheRepo = aiResponseCacheRepo;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(properties.getMaxSize());
+        if (properties.getEviction() == AiResponseCacheProperties.Eviction.AFTER_ACCESS) {
+            builder.expireAfterAccess(properties.getTtl());
+        } else {
+            builder.expireAfterWrite(properties.getTtl());
+        }
+        this.responses = builder.build();
+    }
+
+    /**
+     * Looks up a response previously produced for an equivalent prompt.
+     *
+     * @param templateName name of the prompt template
+     * @param promptText   rendered prompt
+     * @return cached response, or empty on a miss or when the cache is disabled
+     */
+    public Optional<String> get(String templateName, String promptText) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        String key = cacheKey(templateName, promptText, properties.getModelId());
+        String cached = responses.getIfPresent(key);
+        if (cached != null) {
+            log.debug("AI response cache hit: template={}, key={}", templateName, key);
+            return Optional.of(cached);
+        }
+
+        if (!properties.getPersistent().isEnabled()) {
+            return Optional.empty();
+        }
+
+        try {
+            Optional<String> stored = aiResponseCacheRepo
+                    .findByCacheKeyAndExpiresAtAfter(key, LocalDateTime.now())
+                    .map(AiResponseCacheEntry::getResponse);
+            stored.ifPresent(response -> {
+                log.debug("AI response cache hit in database: template={}, key={}", templateName, key);
+                responses.put(key, response);
+            });
+            return stored;
+        } catch (DataAccessException e) {
+            log.warn("AI response cache lookup failed, calling the model: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a response that was successfully parsed, so only usable responses are reused.
+     *
+     * @param templateName name of the prompt template
+     * @param promptText   rendered prompt
+     * @param response     raw AI response
+     */
+    public void put(String templateName, String promptText, String response) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        String key = cacheKey(templateName, promptText, properties.getModelId());
+        responses.put(key, response);
+
+        if (!properties.getPersistent().isEnabled()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            aiResponseCacheRepo.save(AiResponseCacheEntry.builder()
+                    .cacheKey(key)
+                    .templateName(templateName)
+                    .modelId(properties.getModelId())
+                    .response(response)
+                    .createdAt(now)
+                    .expiresAt(now.plus(properties.getTtl()))
+                    .build());
+        } catch (DataAccessException e) {
+            log.warn("Failed to persist AI response cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes expired entries from the database tier, which are never read again.
+     */
+    @Scheduled(fixedDelayString = "${app.ai.response-cache.persistent.cleanup-interval:PT1H}",
+            initialDelayString = "${app.ai.response-cache.persistent.cleanup-interval:PT1H}")
+    public void deleteExpired() {
+        if (!properties.isEnabled() || !properties.getPersistent().isEnabled()) {
+            return;
+        }
+
+        try {
+            int deleted = aiResponseCacheRepo.deleteByExpiresAtBefore(LocalDateTime.now());
+            log.debug("Deleted {} expired AI response cache entries", deleted);
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete expired AI response cache entries: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Computes the content address of a prompt.
+     *
+     * @param templateName name of the prompt template
+     * @param promptText   rendered prompt
+     * @param modelId      identifier of the model
+     * @return hex-encoded SHA-256 hash of the normalized input
+     */
+    public static String cacheKey(String templateName, String promptText, String modelId) {
+        String source = normalize(templateName) + '\n' + modelId + '\n' + normalize(promptText);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String normalize(String text) {
+        return WHITESPACE.matcher(text.strip()).replaceAll(" ");
+    }
+}
@@ -0,0 +1,189 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.json;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Tolerant extraction of a JSON object from free-form model output.
+ * <p>
+ * Scans the text once per candidate opening brace, tracking strings, escapes and nesting, and returns
+ * the first balanced object, ignoring any prose, markdown fences or trailing garbage around it.
+ * If the output ends before the object is closed, the object is cut back to the last complete value
+ * (an unterminated string value is kept and closed) and the open objects and arrays are closed,
+ * so a truncated response still yields every field the model managed to produce. Such a result is
+ * reported as {@link ExtractedJson#truncated() truncated}, since values and list items may be missing.
+ */
+@UtilityClass
+public class JsonExtractor {
+
+    private static final Pattern SCALAR = Pattern.compile("true|false|null|-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+    /**
+     * Extracts a JSON object from the text.
+     *
+     * @param text raw model output
+     * @return balanced or repaired JSON object, or empty if the text contains no object at all
+     */
+    public Optional<String> extract(String text) {
+        return extractObject(text).map(ExtractedJson::json);
+    }
+
+    /**
+     * Extracts a JSON object from the text, reporting whether it had to be cut back and closed.
+     *
+     * @param text raw model output
+     * @return balanced or repaired JSON object, or empty if the text contains no object at all
+     */
+    public Optional<ExtractedJson> extractObject(String text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+
+        int start = text.indexOf('{');
+        while (start >= 0) {
+            Scan scan = scan(text, start);
+            if (scan.json() != null) {
+                return Optional.of(new ExtractedJson(scan.json(), scan.truncated()));
+            }
+            start = text.indexOf('{', scan.stoppedAt());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Scans one candidate object.
+     *
+     * @return the complete or truncated-and-closed object, or the position of the invalid character
+     *         that ended the candidate, from which the next candidate is searched
+     */
+    private Scan scan(String text, int start) {
+        Deque<Character> closers = new ArrayDeque<>();
+        boolean keyExpected = false;
+        boolean inString = false;
+        boolean stringIsKey = false;
+        boolean escaped = false;
+        int pendingHexDigits = 0;
+        int escapeAt = -1;
+        int safeEnd = -1;
+        String safeClosers = "";
+
+        int i = start;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (inString) {
+                if (pendingHexDigits > 0) {
+                    pendingHexDigits--;
+                } else if (escaped) {
+                    escaped = false;
+                    if (c == 'u') {
+                        pendingHexDigits = 4;
+                    }
+                } else if (c == '\\') {
+                    escaped = true;
+                    escapeAt = i;
+                } else if (c == '"') {
+                    inString = false;
+                    if (!stringIsKey) {
+                        safeEnd = i + 1;
+                        safeClosers = closing(closers);
+                    }
+                }
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    stringIsKey = keyExpected;
+                }
+                case '{', '[' -> {
+                    closers.push(c == '{' ? '}' : ']');
+                    keyExpected = c == '{';
+                    safeEnd = i + 1;
+                    safeClosers = closing(closers);
+                }
+                case '}', ']' -> {
+                    if (closers.isEmpty() || closers.peek() != c) {
+                        return truncated(text, start, safeEnd, safeClosers, i);
+                    }
+                    closers.pop();
+                    if (closers.isEmpty()) {
+                        return new Scan(text.substring(start, i + 1), i + 1, false);
+                    }
+                    keyExpected = false;
+                    safeEnd = i + 1;
+                    safeClosers = closing(closers);
+                }
+                case ':' -> keyExpected = false;
+                case ',' -> keyExpected = closers.peek() != null && closers.peek() == '}';
+                default -> {
+                    int end = i;
+                    while (end < text.length() && isScalarChar(text.charAt(end))) {
+                        end++;
+                    }
+                    if (end == i || !SCALAR.matcher(text.substring(i, end)).matches()) {
+                        // A partial literal at the very end is truncation, anything else is garbage
+                        return truncated(text, start, safeEnd, safeClosers, end == text.length() ? end : i);
+                    }
+                    safeEnd = end;
+                    safeClosers = closing(closers);
+                    i = end - 1;
+                }
+            }
+        }
+
+        if (inString && !stringIsKey) {
+            int end = escaped || pendingHexDigits > 0 ? escapeAt : text.length();
+            return new Scan(text.substring(start, end) + '"' + closing(closers), text.length(), true);
+        }
+        return truncated(text, start, safeEnd, safeClosers, i);
+    }
+
+    private Scan truncated(String text, int start, int safeEnd, String safeClosers, int stoppedAt) {
+        if (stoppedAt < text.length()) {
+            // Invalid content inside the candidate: it is not the object we are looking for
+            return new Scan(null, stoppedAt, false);
+        }
+        return new Scan(text.substring(start, safeEnd) + safeClosers, stoppedAt, true);
+    }
+
+    private String closing(Deque<Character> closers) {
+        StringBuilder suffix = new StringBuilder(closers.size());
+        for (char closer : closers) {
+            suffix.append(closer);
+        }
+        return suffix.toString();
+    }
+
+    private boolean isScalarChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '.';
+    }
+
+    /**
+     * JSON object extracted from model output.
+     *
+     * @param json      extracted object
+     * @param truncated whether the output ended inside the object, so it was cut back and closed
+     */
+    public record ExtractedJson(String json, boolean truncated) {
+    }
+
+    /**
+     * Result of scanning one candidate.
+     *
+     * @param json      extracted object, or {@code null} if the candidate is not valid JSON
+     * @param stoppedAt position where the scan stopped
+     * @param truncated whether the object was cut back and closed
+     */
+    private record Scan(String json, int stoppedAt, boolean truncated) {
+    }
+}
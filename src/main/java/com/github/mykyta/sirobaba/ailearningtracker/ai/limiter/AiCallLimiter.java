@@ -0,0 +1,315 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.limiter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiCallRejectedException;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiCallLimiterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chat client advisor that bounds calls to the AI model.
+ * <p>
+ * Every call passes a per-user bulkhead, which rejects immediately when the authenticated user
+ * already has {@code maxConcurrentCallsPerUser} calls running, then waits up to {@code acquireTimeout}
+ * for a global bulkhead slot and a token of the rate limiter. A call that cannot start in time is
+ * rejected with {@link AiCallRejectedException}. Concurrent blocking calls of the same authenticated
+ * user with an identical prompt are coalesced into one model call whose response is shared.
+ * <p>
+ * Publishes {@code ai.calls.active}, {@code ai.calls.waiting}, {@code ai.calls.wait},
+ * {@code ai.calls.rejected} and {@code ai.calls.coalesced} metrics.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.ai.call-limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AiCallLimiter implements CallAdvisor, StreamAdvisor {
+
+    private static final Duration IDLE_USER_EXPIRY = Duration.ofMinutes(10);
+
+    private final AiCallLimiterProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore globalPermits;
+    private final Cache<String, Semaphore> userPermits;
+    private final TokenBucket rateLimiter;
+    private final ConcurrentMap<String, InFlightCall> inFlightCalls = new ConcurrentHashMap<>();
+    private final AtomicInteger waitingCalls = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter coalescedCalls;
+
+    public AiCallLimiter(AiCallLimiterProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.globalPermits = new Semaphore(properties.getMaxConcurrentCalls(), true);
+        this.userPermits = Caffeine.newBuilder().expireAfterAccess(IDLE_USER_EXPIRY).build();
+        this.rateLimiter = new TokenBucket(properties.getRequestsPerSecond(), properties.getBurst(), System::nanoTime);
+
+        Gauge.builder("ai.calls.active", globalPermits, permits -> properties.getMaxConcurrentCalls() - permits.availablePermits())
+                .description("AI model calls currently running")
+                .register(meterRegistry);
+        Gauge.builder("ai.calls.waiting", waitingCalls, AtomicInteger::get)
+                .description("AI model calls waiting for a slot or a rate limit token")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("ai.calls.wait")
+                .description("Time AI model calls spend waiting before they start or are rejected")
+                .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("ai.calls.coalesced")
+                .description("AI model calls served by an identical call already in progress")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return "aiCallLimiter";
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Runs a blocking call within the limits, joining an identical call of the same user that is
+     * already in progress. A joined call holds a per-user slot while it waits, and is rejected
+     * if the shared call does not finish within {@code callTimeout} of the moment it started.
+     * Calls made without an authenticated user are never coalesced.
+     *
+     * @param chatClientRequest request to the model
+     * @param callAdvisorChain  rest of the advisor chain
+     * @return model response
+     * @throws AiCallRejectedException if the call cannot start or the joined call does not finish in time
+     */
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+        String user = currentUser();
+        if (!properties.isCoalesce() || user == null) {
+            try (Permit ignored = acquire(user)) {
+                return callAdvisorChain.nextCall(chatClientRequest);
+            }
+        }
+
+        String key = user + '\u0000' + chatClientRequest.prompt().getContents();
+        try (Permit ignored = acquireUserPermit(user)) {
+            InFlightCall call = new InFlightCall(new CompletableFuture<>(),
+                    System.nanoTime() + properties.getAcquireTimeout().toNanos() + properties.getCallTimeout().toNanos());
+            InFlightCall inFlight = inFlightCalls.putIfAbsent(key, call);
+            if (inFlight != null) {
+                coalescedCalls.increment();
+                log.debug("Joining an identical AI call already in progress");
+                return join(inFlight);
+            }
+
+            try {
+                ChatClientResponse response;
+                try (Permit ignoredGlobal = acquireGlobalPermit()) {
+                    response = callAdvisorChain.nextCall(chatClientRequest);
+                }
+                call.response().complete(response);
+                return response;
+            } catch (Throwable e) {
+                call.response().completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightCalls.remove(key, call);
+            }
+        }
+    }
+
+    /**
+     * Holds a slot for the whole lifetime of a streaming call. Streams are never coalesced,
+     * since every subscriber renders its own chunks.
+     *
+     * @param chatClientRequest  request to the model
+     * @param streamAdvisorChain rest of the advisor chain
+     * @return model response chunks, or an {@link AiCallRejectedException} error if the call cannot start in time
+     */
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest,
+                                                 StreamAdvisorChain streamAdvisorChain) {
+        return Flux.defer(() -> {
+            Permit permit = acquire(currentUser());
+            try {
+                return streamAdvisorChain.nextStream(chatClientRequest).doFinally(signal -> permit.close());
+            } catch (RuntimeException e) {
+                permit.close();
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Takes a per-user slot, a global slot and a rate limit token, in that order.
+     *
+     * @param user authenticated user, or {@code null} for calls that are only bounded globally
+     * @return permit that releases both slots when closed
+     * @throws AiCallRejectedException if any of them is not available in time
+     */
+    private Permit acquire(String user) {
+        Permit userPermit = acquireUserPermit(user);
+        try {
+            Permit globalPermit = acquireGlobalPermit();
+            return () -> {
+                globalPermit.close();
+                userPermit.close();
+            };
+        } catch (RuntimeException e) {
+            userPermit.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Takes a slot of the user's bulkhead without waiting.
+     *
+     * @param user authenticated user, or {@code null} for calls that are only bounded globally
+     * @return permit that releases the slot when closed
+     * @throws AiCallRejectedException if the user already uses all of their slots
+     */
+    private Permit acquireUserPermit(String user) {
+        if (user == null) {
+            return () -> {
+            };
+        }
+        Semaphore userSemaphore = userPermits.get(user,
+                name -> new Semaphore(properties.getMaxConcurrentCallsPerUser()));
+        if (!userSemaphore.tryAcquire()) {
+            throw reject("user", String.format(
+                    ErrorMessage.AI_CALLS_PER_USER_EXCEEDED, properties.getMaxConcurrentCallsPerUser()));
+        }
+        return userSemaphore::release;
+    }
+
+    /**
+     * Waits for a global slot and a rate limit token.
+     *
+     * @return permit that releases the slot when closed
+     * @throws AiCallRejectedException if either is not available in time
+     */
+    private Permit acquireGlobalPermit() {
+        long start = System.nanoTime();
+        long timeoutNanos = properties.getAcquireTimeout().toNanos();
+        waitingCalls.incrementAndGet();
+        try {
+            if (!globalPermits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw reject("concurrency", ErrorMessage.AI_SERVICE_BUSY);
+            }
+
+            long delayNanos = rateLimiter.reserve(timeoutNanos - (System.nanoTime() - start));
+            if (delayNanos < 0) {
+                globalPermits.release();
+                throw reject("rate", ErrorMessage.AI_RATE_LIMIT_EXCEEDED);
+            }
+            if (delayNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                } catch (InterruptedException e) {
+                    globalPermits.release();
+                    throw e;
+                }
+            }
+            return globalPermits::release;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted", ErrorMessage.AI_SERVICE_BUSY);
+        } finally {
+            waitingCalls.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Returns the name of the authenticated user, or {@code null} for calls made
+     * without an authenticated user.
+     */
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private AiCallRejectedException reject(String reason, String message) {
+        Counter.builder("ai.calls.rejected")
+                .description("AI model calls rejected by the call limiter")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("AI call rejected: reason={}, active={}, waiting={}",
+                reason, properties.getMaxConcurrentCalls() - globalPermits.availablePermits(), waitingCalls.get());
+        return new AiCallRejectedException(message);
+    }
+
+    /**
+     * Waits for a call already in progress for the rest of its time, that is until
+     * {@code acquireTimeout} plus {@code callTimeout} have passed since it started.
+     *
+     * @param call call to join
+     * @return response of the joined call
+     * @throws AiCallRejectedException if the joined call does not finish in time
+     */
+    private ChatClientResponse join(InFlightCall call) {
+        try {
+            return call.response().get(call.deadlineNanos() - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw reject("timeout", ErrorMessage.AI_SERVICE_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted", ErrorMessage.AI_SERVICE_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Blocking call in progress that identical calls of the same user can join.
+     *
+     * @param response      response shared with the joined calls
+     * @param deadlineNanos {@link System#nanoTime()} after which joined calls stop waiting
+     */
+    private record InFlightCall(CompletableFuture<ChatClientResponse> response, long deadlineNanos) {
+    }
+
+    /**
+     * Slots held by a running call.
+     */
+    @FunctionalInterface
+    private interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
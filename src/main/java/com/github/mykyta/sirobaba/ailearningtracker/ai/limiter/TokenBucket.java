@@ -0,0 +1,55 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.limiter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter that hands out reservations instead of blocking.
+ * <p>
+ * The bucket starts full with {@code burst} tokens and refills continuously. A reservation
+ * may take the bucket below zero, which makes every later caller wait for its turn.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double tokensPerSecond, int burst, LongSupplier nanoClock) {
+        if (tokensPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Token bucket needs a positive rate and a burst of at least 1");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves one token if it becomes available within the given time.
+     *
+     * @param maxWaitNanos longest acceptable wait
+     * @return nanoseconds to wait before using the token, {@code 0} if it is available now,
+     *         or {@code -1} if it is not available in time, in which case nothing is reserved
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+
+        long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+}
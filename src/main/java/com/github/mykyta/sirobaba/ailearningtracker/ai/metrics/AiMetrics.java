@@ -0,0 +1,110 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the AI calls.
+ * <ul>
+ *     <li>{@code ai.prompt.size} and {@code ai.response.size}: characters sent and received, by template</li>
+ *     <li>{@code ai.json.parse}: outcome of reading the JSON of a response, by template</li>
+ *     <li>{@code ai.model.call}: time spent in the model itself, without waiting in the call limiter</li>
+ *     <li>{@code ai.tokens}: prompt and completion tokens per call, as reported by the model</li>
+ * </ul>
+ */
+@Component
+public class AiMetrics {
+
+    /**
+     * JSON read from the response as is, without extraction.
+     */
+    public static final String PARSE_DIRECT = "direct";
+    /**
+     * JSON found in the response by the tolerant extractor.
+     */
+    public static final String PARSE_EXTRACTED = "extracted";
+    /**
+     * JSON obtained with one or more repair prompts.
+     */
+    public static final String PARSE_REPAIRED = "repaired";
+    /**
+     * JSON recovered from truncated output that no repair prompt could complete.
+     */
+    public static final String PARSE_TRUNCATED = "truncated";
+    /**
+     * No usable JSON.
+     */
+    public static final String PARSE_FAILED = "failed";
+
+    private final MeterRegistry meterRegistry;
+
+    public AiMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordPrompt(String template, String prompt) {
+        size("ai.prompt.size", "Characters of prompts sent to the AI model", template, prompt);
+    }
+
+    public void recordResponse(String template, CharSequence response) {
+        size("ai.response.size", "Characters of responses received from the AI model", template, response);
+    }
+
+    public void recordParse(String template, String outcome) {
+        Counter.builder("ai.json.parse")
+                .description("Outcomes of reading JSON from AI responses")
+                .tag("template", template)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Records one model call.
+     *
+     * @param mode             {@code call} or {@code stream}
+     * @param outcome          {@code success}, {@code error} or {@code cancelled} for an abandoned stream
+     * @param nanos            duration of the call, until the last chunk of a stream
+     * @param promptTokens     prompt tokens reported by the model, or {@code null}
+     * @param completionTokens completion tokens reported by the model, or {@code null}
+     */
+    public void recordModelCall(String mode, String outcome, long nanos, Integer promptTokens, Integer completionTokens) {
+        Timer.builder("ai.model.call")
+                .description("Time spent in AI model calls")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        tokens("prompt", promptTokens);
+        tokens("completion", completionTokens);
+    }
+
+    private void tokens(String type, Integer tokens) {
+        if (tokens == null) {
+            return;
+        }
+        DistributionSummary.builder("ai.tokens")
+                .description("Tokens per AI model call")
+                .baseUnit("tokens")
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(tokens);
+    }
+
+    private void size(String name, String description, String template, CharSequence text) {
+        if (text == null) {
+            return;
+        }
+        DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit("chars")
+                .tag("template", template)
+                .register(meterRegistry)
+                .record(text.length());
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.metrics;
+
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Chat client advisor that times the model calls and records their token usage with {@link AiMetrics}.
+ * <p>
+ * Runs after the call limiter, so {@code ai.model.call} measures only the model, while the time spent
+ * waiting for a slot is in {@code ai.calls.wait}.
+ */
+@Component
+public class AiModelMetricsAdvisor implements CallAdvisor, StreamAdvisor {
+
+    private final AiMetrics aiMetrics;
+
+    public AiModelMetricsAdvisor(AiMetrics aiMetrics) {
+        this.aiMetrics = aiMetrics;
+    }
+
+    @Override
+    public String getName() {
+        return "aiModelMetrics";
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 2;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+        long start = System.nanoTime();
+        try {
+            ChatClientResponse response = callAdvisorChain.nextCall(chatClientRequest);
+            Usage usage = usageOf(response);
+            aiMetrics.recordModelCall("call", "success", System.nanoTime() - start,
+                    usage == null ? null : usage.getPromptTokens(),
+                    usage == null ? null : usage.getCompletionTokens());
+            return response;
+        } catch (RuntimeException e) {
+            aiMetrics.recordModelCall("call", "error", System.nanoTime() - start, null, null);
+            throw e;
+        }
+    }
+
+    /**
+     * Times a stream until its last chunk; the usage is taken from the last chunk that reports it.
+     */
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest,
+                                                 StreamAdvisorChain streamAdvisorChain) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicReference<Usage> usage = new AtomicReference<>();
+            return streamAdvisorChain.nextStream(chatClientRequest)
+                    .doOnNext(response -> {
+                        Usage chunkUsage = usageOf(response);
+                        if (chunkUsage != null) {
+                            usage.set(chunkUsage);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        Usage lastUsage = usage.get();
+                        aiMetrics.recordModelCall("stream", outcomeOf(signal),
+                                System.nanoTime() - start,
+                                lastUsage == null ? null : lastUsage.getPromptTokens(),
+                                lastUsage == null ? null : lastUsage.getCompletionTokens());
+                    });
+        });
+    }
+
+    private static String outcomeOf(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case CANCEL -> "cancelled";
+            default -> "error";
+        };
+    }
+
+    private static Usage usageOf(ChatClientResponse response) {
+        ChatResponse chatResponse = response.chatResponse();
+        if (chatResponse == null || chatResponse.getMetadata() == null) {
+            return null;
+        }
+        Usage usage = chatResponse.getMetadata().getUsage();
+        // Models that do not report usage return an empty usage with zero tokens
+        return usage == null || usage.getTotalTokens() == null || usage.getTotalTokens() == 0 ? null : usage;
+    }
+}
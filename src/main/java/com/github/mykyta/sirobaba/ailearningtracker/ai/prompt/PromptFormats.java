@@ -0,0 +1,91 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.prompt;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+
+/**
+ * Compact, prompt-oriented serialization of domain data.
+ * <p>
+ * Replaces entity {@code toString()} output, which carries ids, field names and
+ * Java syntax the model does not need, with one short line per item.
+ */
+@UtilityClass
+public class PromptFormats {
+
+    private static final String NONE = "none";
+
+    /**
+     * Formats subgoals as numbered lines: {@code 1. Title [MEDIUM, 10h, open]: description}.
+     *
+     * @param subgoals subgoals of the analysed goal
+     * @return formatted subgoals, or {@code none} if there are none
+     */
+    public String subgoals(List<Subgoal> subgoals) {
+        if (subgoals == null || subgoals.isEmpty()) {
+            return NONE;
+        }
+
+        StringBuilder text = new StringBuilder(subgoals.size() * 128);
+        int number = 1;
+        for (Subgoal subgoal : subgoals) {
+            if (number > 1) {
+                text.append('\n');
+            }
+            text.append(number++).append(". ");
+            appendInline(text, subgoal.getTitle());
+            text.append(" [").append(subgoal.getDifficulty());
+            if (subgoal.getEstimatedHours() != null) {
+                text.append(", ").append(subgoal.getEstimatedHours()).append('h');
+            }
+            text.append(", ").append(subgoal.isCompleted() ? "done" : "open").append(']');
+            if (subgoal.getDescription() != null && !subgoal.getDescription().isBlank()) {
+                text.append(": ");
+                appendInline(text, subgoal.getDescription());
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Formats progress log notes as bullet lines, skipping empty notes.
+     *
+     * @param progressLogs progress log contents
+     * @return formatted notes, or {@code none} if there are none
+     */
+    public String progressLogs(List<ProgressLogContentDto> progressLogs) {
+        if (progressLogs == null || progressLogs.isEmpty()) {
+            return NONE;
+        }
+
+        StringBuilder text = new StringBuilder(progressLogs.size() * 128);
+        for (ProgressLogContentDto progressLog : progressLogs) {
+            String content = progressLog.getContent();
+            if (content == null || content.isBlank()) {
+                continue;
+            }
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            text.append("- ");
+            appendInline(text, content);
+        }
+        return text.isEmpty() ? NONE : text.toString();
+    }
+
+    /**
+     * Appends trimmed text with line breaks folded into spaces, so every item stays on one line.
+     */
+    private void appendInline(StringBuilder text, String value) {
+        if (value == null) {
+            return;
+        }
+        String stripped = value.strip();
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            text.append(c == '\n' || c == '\r' ? ' ' : c);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.prompt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prompt template compiled once into literal segments and named {@code {{slot}}} placeholders.
+ * <p>
+ * Rendering sizes a single {@link StringBuilder} from the literal length plus the slot values
+ * and appends every segment once, instead of scanning the whole template per placeholder.
+ * An opening brace pair without a closing one is kept as literal text.
+ */
+public final class PromptTemplate {
+
+    private static final String SLOT_START = "{{";
+    private static final String SLOT_END = "}}";
+
+    private final String name;
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private PromptTemplate(String name, List<String> literals, List<String> slots) {
+        this.name = name;
+        this.literals = literals.toArray(String[]::new);
+        this.slots = slots.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Splits a template into literal segments and slots.
+     *
+     * @param name   template name, used in error messages
+     * @param source template text with {@code {{slot}}} placeholders
+     * @return compiled template
+     */
+    public static PromptTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int start = source.indexOf(SLOT_START, position);
+            int end = start < 0 ? -1 : source.indexOf(SLOT_END, start + SLOT_START.length());
+            if (end < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, start));
+            slots.add(source.substring(start + SLOT_START.length(), end).strip());
+            position = end + SLOT_END.length();
+        }
+        return new PromptTemplate(name, literals, slots);
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param values slot values by slot name; values for slots the template does not use are ignored
+     * @return rendered prompt
+     * @throws IllegalArgumentException if a slot used by the template has no value
+     */
+    public String render(Map<String, ? extends CharSequence> values) {
+        int length = literalLength;
+        for (String slot : slots) {
+            CharSequence value = values.get(slot);
+            if (value == null) {
+                throw new IllegalArgumentException("Template " + name + " has no value for slot: " + slot);
+            }
+            length += value.length();
+        }
+
+        StringBuilder prompt = new StringBuilder(length);
+        prompt.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            prompt.append(values.get(slots[i])).append(literals[i + 1]);
+        }
+        return prompt.toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return names of the slots in order of first appearance
+     */
+    public Set<String> getSlotNames() {
+        return new LinkedHashSet<>(List.of(slots));
+    }
+}
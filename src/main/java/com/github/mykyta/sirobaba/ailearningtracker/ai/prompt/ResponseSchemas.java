@@ -0,0 +1,74 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.prompt;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.GoalAiResultDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.PlanAiResultDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.SubgoalListAiResultDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Response schemas that constrain the model output when
+ * {@link com.github.mykyta.sirobaba.ailearningtracker.configs.AiTemplateConfig.ResponseFormat#SCHEMA} is used.
+ * <p>
+ * Written by hand in the OpenAPI subset accepted by Gemini, listing only the fields the model
+ * must produce, instead of being generated from the DTOs, which also carry fields filled in
+ * by the application (ids, deadlines, timestamps).
+ */
+@UtilityClass
+public class ResponseSchemas {
+
+    private static final String DIFFICULTY = Arrays.stream(Difficulty.values())
+            .map(difficulty -> '"' + difficulty.name() + '"')
+            .collect(Collectors.joining(",", "{\"type\":\"string\",\"enum\":[", "]}"));
+
+    private static final String SUBGOALS = """
+            {"type":"array","items":{"type":"object","properties":{\
+            "title":{"type":"string"},\
+            "description":{"type":"string"},\
+            "difficulty":%s,\
+            "estimatedHours":{"type":"integer"}},\
+            "required":["title","description","difficulty","estimatedHours"]}}""".formatted(DIFFICULTY);
+
+    private static final Map<Class<?>, String> SCHEMAS = Map.of(
+            GoalAiResultDto.class, """
+                    {"type":"object","properties":{\
+                    "generalGoal":{"type":"string"},\
+                    "difficulty":%s},\
+                    "required":["generalGoal","difficulty"]}""".formatted(DIFFICULTY),
+            SubgoalListAiResultDto.class, """
+                    {"type":"object","properties":{\
+                    "subGoals":%s},\
+                    "required":["subGoals"]}""".formatted(SUBGOALS),
+            PlanAiResultDto.class, """
+                    {"type":"object","properties":{\
+                    "generalGoal":{"type":"string"},\
+                    "difficulty":%s,\
+                    "subGoals":%s},\
+                    "required":["generalGoal","difficulty","subGoals"]}""".formatted(DIFFICULTY, SUBGOALS),
+            AiAnalysisOfProgressLogDto.class, """
+                    {"type":"object","properties":{\
+                    "title":{"type":"string"},\
+                    "analysisText":{"type":"string"}},\
+                    "required":["title","analysisText"]}"""
+    );
+
+    /**
+     * Returns the response schema of an AI result type.
+     *
+     * @param resultType DTO the response is read into
+     * @return schema as JSON text
+     * @throws IllegalArgumentException if no schema is defined for the type
+     */
+    public String of(Class<?> resultType) {
+        String schema = SCHEMAS.get(resultType);
+        if (schema == null) {
+            throw new IllegalArgumentException("No response schema for " + resultType.getSimpleName());
+        }
+        return schema;
+    }
+}
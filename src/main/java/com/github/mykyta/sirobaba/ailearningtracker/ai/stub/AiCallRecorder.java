@@ -0,0 +1,101 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Chat client advisor that appends every live prompt and its complete response to the recordings file
+ * replayed by {@link StubChatModel}. Enabled by {@code app.ai.stub.record}.
+ * <p>
+ * Runs right before the model, so coalesced calls and calls rejected by the limiter are not recorded.
+ * A failed write is logged and never fails the call.
+ */
+@Slf4j
+@Component
+@Profile("!ai-stub")
+@ConditionalOnProperty(prefix = "app.ai.stub", name = "record", havingValue = "true")
+public class AiCallRecorder implements CallAdvisor, StreamAdvisor {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public AiCallRecorder(AiStubProperties properties, ObjectMapper objectMapper) {
+        this.file = properties.getRecordings();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getName() {
+        return "aiCallRecorder";
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+        ChatClientResponse response = callAdvisorChain.nextCall(chatClientRequest);
+        record(chatClientRequest.prompt().getContents(), text(response));
+        return response;
+    }
+
+    /**
+     * Records a streamed response once it has completed.
+     */
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest,
+                                                 StreamAdvisorChain streamAdvisorChain) {
+        return Flux.defer(() -> {
+            StringBuilder text = new StringBuilder();
+            return streamAdvisorChain.nextStream(chatClientRequest)
+                    .doOnNext(response -> {
+                        String chunk = text(response);
+                        if (chunk != null) {
+                            text.append(chunk);
+                        }
+                    })
+                    .doOnComplete(() -> record(chatClientRequest.prompt().getContents(), text.toString()));
+        });
+    }
+
+    private synchronized void record(String prompt, String response) {
+        if (response == null || response.isBlank()) {
+            return;
+        }
+        try {
+            Files.writeString(file,
+                    objectMapper.writeValueAsString(new Recording(prompt, response)) + System.lineSeparator(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Failed to record AI response to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String text(ChatClientResponse response) {
+        ChatResponse chatResponse = response.chatResponse();
+        if (chatResponse == null || chatResponse.getResult() == null) {
+            return null;
+        }
+        return chatResponse.getResult().getOutput().getText();
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.stub;
+
+/**
+ * One line of the recordings file.
+ *
+ * @param prompt   full prompt text sent to the model
+ * @param response full response text
+ */
+record Recording(String prompt, String response) {
+}
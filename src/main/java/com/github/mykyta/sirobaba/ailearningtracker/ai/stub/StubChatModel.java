@@ -0,0 +1,185 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties.CannedResponse;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties.LatencyDistribution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * AI model used instead of Gemini with the {@code ai-stub} profile.
+ * <p>
+ * A prompt found in the recordings file gets its recorded response; any other prompt gets the first
+ * matching canned response. Every call waits for a latency drawn from the configured distribution and
+ * then fails with the configured probability, so load tests of goal creation and progress analysis
+ * run offline with a realistic latency profile. Streamed responses are split into chunks emitted
+ * after the latency.
+ */
+@Slf4j
+@Component
+@Profile("ai-stub")
+public class StubChatModel implements ChatModel {
+
+    /**
+     * Standard normal quantile of the 99th percentile.
+     */
+    private static final double Z_99 = 2.3263;
+
+    private final AiStubProperties properties;
+    private final Map<String, String> recordings;
+    private final Random random;
+
+    public StubChatModel(AiStubProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.recordings = readRecordings(properties.getRecordings(), objectMapper);
+        this.random = properties.getSeed() == null ? new Random() : new Random(properties.getSeed());
+    }
+
+    /**
+     * Returns the stub response after the simulated latency.
+     *
+     * @param prompt prompt sent through the chat client
+     * @return recorded or canned response
+     * @throws TransientAiException if the call is drawn to fail
+     */
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String response = respond(prompt.getContents());
+        sleep(nextLatency());
+        if (nextFailure()) {
+            throw simulatedFailure();
+        }
+        return toChatResponse(response);
+    }
+
+    /**
+     * Streams the stub response in chunks after the simulated latency.
+     *
+     * @param prompt prompt sent through the chat client
+     * @return cold flux of response chunks, or a {@link TransientAiException} error if the call is drawn to fail
+     */
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> {
+            String response = respond(prompt.getContents());
+            Flux<ChatResponse> chunks = nextFailure()
+                    ? Flux.error(simulatedFailure())
+                    : Flux.fromIterable(chunks(response, properties.getStreamChunks()))
+                    .map(StubChatModel::toChatResponse);
+            return chunks.delaySubscription(nextLatency());
+        });
+    }
+
+    /**
+     * Finds the response to a prompt, preferring a recording over a canned response.
+     *
+     * @throws IllegalStateException if neither matches the prompt
+     */
+    private String respond(String prompt) {
+        String recorded = recordings.get(prompt);
+        if (recorded != null) {
+            return recorded;
+        }
+        return properties.getResponses().stream()
+                .filter(canned -> canned.getPromptContains().stream().allMatch(prompt::contains))
+                .map(CannedResponse::getResponse)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "No recorded or canned stub response for prompt: " + prompt.lines().findFirst().orElse("")));
+    }
+
+    /**
+     * Draws the latency of one call. The log-normal sigma is chosen so that
+     * the median and the 99th percentile match the configured values.
+     */
+    Duration nextLatency() {
+        Duration median = properties.getLatency();
+        Duration p99 = properties.getLatencyP99();
+        if (properties.getLatencyDistribution() == LatencyDistribution.FIXED
+                || median.isZero()
+                || p99.compareTo(median) <= 0) {
+            return median;
+        }
+        double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Z_99;
+        return Duration.ofNanos((long) (median.toNanos() * Math.exp(sigma * random.nextGaussian())));
+    }
+
+    private boolean nextFailure() {
+        return properties.getFailureRate() > 0 && random.nextDouble() < properties.getFailureRate();
+    }
+
+    private static TransientAiException simulatedFailure() {
+        return new TransientAiException("Simulated AI model failure");
+    }
+
+    private static void sleep(Duration latency) {
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientAiException("Interrupted while simulating AI model latency", e);
+        }
+    }
+
+    /**
+     * Splits a response into at most {@code count} chunks of similar length.
+     */
+    static List<String> chunks(String response, int count) {
+        int size = Math.max(1, (response.length() + count - 1) / Math.max(1, count));
+        List<String> chunks = new ArrayList<>();
+        for (int start = 0; start < response.length(); start += size) {
+            chunks.add(response.substring(start, Math.min(response.length(), start + size)));
+        }
+        return chunks;
+    }
+
+    private static ChatResponse toChatResponse(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    /**
+     * Reads the recordings file, later recordings of the same prompt replacing earlier ones.
+     *
+     * @return responses by prompt, empty if the file does not exist
+     * @throws IllegalStateException if the file cannot be read
+     */
+    private static Map<String, String> readRecordings(Path file, ObjectMapper objectMapper) {
+        if (file == null || !Files.isRegularFile(file)) {
+            log.info("No AI recordings at {}, using canned stub responses only", file);
+            return Map.of();
+        }
+
+        Map<String, String> recordings = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(file)) {
+                if (!line.isBlank()) {
+                    Recording recording = objectMapper.readValue(line, Recording.class);
+                    recordings.put(recording.prompt(), recording.response());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read AI recordings from " + file, e);
+        }
+        log.info("Loaded {} AI recordings from {}", recordings.size(), file);
+        return Map.copyOf(recordings);
+    }
+}
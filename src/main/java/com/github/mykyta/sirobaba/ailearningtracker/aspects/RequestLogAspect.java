@@ -0,0 +1,120 @@
+package com.github.mykyta.sirobaba.ailearningtracker.aspects;
+
+import com.github.mykyta.sirobaba.ailearningtracker.properties.RequestLogProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one structured line per controller call to the {@value #LOGGER_NAME} logger, as key-value pairs:
+ * endpoint, HTTP method, URI, outcome, duration and the sample rate the line was kept with.
+ * <p>
+ * Successful requests are sampled by {@link RequestLogProperties}; failed requests and requests slower than
+ * {@link RequestLogProperties#getSlowThreshold()} are always logged. The endpoint name and its sample rate are
+ * resolved once per controller method, and the request is only looked up for lines that are actually written.
+ * The logger is backed by an asynchronous appender in {@code logback-spring.xml}, so formatting and output
+ * happen off the request thread.
+ */
+@Aspect
+@Component
+public class RequestLogAspect {
+
+    /**
+     * Name of the logger the request lines are written to.
+     */
+    public static final String LOGGER_NAME = "request-log";
+
+    private static final Logger requestLog = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final RequestLogProperties properties;
+    private final long slowThresholdNanos;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public RequestLogAspect(RequestLogProperties properties) {
+        this.properties = properties;
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Pointcut("execution(* com.github.mykyta.sirobaba.ailearningtracker.controllers..*(..))")
+    public void controllerMethods() {
+    }
+
+    @Around("controllerMethods()")
+    public Object logRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled() || !requestLog.isInfoEnabled()) {
+            return joinPoint.proceed();
+        }
+        Endpoint endpoint = endpoints.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::endpoint);
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            log(endpoint, System.nanoTime() - start, ex);
+            throw ex;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (elapsed >= slowThresholdNanos || endpoint.sampled()) {
+            log(endpoint, elapsed, null);
+        }
+        return result;
+    }
+
+    private Endpoint endpoint(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        double sampleRate = properties.getEndpoints().getOrDefault(name, properties.getSampleRate());
+        return new Endpoint(name, Math.max(0, Math.min(1, sampleRate)));
+    }
+
+    private static void log(Endpoint endpoint, long elapsedNanos, Throwable ex) {
+        LoggingEventBuilder line = requestLog.atInfo()
+                .addKeyValue("endpoint", endpoint.name());
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            line = line
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("uri", request.getRequestURI());
+        }
+        line = line
+                .addKeyValue("outcome", ex == null ? "ok" : "error")
+                .addKeyValue("duration_ms", elapsedNanos / 1_000_000)
+                .addKeyValue("sample_rate", ex == null ? endpoint.sampleRate() : 1.0);
+        if (ex != null) {
+            line = line
+                    .addKeyValue("exception", ex.getClass().getSimpleName())
+                    .addKeyValue("message", ex.getMessage());
+        }
+        line.log("request");
+    }
+
+    /**
+     * Controller method metadata, resolved on its first call.
+     *
+     * @param name       endpoint name as {@code ControllerName.methodName}
+     * @param sampleRate share of successful calls that are logged
+     */
+    private record Endpoint(String name, double sampleRate) {
+
+        boolean sampled() {
+            return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.mykyta.sirobaba.ailearningtracker.aspects;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public method of the service implementations as {@code service.method},
+ * tagged with the class, the method and the simple name of the exception thrown, if any.
+ * <p>
+ * Together with {@code http.server.requests} for the controllers, {@code spring.data.repository.invocations}
+ * for the repositories and {@code ai.model.call} for the model, this shows which layer a slow request spends
+ * its time in. Methods returning a {@code Flux} or an {@code SseEmitter} are only timed until they return,
+ * not until the stream completes.
+ * <p>
+ * Timers are looked up once per method and exception type and then reused, so a call only records its time.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("execution(public * com.github.mykyta.sirobaba.ailearningtracker.services.impl.*ServiceImpl.*(..))")
+    public void serviceMethods() {
+    }
+
+    @Around("serviceMethods()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodTimers methodTimers = timers.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), MethodTimers::new);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(methodTimers.success);
+            return result;
+        } catch (Throwable ex) {
+            sample.stop(methodTimers.failure(ex));
+            throw ex;
+        }
+    }
+
+    /**
+     * Timers of one service method, registered on its first call and on the first call
+     * that throws each exception type.
+     */
+    private final class MethodTimers {
+
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        MethodTimers(Method method) {
+            this.className = method.getDeclaringClass().getSimpleName();
+            this.methodName = method.getName();
+            this.success = timer(NO_EXCEPTION);
+        }
+
+        Timer failure(Throwable ex) {
+            return failures.computeIfAbsent(ex.getClass(), type -> timer(type.getSimpleName()));
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder("service.method")
+                    .description("Time spent in service methods")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
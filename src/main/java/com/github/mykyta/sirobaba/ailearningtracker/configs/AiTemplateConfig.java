@@ -1,10 +1,16 @@
 package com.github.mykyta.sirobaba.ailearningtracker.configs;
 
+import com.github.mykyta.sirobaba.ailearningtracker.ai.prompt.PromptTemplate;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -18,10 +24,81 @@ import java.util.Map;
 public class AiTemplateConfig {
     private Map<String, String> templates;
 
+    /**
+     * How {@code createLearningPlan} talks to the model, see {@link PlanGenerationMode}.
+     */
+    private PlanGenerationMode planGenerationMode = PlanGenerationMode.SEQUENTIAL;
+
+    /**
+     * How the model is asked for JSON, see {@link ResponseFormat}.
+     */
+    private ResponseFormat responseFormat = ResponseFormat.TEXT;
+
+    /**
+     * Shorter templates used with {@link ResponseFormat#SCHEMA}, without output format instructions.
+     * A template without an entry here falls back to {@link #templates}.
+     */
+    private Map<String, String> schemaTemplates;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Map<String, PromptTemplate> compiledTemplates = Map.of();
+
+    /**
+     * Compiles all configured templates once, after the properties are bound.
+     * With {@link ResponseFormat#SCHEMA}, schema templates replace the templates of the same name.
+     */
+    @PostConstruct
+    void compileTemplates() {
+        Map<String, PromptTemplate> compiled = new HashMap<>();
+        if (templates != null) {
+            templates.forEach((name, source) -> compiled.put(name, PromptTemplate.compile(name, source)));
+        }
+        if (responseFormat == ResponseFormat.SCHEMA && schemaTemplates != null) {
+            schemaTemplates.forEach((name, source) -> compiled.put(name, PromptTemplate.compile(name, source)));
+        }
+        compiledTemplates = Map.copyOf(compiled);
+    }
+
     public String getTemplate(String templateName) {
         if (!templates.containsKey(templateName)) {
             throw new IllegalArgumentException("Template not found: " + templateName);
         }
         return templates.get(templateName);
     }
+
+    public PromptTemplate getCompiledTemplate(String templateName) {
+        PromptTemplate template = compiledTemplates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Template not found: " + templateName);
+        }
+        return template;
+    }
+
+    public enum PlanGenerationMode {
+        /**
+         * Main goal first, then subgoals derived from the summarized goal (two calls, one after another).
+         */
+        SEQUENTIAL,
+        /**
+         * Subgoals are generated from the raw user prompt while the main goal is summarized (two concurrent calls).
+         */
+        PARALLEL,
+        /**
+         * Main goal and subgoals are returned by a single prompt (one call).
+         */
+        COMBINED
+    }
+
+    public enum ResponseFormat {
+        /**
+         * The prompt describes the expected JSON and the JSON is extracted from free-form text.
+         */
+        TEXT,
+        /**
+         * The model is given a response schema and the JSON MIME type, so it can only emit a matching document;
+         * prompts leave out the output format instructions.
+         */
+        SCHEMA
+    }
 }
@@ -0,0 +1,42 @@
+package com.github.mykyta.sirobaba.ailearningtracker.configs;
+
+import com.github.mykyta.sirobaba.ailearningtracker.properties.GoalCreationJobProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for work that must not hold servlet threads or database connections,
+ * such as AI plan generation for asynchronous goal creation.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String GOAL_CREATION_EXECUTOR = "goalCreationExecutor";
+
+    /**
+     * Bounded executor for goal creation jobs.
+     * <p>
+     * Workers are virtual threads since they spend almost all of their time waiting on the LLM;
+     * the pool size only caps how many plans are generated at once. When both the workers and the
+     * queue are busy, submissions are rejected instead of piling up. The security context of the
+     * submitting request is propagated to the job, so AI calls made by the job count against the
+     * per-user limit of the {@code AiCallLimiter}.
+     *
+     * @param properties goal creation job settings
+     * @return executor used by the goal creation job service
+     */
+    @Bean(name = GOAL_CREATION_EXECUTOR)
+    public ThreadPoolTaskExecutor goalCreationExecutor(GoalCreationJobProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getConcurrency());
+        executor.setMaxPoolSize(properties.getConcurrency());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadFactory(Thread.ofVirtual().name("goal-job-", 0).factory());
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.mykyta.sirobaba.ailearningtracker.configs;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's caching abstraction.
+ * <p>
+ * The caches themselves are Caffeine caches created by Spring Boot from
+ * {@code spring.cache.cache-names} and bounded by {@code spring.cache.caffeine.spec}.
+ * Hit, miss and eviction counters are published through Micrometer as {@code cache.*} meters.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -1,6 +1,10 @@
 package com.github.mykyta.sirobaba.ailearningtracker.configs;
 
+import com.github.mykyta.sirobaba.ailearningtracker.ai.limiter.AiCallLimiter;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.metrics.AiModelMetricsAdvisor;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.stub.AiCallRecorder;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -11,8 +15,28 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ChatClientConfig {
 
+    /**
+     * Chat client used for all AI calls, with the {@link AiCallLimiter} installed
+     * unless it is disabled by {@code app.ai.call-limiter.enabled}, the {@link AiModelMetricsAdvisor}
+     * timing the model calls, and the {@link AiCallRecorder} installed when {@code app.ai.stub.record} is set.
+     * <p>
+     * With the {@code ai-stub} profile the auto-configured builder is backed by
+     * {@link com.github.mykyta.sirobaba.ailearningtracker.ai.stub.StubChatModel} instead of Gemini.
+     *
+     * @param chatClientBuilder auto-configured chat client builder
+     * @param aiCallLimiter     limiter of model calls, if enabled
+     * @param metricsAdvisor    advisor recording model call times and token usage
+     * @param aiCallRecorder    recorder of model responses, if enabled
+     * @return chat client
+     */
     @Bean
-    public ChatClient chatClient(ChatClient.Builder chatClientBuilder) {
+    public ChatClient chatClient(ChatClient.Builder chatClientBuilder,
+                                 ObjectProvider<AiCallLimiter> aiCallLimiter,
+                                 AiModelMetricsAdvisor metricsAdvisor,
+                                 ObjectProvider<AiCallRecorder> aiCallRecorder) {
+        aiCallLimiter.ifAvailable(limiter -> chatClientBuilder.defaultAdvisors(limiter));
+        chatClientBuilder.defaultAdvisors(metricsAdvisor);
+        aiCallRecorder.ifAvailable(recorder -> chatClientBuilder.defaultAdvisors(recorder));
         return chatClientBuilder.build();
     }
 }
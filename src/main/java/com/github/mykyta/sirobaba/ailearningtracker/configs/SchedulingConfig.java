@@ -0,0 +1,12 @@
+package com.github.mykyta.sirobaba.ailearningtracker.configs;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled tasks, such as the cleanup of expired AI response cache entries.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -4,6 +4,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsSe
 import com.github.mykyta.sirobaba.ailearningtracker.security.filters.AccessTokenAuthenticationFilter;
 import com.github.mykyta.sirobaba.ailearningtracker.security.oauth2.CustomOAuth2SuccessHandler;
 import com.github.mykyta.sirobaba.ailearningtracker.security.oauth2.CustomOAuth2UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -42,6 +43,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches only complete already authorized streaming responses (SSE)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/oauth2/**",
                                 "/login/**",
@@ -51,6 +54,8 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/*.html", "/js/**", "/css/**", "/images/**"
                         ).permitAll()
+                        // Health checks and metric scraping; actuator is only served on management.server.port
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
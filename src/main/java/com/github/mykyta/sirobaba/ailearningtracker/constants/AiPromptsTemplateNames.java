@@ -11,5 +11,9 @@ import lombok.experimental.UtilityClass;
 public final class AiPromptsTemplateNames {
     public static final String CREATE_SUBGOAL = "createSubgoal";
     public static final String CREATE_MAIN_GOAL = "createMainGoal";
+    public static final String CREATE_SUBGOAL_FROM_GOAL = "createSubgoalFromGoal";
+    public static final String CREATE_LEARNING_PLAN = "createLearningPlan";
     public static final String CREATE_ANALYSE_PROGRESS_LOGS = "createAnalysisProgressLogs";
+    public static final String UPDATE_ANALYSE_PROGRESS_LOGS = "updateAnalysisProgressLogs";
+    public static final String REPAIR_JSON = "repairJson";
 }
@@ -0,0 +1,8 @@
+package com.github.mykyta.sirobaba.ailearningtracker.constants;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public final class CacheNames {
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+}
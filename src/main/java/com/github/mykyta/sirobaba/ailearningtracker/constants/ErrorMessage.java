@@ -36,4 +36,17 @@ public final class ErrorMessage {
     public static final String TWO_FACTOR_NOT_ENABLED = "Two factor is not enabled";
     public static final String INVALID_REFRESH_TOKEN = "Invalid refresh token: %s";
     public static final String AI_RETURNED_EMPTY_RESPONSE = "AI returned empty response: %s";
+    public static final String ACCESS_TOKEN_REVOKED = "Access token has been revoked";
+    public static final String GOAL_CREATION_JOB_NOT_FOUND = "Goal creation job %s not found";
+    public static final String GOAL_CREATION_REJECTED = "Too many goals are being created right now, please retry later";
+    public static final String INVALID_PAGE_CURSOR = "Invalid page cursor: %s";
+    public static final String MALFORMED_PROGRESS_LOG_BATCH = "Malformed progress log batch: %s";
+    public static final String INVALID_PROGRESS_LOG_BATCH_ENTRY = "Invalid progress log at index %d: %s";
+    public static final String PROGRESS_LOG_BATCH_TOO_LARGE = "Progress log batch exceeds %d entries";
+    public static final String AI_CALLS_PER_USER_EXCEEDED = "You already have %d AI requests in progress, please retry later";
+    public static final String AI_SERVICE_BUSY = "The AI service is busy, please retry later";
+    public static final String AI_RATE_LIMIT_EXCEEDED = "AI request rate limit exceeded, please retry later";
+    public static final String AI_PLAN_NOT_GENERATED = "The AI did not return a valid learning plan, please retry";
+    public static final String AI_ANALYSIS_NOT_GENERATED = "The AI did not return a valid analysis, please retry";
+    public static final String INVALID_STATS_RANGE = "Invalid statistics range from %s to %s, at most %d days are allowed";
 }
@@ -5,6 +5,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.constants.HttpStatuses;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisDetailsDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.services.AIAnalysisService;
@@ -18,8 +19,10 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Created by Mykyta Sirobaba on 30.10.2025.
@@ -60,6 +63,34 @@ public class AIAnalysisController {
                 .body(aiAnalysisService.createAIAnalysis(userInfoDto.getId(), aiAnalysisRequestDto, goalId));
     }
 
+    @Operation(
+            summary = "Stream AI analysis",
+            description = "Triggers a new AI-powered analysis for a specific goal and streams it as Server-Sent Events: "
+                    + "'token' events carry response chunks as they are generated, a final 'analysis' event carries "
+                    + "the persisted analysis, and an 'error' event is sent if generation fails.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Data for AI analysis",
+                    content = @Content(schema = @Schema(implementation = AIAnalysisRequestDto.class))
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = HttpStatuses.OK,
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+                    @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND)
+            }
+    )
+    @PostMapping(value = "/{goalId}/analysis/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAIAnalysis(@CurrentUser CurrentUserInfoDto userInfoDto,
+                                       @RequestBody @Valid AIAnalysisRequestDto aiAnalysisRequestDto,
+                                       @PathVariable("goalId") Long goalId) {
+        return aiAnalysisService.streamAIAnalysis(userInfoDto.getId(), aiAnalysisRequestDto, goalId);
+    }
+
     @Operation(
             summary = "Get AI analysis by ID",
             description = "Returns detailed results of a specific AI analysis for the authenticated user.",
@@ -102,6 +133,29 @@ public class AIAnalysisController {
                 .body(aiAnalysisService.getAIAnalyses(userInfoDto.getId(), goalId, pageable));
     }
 
+    @Operation(
+            summary = "Get AI analyses for a goal by cursor",
+            description = "Returns a slice of AI analyses for the specified goal, newest first. Pass nextCursor of the previous slice to continue; no total count is calculated.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "AI analyses retrieved",
+                            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+                    @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND)
+            }
+    )
+    @GetMapping("/{goalId}/analysis/cursor")
+    public ResponseEntity<CursorPageResponse<AIAnalysisResponseDto>> getAIAnalysesByCursor(@CurrentUser CurrentUserInfoDto userInfoDto,
+                                                                                           @PathVariable("goalId") Long goalId,
+                                                                                           @RequestParam(required = false) String cursor,
+                                                                                           @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(aiAnalysisService.getAIAnalyses(userInfoDto.getId(), goalId, cursor, size));
+    }
+
     @Operation(
             summary = "Delete AI analysis",
             description = "Deletes a specific AI analysis belonging to the authenticated user.",
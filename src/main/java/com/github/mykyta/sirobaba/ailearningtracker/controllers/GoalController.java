@@ -2,11 +2,14 @@ package com.github.mykyta.sirobaba.ailearningtracker.controllers;
 
 import com.github.mykyta.sirobaba.ailearningtracker.annotations.CurrentUser;
 import com.github.mykyta.sirobaba.ailearningtracker.constants.HttpStatuses;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.services.GoalCreationJobService;
 import com.github.mykyta.sirobaba.ailearningtracker.services.GoalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +24,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 /**
  * Created by Mykyta Sirobaba on 09.10.2025.
  * email mykyta.sirobaba@gmail.com
@@ -32,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class GoalController {
 
     private final GoalService goalService;
+    private final GoalCreationJobService goalCreationJobService;
 
     @Operation(
             summary = "Create a new goal",
@@ -57,6 +63,54 @@ public class GoalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(goalService.createGoal(goalRequest, user));
     }
 
+    @Operation(
+            summary = "Create a new goal asynchronously",
+            description = "Accepts a goal for creation and generates its plan in the background. "
+                          + "Poll the returned job until it is COMPLETED or FAILED.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Goal details for creation",
+                    content = @Content(schema = @Schema(implementation = GoalRequestDto.class))
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "202",
+                            description = HttpStatuses.ACCEPTED,
+                            content = @Content(schema = @Schema(implementation = GoalCreationJobDto.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+                    @ApiResponse(responseCode = "429", description = HttpStatuses.TOO_MANY_REQUESTS),
+            }
+    )
+    @PostMapping(value = "/create", params = "async=true")
+    public ResponseEntity<GoalCreationJobDto> createGoalAsync(@RequestBody @Valid GoalRequestDto goalRequest,
+                                                              @CurrentUser CurrentUserInfoDto user) {
+        GoalCreationJobDto job = goalCreationJobService.submit(goalRequest, user);
+        return ResponseEntity.accepted()
+                .location(URI.create("/goal/create/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @Operation(
+            summary = "Get goal creation job",
+            description = "Returns the state of an asynchronous goal creation job and the goal once it is created.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = HttpStatuses.OK,
+                            content = @Content(schema = @Schema(implementation = GoalCreationJobDto.class))
+                    ),
+                    @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+            }
+    )
+    @GetMapping("/create/jobs/{jobId}")
+    public ResponseEntity<GoalCreationJobDto> getGoalCreationJob(@PathVariable String jobId,
+                                                                 @CurrentUser CurrentUserInfoDto user) {
+        return ResponseEntity.status(HttpStatus.OK).body(goalCreationJobService.getJob(jobId, user.getId()));
+    }
+
     @Operation(
             summary = "Get goal by ID",
             description = "Returns full information about a specific goal of the authenticated user.",
@@ -126,6 +180,26 @@ public class GoalController {
         return ResponseEntity.status(HttpStatus.OK).body(goalService.getAllGoals(pageable, user.getId()));
     }
 
+    @Operation(
+            summary = "Get active goals by cursor",
+            description = "Returns a slice of active goals for the authenticated user, newest first. Pass nextCursor of the previous slice to continue; no total count is calculated.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Goals successfully retrieved",
+                            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+            }
+    )
+    @GetMapping("/goals/cursor")
+    public ResponseEntity<CursorPageResponse<GoalSummaryDto>> getAllGoalsByCursor(@RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "10") int size,
+                                                                                  @CurrentUser CurrentUserInfoDto user) {
+        return ResponseEntity.status(HttpStatus.OK).body(goalService.getAllGoals(cursor, size, user.getId()));
+    }
+
     @Operation(
             summary = "Get all completed goals",
             description = "Returns a paginated list of all completed goals for the authenticated user.",
@@ -143,4 +217,24 @@ public class GoalController {
                                                                              @CurrentUser CurrentUserInfoDto user) {
         return ResponseEntity.status(HttpStatus.OK).body(goalService.getAllCompletedGoals(pageable, user.getId()));
     }
+
+    @Operation(
+            summary = "Get completed goals by cursor",
+            description = "Returns a slice of completed goals for the authenticated user, newest first. Pass nextCursor of the previous slice to continue; no total count is calculated.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Completed goals successfully retrieved",
+                            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+            }
+    )
+    @GetMapping("/goals/completed/cursor")
+    public ResponseEntity<CursorPageResponse<GoalSummaryDto>> getAllCompletedGoalsByCursor(@RequestParam(required = false) String cursor,
+                                                                                           @RequestParam(defaultValue = "10") int size,
+                                                                                           @CurrentUser CurrentUserInfoDto user) {
+        return ResponseEntity.status(HttpStatus.OK).body(goalService.getAllCompletedGoals(cursor, size, user.getId()));
+    }
 }
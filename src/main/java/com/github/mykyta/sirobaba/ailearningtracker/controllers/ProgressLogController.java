@@ -2,14 +2,18 @@ package com.github.mykyta.sirobaba.ailearningtracker.controllers;
 
 import com.github.mykyta.sirobaba.ailearningtracker.annotations.CurrentUser;
 import com.github.mykyta.sirobaba.ailearningtracker.constants.HttpStatuses;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogBatchEntryDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogBatchResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogDetailsResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.services.ProgressLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,9 +21,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 /**
  * Created by Mykyta Sirobaba on 30.10.2025.
  * email mykyta.sirobaba@gmail.com
@@ -59,6 +66,44 @@ public class ProgressLogController {
         return ResponseEntity.status(HttpStatus.CREATED).body(progressLogService.createProgressLog(goalId, progressLog, user.getId()));
     }
 
+    @Operation(
+            summary = "Add progress logs to goal in bulk",
+            description = "Imports many progress logs for a specific goal belonging to the authenticated user. "
+                    + "The body is either newline-delimited JSON (application/x-ndjson) or a JSON array of progress log entries. "
+                    + "Entries may set logTime, and missing hours or minutes count as 0. "
+                    + "All entries are validated before any is stored and are then stored in one transaction, "
+                    + "so a malformed or invalid entry rejects the whole batch and nothing is imported.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    description = "Progress log entries to add",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                                    schema = @Schema(implementation = ProgressLogBatchEntryDto.class)),
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = ProgressLogBatchEntryDto.class)))
+                    }
+            ),
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = HttpStatuses.CREATED,
+                            content = @Content(schema = @Schema(implementation = ProgressLogBatchResponseDto.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+                    @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND)
+            }
+    )
+    @PostMapping(
+            value = "/{goalId}/logs:batch",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public ResponseEntity<ProgressLogBatchResponseDto> addProgressLogsToGoal(@PathVariable Long goalId,
+                                                                             @Parameter(hidden = true) InputStream body,
+                                                                             @CurrentUser CurrentUserInfoDto user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(progressLogService.createProgressLogs(goalId, body, user.getId()));
+    }
+
     @Operation(
             summary = "Get all progress logs for a goal",
             description = "Returns a paginated list of progress logs for a specific goal belonging to the authenticated user.",
@@ -79,6 +124,28 @@ public class ProgressLogController {
         return ResponseEntity.status(HttpStatus.OK).body(progressLogService.getLogsForGoal(pageable, goalId, user.getId()));
     }
 
+    @Operation(
+            summary = "Get progress logs for a goal by cursor",
+            description = "Returns a slice of progress logs for a specific goal, newest first. Pass nextCursor of the previous slice to continue; no total count is calculated.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Progress logs returned successfully",
+                            content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+                    @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND)
+            }
+    )
+    @GetMapping("/{goalId}/logs/cursor")
+    public ResponseEntity<CursorPageResponse<ProgressLogResponseDto>> getLogsForGoalByCursor(@PathVariable Long goalId,
+                                                                                             @RequestParam(required = false) String cursor,
+                                                                                             @RequestParam(defaultValue = "10") int size,
+                                                                                             @CurrentUser CurrentUserInfoDto user) {
+        return ResponseEntity.status(HttpStatus.OK).body(progressLogService.getLogsForGoal(cursor, size, goalId, user.getId()));
+    }
+
     @Operation(
             summary = "Get progress log details",
             description = "Returns full details of a specific progress log associated with a user's goal.",
@@ -0,0 +1,75 @@
+package com.github.mykyta.sirobaba.ailearningtracker.controllers;
+
+import com.github.mykyta.sirobaba.ailearningtracker.annotations.CurrentUser;
+import com.github.mykyta.sirobaba.ailearningtracker.constants.HttpStatuses;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDetailsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.UserStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.services.StatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@Tag(name = "Stats", description = "Learning statistics computed from progress logs")
+@RestController
+@RequestMapping("/stats")
+@AllArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    @Operation(
+            summary = "Get learning statistics",
+            description = "Returns total logs and minutes, active days, streaks within the last 366 days, totals by goal, and logs and minutes per day between from and to (the last 30 days by default, at most 366 days) for the authenticated user.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Statistics returned successfully",
+                            content = @Content(schema = @Schema(implementation = UserStatsDto.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED)
+            }
+    )
+    @GetMapping
+    public ResponseEntity<UserStatsDto> getUserStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                     @CurrentUser CurrentUserInfoDto user) {
+        return ResponseEntity.status(HttpStatus.OK).body(statsService.getUserStats(user.getId(), from, to));
+    }
+
+    @Operation(
+            summary = "Get learning statistics of a goal",
+            description = "Returns total logs and minutes, active days, streaks within the last 366 days, and logs and minutes per day between from and to (the last 30 days by default, at most 366 days) for a goal of the authenticated user.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Statistics returned successfully",
+                            content = @Content(schema = @Schema(implementation = GoalStatsDetailsDto.class))
+                    ),
+                    @ApiResponse(responseCode = "400", description = HttpStatuses.BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = HttpStatuses.UNAUTHORIZED),
+                    @ApiResponse(responseCode = "404", description = HttpStatuses.NOT_FOUND)
+            }
+    )
+    @GetMapping("/goals/{goalId}")
+    public ResponseEntity<GoalStatsDetailsDto> getGoalStats(@PathVariable Long goalId,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                            @CurrentUser CurrentUserInfoDto user) {
+        return ResponseEntity.status(HttpStatus.OK).body(statsService.getGoalStats(goalId, user.getId(), from, to));
+    }
+}
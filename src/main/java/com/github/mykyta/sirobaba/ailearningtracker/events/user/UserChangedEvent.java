@@ -0,0 +1,15 @@
+package com.github.mykyta.sirobaba.ailearningtracker.events.user;
+
+
+/**
+ * Event triggered when a user row is created or its security-relevant state changes.
+ * <p>
+ * Listeners use it to evict cached copies of the user so that subsequent lookups
+ * observe the committed state.
+ * </p>
+ *
+ * @param userId the ID of the changed user
+ * @param email  the email of the changed user
+ */
+public record UserChangedEvent(Long userId, String email) {
+}
@@ -0,0 +1,14 @@
+package com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions;
+
+/**
+ * Exception thrown when a call to the AI model is rejected by the call limiter,
+ * because the user or the whole application has too many calls in progress
+ * or the request rate limit is exhausted.
+ *
+ * Typically results in HTTP 429 (Too Many Requests).
+ */
+public class AiCallRejectedException extends RuntimeException {
+    public AiCallRejectedException(String message) {
+        super(message);
+    }
+}
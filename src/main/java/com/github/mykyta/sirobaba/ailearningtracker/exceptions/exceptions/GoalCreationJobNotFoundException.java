@@ -0,0 +1,13 @@
+package com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions;
+
+/**
+ * Exception thrown when an asynchronous goal creation job does not exist,
+ * has expired, or belongs to another user.
+ *
+ * Typically results in HTTP 404 (Not Found).
+ */
+public class GoalCreationJobNotFoundException extends RuntimeException {
+    public GoalCreationJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions;
+
+/**
+ * Exception thrown when the goal creation executor is saturated and cannot accept another job.
+ *
+ * Typically results in HTTP 429 (Too Many Requests).
+ */
+public class GoalCreationRejectedException extends RuntimeException {
+    public GoalCreationRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions;
+
+/**
+ * Exception thrown when a keyset pagination cursor cannot be decoded.
+ * <p>
+ * Cursors are opaque to clients, so this usually means the token was altered or truncated.
+ *
+ * Typically results in HTTP 400 (Bad Request).
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
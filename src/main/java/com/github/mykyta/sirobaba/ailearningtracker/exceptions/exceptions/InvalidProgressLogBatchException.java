@@ -0,0 +1,15 @@
+package com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions;
+
+/**
+ * Exception thrown when a bulk progress log request cannot be imported.
+ * <p>
+ * Covers malformed JSON, entries failing validation and batches above the configured size.
+ * The whole batch is rolled back.
+ *
+ * Typically results in HTTP 400 (Bad Request).
+ */
+public class InvalidProgressLogBatchException extends RuntimeException {
+    public InvalidProgressLogBatchException(String message) {
+        super(message);
+    }
+}
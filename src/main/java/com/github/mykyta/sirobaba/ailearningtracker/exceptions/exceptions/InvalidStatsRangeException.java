@@ -0,0 +1,12 @@
+package com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions;
+
+/**
+ * Exception thrown when the date range requested from the statistics endpoints is reversed or too long.
+ *
+ * Typically results in HTTP 400 (Bad Request).
+ */
+public class InvalidStatsRangeException extends RuntimeException {
+    public InvalidStatsRangeException(String message) {
+        super(message);
+    }
+}
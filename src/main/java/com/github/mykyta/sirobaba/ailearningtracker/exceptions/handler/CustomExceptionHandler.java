@@ -48,7 +48,8 @@ public class CustomExceptionHandler {
             UserEmailNotFoundException.class,
             UserNotFoundException.class,
             ProgressLogNotFoundException.class,
-            AiAnalysisInThisGoalNotFound.class
+            AiAnalysisInThisGoalNotFound.class,
+            GoalCreationJobNotFoundException.class
     })
     public ResponseEntity<ExceptionResponse> handleNotFoundExceptions(RuntimeException ex, WebRequest request) {
         log.debug("Resource not found: {}", ex.getMessage());
@@ -89,13 +90,35 @@ public class CustomExceptionHandler {
     @ExceptionHandler({
             GoalValidationException.class,
             AiJsonParseException.class,
-            MissingDataException.class
+            MissingDataException.class,
+            InvalidCursorException.class,
+            InvalidProgressLogBatchException.class,
+            InvalidStatsRangeException.class
     })
     public ResponseEntity<ExceptionResponse> handleBadRequestExceptions(RuntimeException ex, WebRequest request) {
         log.debug("Incorrect request: {}", ex.getMessage());
         return createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
     }
 
+    /**
+     * Handles requests rejected because a bounded resource is saturated.
+     * <p>
+     * Clients are expected to back off and retry later.
+     * </p>
+     *
+     * @param ex      the thrown {@link RuntimeException}
+     * @param request the current web request context
+     * @return response with HTTP 429 Too Many Requests and error details
+     */
+    @ExceptionHandler({
+            GoalCreationRejectedException.class,
+            AiCallRejectedException.class
+    })
+    public ResponseEntity<ExceptionResponse> handleTooManyRequestsExceptions(RuntimeException ex, WebRequest request) {
+        log.debug("Request rejected due to load: {}", ex.getMessage());
+        return createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), request);
+    }
+
     /**
      * Fallback handler for unexpected or unhandled server-side errors.
      * <p>
@@ -0,0 +1,23 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.subgoal.SubGoalResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Main goal and subgoals returned by the combined learning plan prompt.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlanAiResultDto {
+    private String generalGoal;
+    private Difficulty difficulty;
+    private List<SubGoalResponseDto> subGoals;
+}
@@ -0,0 +1,27 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * State of an asynchronous goal creation job as returned to the client.
+ * <p>
+ * {@code goal} is set once the job has {@link GoalCreationJobStatus#COMPLETED},
+ * {@code error} once it has {@link GoalCreationJobStatus#FAILED}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GoalCreationJobDto {
+    private String jobId;
+    private GoalCreationJobStatus status;
+    private GoalResponseDto goal;
+    private String error;
+    private Instant createdAt;
+    private Instant finishedAt;
+}
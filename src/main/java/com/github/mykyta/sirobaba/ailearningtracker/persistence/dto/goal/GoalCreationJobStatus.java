@@ -0,0 +1,11 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal;
+
+/**
+ * Lifecycle of an asynchronous goal creation job.
+ */
+public enum GoalCreationJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
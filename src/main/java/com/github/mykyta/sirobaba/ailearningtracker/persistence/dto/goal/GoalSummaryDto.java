@@ -22,5 +22,7 @@ public class GoalSummaryDto {
     private String description;
     private LocalDate deadline;
     private Long subGoalCount;
+    private Long completedSubGoalCount;
     private boolean completed;
+    private LocalDate createdAt;
 }
\ No newline at end of file
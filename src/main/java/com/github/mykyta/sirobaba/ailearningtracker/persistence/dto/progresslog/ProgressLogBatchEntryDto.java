@@ -0,0 +1,45 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of a bulk progress log import.
+ * <p>
+ * Same fields as {@link ProgressLogRequestDto}, plus the time the progress happened so clients can sync
+ * logs recorded offline. Missing hours or minutes count as 0.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProgressLogBatchEntryDto {
+
+    @Size(max = 100)
+    private String title;
+
+    @Min(value = 0, message = "Hours must be 0 or greater")
+    @Max(value = 100, message = "Hours cannot exceed 100")
+    private Integer hours;
+
+    @Min(value = 0, message = "Minutes must be 0 or greater")
+    @Max(value = 59, message = "Minutes cannot exceed 59")
+    private Integer minutes;
+
+    @Size(min = 20, max = 1000)
+    private String note;
+
+    /**
+     * When the progress happened; defaults to the time the log is stored.
+     */
+    @PastOrPresent
+    private LocalDateTime logTime;
+}
@@ -0,0 +1,15 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProgressLogBatchResponseDto {
+    private Long goalId;
+    private Integer created;
+}
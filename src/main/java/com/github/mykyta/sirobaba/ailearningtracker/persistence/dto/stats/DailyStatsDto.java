@@ -0,0 +1,21 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Progress logged on one day.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyStatsDto {
+    private LocalDate date;
+    private Long logs;
+    private Long minutes;
+}
@@ -0,0 +1,31 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Learning statistics of one goal: all-time totals, streaks within the last 366 days,
+ * and daily progress between {@code from} and {@code to}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GoalStatsDetailsDto {
+    private Long goalId;
+    private String title;
+    private Long totalLogs;
+    private Long totalMinutes;
+    private LocalDate lastLogDate;
+    private Integer activeDays;
+    private Integer currentStreak;
+    private Integer longestStreak;
+    private LocalDate from;
+    private LocalDate to;
+    private List<DailyStatsDto> daily;
+}
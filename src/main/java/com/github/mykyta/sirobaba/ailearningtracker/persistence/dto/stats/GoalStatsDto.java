@@ -0,0 +1,23 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * All-time progress logged on one goal.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class GoalStatsDto {
+    private Long goalId;
+    private String title;
+    private Long totalLogs;
+    private Long totalMinutes;
+    private LocalDate lastLogDate;
+}
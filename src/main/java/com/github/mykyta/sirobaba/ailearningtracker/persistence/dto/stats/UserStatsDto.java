@@ -0,0 +1,29 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Learning statistics of a user: all-time totals, streaks within the last 366 days, totals by goal,
+ * and daily progress between {@code from} and {@code to}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserStatsDto {
+    private Long totalLogs;
+    private Long totalMinutes;
+    private Integer activeDays;
+    private Integer currentStreak;
+    private Integer longestStreak;
+    private LocalDate from;
+    private LocalDate to;
+    private List<GoalStatsDto> goals;
+    private List<DailyStatsDto> daily;
+}
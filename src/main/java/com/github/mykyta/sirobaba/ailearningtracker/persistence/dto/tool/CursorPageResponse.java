@@ -0,0 +1,58 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Slice of a keyset-paginated list.
+ * <p>
+ * Unlike {@link PageResponse} it carries no total count, so producing it never needs a
+ * {@code COUNT(*)} query. {@code nextCursor} is {@code null} on the last slice.
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Page request that fetches one row more than requested; the extra row only tells
+     * whether another slice exists and is dropped by {@link #from}.
+     *
+     * @param size requested slice size, clamped to {@code 1..MAX_SIZE}
+     */
+    public static Pageable probe(int size) {
+        return PageRequest.ofSize(clamp(size) + 1);
+    }
+
+    /**
+     * Builds a slice from rows fetched with {@link #probe(int)}.
+     *
+     * @param rows     rows in seek order, at most {@code size + 1}
+     * @param size     requested slice size
+     * @param cursorOf extracts the cursor position of a row
+     */
+    public static <T> CursorPageResponse<T> from(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+        int limit = clamp(size);
+        if (rows.size() <= limit) {
+            return new CursorPageResponse<>(rows, limit, null, false);
+        }
+        List<T> content = rows.subList(0, limit);
+        String nextCursor = cursorOf.apply(content.get(limit - 1)).encode();
+        return new CursorPageResponse<>(List.copyOf(content), limit, nextCursor, true);
+    }
+
+    public <R> CursorPageResponse<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPageResponse<>(mapped, size, nextCursor, hasNext);
+    }
+
+    private static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool;
+
+import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: its sort value and its id as a tie-breaker.
+ * <p>
+ * Clients only ever see the {@link #encode() encoded} form, an opaque URL-safe token,
+ * and hand it back unchanged to fetch the rows that follow.
+ *
+ * @param position ISO-8601 representation of the sort column value
+ * @param id       identifier of the row, used to break ties between equal positions
+ */
+public record PageCursor(String position, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PageCursor of(Temporal position, Long id) {
+        return new PageCursor(position.toString(), id);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param cursor token received from a client, may be {@code null} or blank for the first page
+     * @return decoded cursor, or {@code null} when no cursor was supplied
+     * @throws InvalidCursorException if the token is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new InvalidCursorException(String.format(ErrorMessage.INVALID_PAGE_CURSOR, cursor));
+            }
+            return new PageCursor(raw.substring(0, separator), Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(String.format(ErrorMessage.INVALID_PAGE_CURSOR, cursor));
+        }
+    }
+
+    public String encode() {
+        String raw = position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime positionAsDateTime() {
+        try {
+            return LocalDateTime.parse(position);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(String.format(ErrorMessage.INVALID_PAGE_CURSOR, encode()));
+        }
+    }
+
+    public LocalDate positionAsDate() {
+        try {
+            return LocalDate.parse(position);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(String.format(ErrorMessage.INVALID_PAGE_CURSOR, encode()));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Security-relevant snapshot of a user used to decide whether an access token is still honoured
+ * without loading the full {@code User} entity.
+ * <p>
+ * Immutable, so a single instance can be cached and shared across requests.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class UserTokenStateDto {
+    private Long id;
+    private String email;
+    private String username;
+    private Role role;
+    private String refreshTokenKey;
+    private boolean twoFactorEnabled;
+}
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class AIAnalysis {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_analysis_seq")
+    @SequenceGenerator(name = "ai_analysis_seq", sequenceName = "ai_analysis_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title")
@@ -34,6 +35,13 @@ public class AIAnalysis {
     @Column(name = "analysis_text", columnDefinition = "TEXT", nullable = false)
     private String analysisText;
 
+    /**
+     * Highest progress log id covered by this analysis; the next analysis only sends logs above it.
+     * {@code null} for analyses created before incremental analysis was introduced.
+     */
+    @Column(name = "last_progress_log_id")
+    private Long lastProgressLogId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "goal_id", nullable = false)
     private Goal goal;
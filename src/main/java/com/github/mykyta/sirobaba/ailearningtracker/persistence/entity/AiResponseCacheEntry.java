@@ -0,0 +1,45 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persistent tier of the AI response cache.
+ * <p>
+ * Stores a raw AI response under the hash of the prompt that produced it.
+ */
+@Entity
+@Table(name = "ai_response_cache")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AiResponseCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "template_name", nullable = false)
+    private String templateName;
+
+    @Column(name = "model_id", nullable = false)
+    private String modelId;
+
+    @Column(name = "response", columnDefinition = "TEXT", nullable = false)
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
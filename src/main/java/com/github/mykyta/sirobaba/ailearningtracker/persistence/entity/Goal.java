@@ -25,7 +25,8 @@ import java.util.List;
 public class Goal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "goals_seq")
+    @SequenceGenerator(name = "goals_seq", sequenceName = "goals_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false)
@@ -50,6 +51,12 @@ public class Goal {
     @Column(name = "estimated_hours")
     private Integer estimatedHours;
 
+    @Column(name = "subgoal_count", nullable = false)
+    private int subgoalCount;
+
+    @Column(name = "completed_subgoal_count", nullable = false)
+    private int completedSubgoalCount;
+
     @Column(name = "is_completed", nullable = false)
     private boolean completed = false;
 
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class ProgressLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "progress_logs_seq")
+    @SequenceGenerator(name = "progress_logs_seq", sequenceName = "progress_logs_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false)
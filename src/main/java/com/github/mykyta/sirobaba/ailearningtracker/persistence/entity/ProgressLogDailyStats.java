@@ -0,0 +1,59 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of progress logs and minutes spent on one goal on one day.
+ * <p>
+ * Rows are maintained incrementally when logs are added or deleted, so statistics are read
+ * from at most one row per goal and day instead of from the logs themselves.
+ * The owner is denormalized from the goal for per-user queries.
+ */
+@Entity
+@Table(name = "progress_log_daily_stats")
+@IdClass(ProgressLogDailyStats.Key.class)
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProgressLogDailyStats {
+
+    @Id
+    @Column(name = "goal_id")
+    private Long goalId;
+
+    @Id
+    @Column(name = "log_date")
+    private LocalDate logDate;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "log_count", nullable = false)
+    private int logCount;
+
+    @Column(name = "minutes_spent", nullable = false)
+    private long minutesSpent;
+
+    /**
+     * Composite identifier of a daily row.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long goalId;
+        private LocalDate logDate;
+    }
+}
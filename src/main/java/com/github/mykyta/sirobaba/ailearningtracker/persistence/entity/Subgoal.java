@@ -19,7 +19,8 @@ import lombok.*;
 public class Subgoal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subgoals_seq")
+    @SequenceGenerator(name = "subgoals_seq", sequenceName = "subgoals_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -21,6 +21,7 @@ public interface AIAnalysisMapper {
      */
     @Mapping(source = "analysisText", target = "analysisText")
     @Mapping(source = "createdAt", target = "createdAt")
+    @Mapping(target = "lastProgressLogId", ignore = true)
     AIAnalysis toAIAnalysis(AiAnalysisOfProgressLogDto aiAnalysisDto);
 
     /**
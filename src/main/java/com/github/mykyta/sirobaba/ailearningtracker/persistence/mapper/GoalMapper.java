@@ -28,6 +28,7 @@ public interface GoalMapper {
      * <p>
      * Notes:
      * - Subgoals are ignored because AI provides them separately.
+     * - Subgoal counters are ignored because they are derived from the linked subgoals.
      * - Deadline is converted using the format yyyy-MM-dd.
      * - ID is ignored to allow JPA to generate it.
      * - Goal is always created with completed=false.
@@ -39,6 +40,8 @@ public interface GoalMapper {
     @Mapping(source = "description", target = "description")
     @Mapping(source = "difficulty", target = "difficulty")
     @Mapping(target = "subgoals", ignore = true)
+    @Mapping(target = "subgoalCount", ignore = true)
+    @Mapping(target = "completedSubgoalCount", ignore = true)
     @Mapping(source = "deadline", target = "deadline", dateFormat = "yyyy-MM-dd")
     @Mapping(target = "completed", constant = "false")
     @Mapping(target = "id", ignore = true)
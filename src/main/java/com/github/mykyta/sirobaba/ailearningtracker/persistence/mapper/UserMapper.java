@@ -2,6 +2,7 @@ package com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper;
 
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
 import org.mapstruct.Mapper;
 
@@ -31,4 +32,12 @@ public interface UserMapper {
      * @return the mapped CurrentUserInfoDto
      */
     CurrentUserInfoDto toCurrentUserInfoDto(User user);
+
+    /**
+     * Converts a cached {@link UserTokenStateDto} to {@link CurrentUserInfoDto}.
+     *
+     * @param state the user state to convert
+     * @return the mapped CurrentUserInfoDto
+     */
+    CurrentUserInfoDto fromTokenState(UserTokenStateDto state);
 }
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -34,6 +36,15 @@ public interface AIAnalysisRepo extends JpaRepository<AIAnalysis, Long> {
     @Query("SELECT a FROM AIAnalysis a WHERE a.id = :analysisId AND a.goal.id = :goalId")
     Optional<AIAnalysis> findByIdAndGoalId(@Param("analysisId") Long analysisId, @Param("goalId") Long goalId);
 
+    /**
+     * Finds the most recent AIAnalysis of a goal, which is the baseline of the next incremental analysis.
+     * Ownership of the goal must be checked by the caller.
+     *
+     * @param goalId the ID of the Goal
+     * @return an {@link Optional} containing the latest AIAnalysis, or empty if the goal has none
+     */
+    Optional<AIAnalysis> findFirstByGoalIdOrderByCreatedAtDescIdDesc(Long goalId);
+
     /**
      * Retrieves a paginated list of {@link AIAnalysisResponseDto} for a given user and goal.
      * <p>
@@ -63,4 +74,61 @@ public interface AIAnalysisRepo extends JpaRepository<AIAnalysis, Long> {
             Pageable pageable
     );
 
+    /**
+     * Retrieves the first keyset slice of {@link AIAnalysisResponseDto} for a given user and goal,
+     * ordered by creation date and ID in descending order. No count query is issued.
+     *
+     * @param userId   the ID of the user who owns the goal
+     * @param goalId   the ID of the goal
+     * @param pageable limits the number of returned rows; its sort is ignored
+     * @return a {@link List} of {@link AIAnalysisResponseDto}
+     */
+    @Query("""
+    SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisResponseDto(
+        a.id,
+        a.title,
+        a.createdAt
+    )
+    FROM AIAnalysis a
+    JOIN a.goal g
+    WHERE g.id = :goalId AND g.user.id = :userId
+    ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    List<AIAnalysisResponseDto> findFirstByUserIdAndGoalId(
+            @Param("userId") Long userId,
+            @Param("goalId") Long goalId,
+            Pageable pageable
+    );
+
+    /**
+     * Retrieves the keyset slice of {@link AIAnalysisResponseDto} that follows the row identified by
+     * {@code (createdAt, id)}, using the same ordering as {@link #findFirstByUserIdAndGoalId}.
+     *
+     * @param userId    the ID of the user who owns the goal
+     * @param goalId    the ID of the goal
+     * @param createdAt creation date of the last row of the previous slice
+     * @param id        ID of the last row of the previous slice
+     * @param pageable  limits the number of returned rows; its sort is ignored
+     * @return a {@link List} of {@link AIAnalysisResponseDto}
+     */
+    @Query("""
+    SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisResponseDto(
+        a.id,
+        a.title,
+        a.createdAt
+    )
+    FROM AIAnalysis a
+    JOIN a.goal g
+    WHERE g.id = :goalId AND g.user.id = :userId
+      AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+    ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    List<AIAnalysisResponseDto> findByUserIdAndGoalIdAfter(
+            @Param("userId") Long userId,
+            @Param("goalId") Long goalId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
 }
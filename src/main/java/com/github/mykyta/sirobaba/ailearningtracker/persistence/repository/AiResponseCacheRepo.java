@@ -0,0 +1,42 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.repository;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.AiResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for the persistent tier of the AI response cache.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the prompt, see {@link AiResponseCacheEntry}.
+ * </p>
+ */
+@Repository
+public interface AiResponseCacheRepo extends JpaRepository<AiResponseCacheEntry, String> {
+
+    /**
+     * Finds a cached response that has not expired yet.
+     *
+     * @param cacheKey hash of the prompt
+     * @param now      current time
+     * @return an {@link Optional} containing the entry if present and still valid
+     */
+    Optional<AiResponseCacheEntry> findByCacheKeyAndExpiresAtAfter(String cacheKey, LocalDateTime now);
+
+    /**
+     * Deletes every entry that expired before the given time in a single statement.
+     *
+     * @param now current time
+     * @return the number of deleted entries
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AiResponseCacheEntry e WHERE e.expiresAt < :now")
+    int deleteByExpiresAtBefore(@Param("now") LocalDateTime now);
+}
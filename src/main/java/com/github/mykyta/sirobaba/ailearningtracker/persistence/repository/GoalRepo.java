@@ -6,10 +6,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,6 +20,8 @@ import java.util.Optional;
  * <p>
  * Provides CRUD operations and custom queries for retrieving goals, including summaries
  * with the number of associated subgoals and filtering by completion status.
+ * Subgoal numbers are read from the denormalized {@code subgoal_count} and
+ * {@code completed_subgoal_count} columns, so goal lists never join subgoals.
  * Utilizes Spring Data JPA to interact with the underlying database.
  * </p>
  *
@@ -28,7 +33,7 @@ public interface GoalRepo extends JpaRepository<Goal, Long> {
 
     /**
      * Retrieves a paginated list of non-completed goals for a specific user,
-     * including the count of associated subgoals.
+     * including the maintained subgoal counters.
      *
      * @param pageable pagination information
      * @param ownerId  the ID of the user who owns the goals
@@ -40,19 +45,19 @@ public interface GoalRepo extends JpaRepository<Goal, Long> {
                 g.title,
                 g.description,
                 g.deadline,
-                COUNT(s.id),
-                g.completed
+                CAST(g.subgoalCount AS Long),
+                CAST(g.completedSubgoalCount AS Long),
+                g.completed,
+                g.createdAt
             )
             FROM Goal g
-            LEFT JOIN g.subgoals s
             WHERE g.completed != true AND g.user.id = :ownerId
-            GROUP BY g.id, g.title, g.description, g.deadline, g.completed
             """)
     Page<GoalSummaryDto> findAllNonCompletedGoalsWithSubCount(Pageable pageable, @Param("ownerId") Long ownerId);
 
     /**
      * Retrieves a paginated list of completed goals for a specific user,
-     * including the count of associated subgoals.
+     * including the maintained subgoal counters.
      *
      * @param pageable pagination information
      * @param ownerId  the ID of the user who owns the goals
@@ -64,16 +69,78 @@ public interface GoalRepo extends JpaRepository<Goal, Long> {
                 g.title,
                 g.description,
                 g.deadline,
-                COUNT(s.id),
-                g.completed
+                CAST(g.subgoalCount AS Long),
+                CAST(g.completedSubgoalCount AS Long),
+                g.completed,
+                g.createdAt
             )
             FROM Goal g
-            LEFT JOIN g.subgoals s
             WHERE g.completed = true AND g.user.id = :ownerId
-            GROUP BY g.id, g.title, g.description, g.deadline, g.completed
             """)
     Page<GoalSummaryDto> findAllCompletedGoalsWithSubCount(Pageable pageable, @Param("ownerId") Long ownerId);
 
+    /**
+     * Retrieves the first keyset slice of goals with the given completion status for a specific user,
+     * including the maintained subgoal counters, ordered by creation date and ID in descending order.
+     * No count query is issued.
+     *
+     * @param ownerId   the ID of the user who owns the goals
+     * @param completed whether completed or non-completed goals are listed
+     * @param pageable  limits the number of returned rows; its sort is ignored
+     * @return a {@link List} of {@link GoalSummaryDto}
+     */
+    @Query("""
+            SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto(
+                g.id,
+                g.title,
+                g.description,
+                g.deadline,
+                CAST(g.subgoalCount AS Long),
+                CAST(g.completedSubgoalCount AS Long),
+                g.completed,
+                g.createdAt
+            )
+            FROM Goal g
+            WHERE g.completed = :completed AND g.user.id = :ownerId
+            ORDER BY g.createdAt DESC, g.id DESC
+            """)
+    List<GoalSummaryDto> findFirstGoalsWithSubCount(@Param("ownerId") Long ownerId,
+                                                    @Param("completed") boolean completed,
+                                                    Pageable pageable);
+
+    /**
+     * Retrieves the keyset slice of goals that follows the row identified by {@code (createdAt, id)},
+     * using the same filter and ordering as {@link #findFirstGoalsWithSubCount}.
+     *
+     * @param ownerId   the ID of the user who owns the goals
+     * @param completed whether completed or non-completed goals are listed
+     * @param createdAt creation date of the last row of the previous slice
+     * @param id        ID of the last row of the previous slice
+     * @param pageable  limits the number of returned rows; its sort is ignored
+     * @return a {@link List} of {@link GoalSummaryDto}
+     */
+    @Query("""
+            SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto(
+                g.id,
+                g.title,
+                g.description,
+                g.deadline,
+                CAST(g.subgoalCount AS Long),
+                CAST(g.completedSubgoalCount AS Long),
+                g.completed,
+                g.createdAt
+            )
+            FROM Goal g
+            WHERE g.completed = :completed AND g.user.id = :ownerId
+              AND (g.createdAt < :createdAt OR (g.createdAt = :createdAt AND g.id < :id))
+            ORDER BY g.createdAt DESC, g.id DESC
+            """)
+    List<GoalSummaryDto> findGoalsWithSubCountAfter(@Param("ownerId") Long ownerId,
+                                                    @Param("completed") boolean completed,
+                                                    @Param("createdAt") LocalDate createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
     /**
      * Finds a {@link Goal} entity by its ID and the owner's user ID.
      * <p>
@@ -89,4 +156,33 @@ public interface GoalRepo extends JpaRepository<Goal, Long> {
                 SELECT g FROM Goal g WHERE g.id = :goalId AND g.user.id = :userId
             """)
     Optional<Goal> findByGoalIdAndOwnerId(Long goalId, @Param("userId") Long userId);
+
+    /**
+     * Checks whether a goal belongs to a user without loading the goal or its subgoals.
+     *
+     * @param goalId the ID of the goal
+     * @param userId the ID of the user who owns the goal
+     * @return {@code true} if the goal exists and belongs to the user
+     */
+    @Query("""
+                SELECT COUNT(g) > 0 FROM Goal g WHERE g.id = :goalId AND g.user.id = :userId
+            """)
+    boolean existsByGoalIdAndOwnerId(@Param("goalId") Long goalId, @Param("userId") Long userId);
+
+    /**
+     * Atomically increments the completed subgoal counter of a goal.
+     * <p>
+     * The persistence context is flushed before and cleared after the update,
+     * so a later save of an already loaded goal cannot overwrite the new value.
+     * </p>
+     *
+     * @param goalId the ID of the goal
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+                UPDATE Goal g SET g.completedSubgoalCount = g.completedSubgoalCount + 1
+                WHERE g.id = :goalId AND g.completedSubgoalCount < g.subgoalCount
+            """)
+    int incrementCompletedSubgoalCount(@Param("goalId") Long goalId);
 }
@@ -0,0 +1,214 @@
+package com.github.mykyta.sirobaba.ailearningtracker.persistence.repository;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.DailyStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLogDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the daily progress log rollup, see {@link ProgressLogDailyStats}.
+ * <p>
+ * Writes are atomic increments, so concurrent logs of the same goal and day never lose an update.
+ * The first row of a goal and day is inserted by the caller, see {@link #addLogs}.
+ * Reads touch at most one row per goal and day, whatever the number of logs.
+ * </p>
+ */
+@Repository
+public interface ProgressLogDailyStatsRepo extends JpaRepository<ProgressLogDailyStats, ProgressLogDailyStats.Key> {
+
+    /**
+     * Adds logs to the existing row of a goal and day.
+     *
+     * @param goalId  the ID of the goal
+     * @param logDate the day the logs were made on
+     * @param logs    the number of added logs
+     * @param minutes the minutes spent in the added logs
+     * @return the number of updated rows, 0 if the goal has no row for that day yet
+     */
+    @Modifying
+    @Query("""
+                UPDATE ProgressLogDailyStats s
+                SET s.logCount = s.logCount + :logs, s.minutesSpent = s.minutesSpent + :minutes
+                WHERE s.goalId = :goalId AND s.logDate = :logDate
+            """)
+    int addLogs(@Param("goalId") Long goalId,
+                @Param("logDate") LocalDate logDate,
+                @Param("logs") int logs,
+                @Param("minutes") long minutes);
+
+    /**
+     * Removes one log from the row of a goal and day.
+     *
+     * @param goalId  the ID of the goal
+     * @param logDate the day the log was made on
+     * @param minutes the minutes spent in the removed log
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("""
+                UPDATE ProgressLogDailyStats s
+                SET s.logCount = s.logCount - 1, s.minutesSpent = s.minutesSpent - :minutes
+                WHERE s.goalId = :goalId AND s.logDate = :logDate
+            """)
+    int removeLog(@Param("goalId") Long goalId,
+                  @Param("logDate") LocalDate logDate,
+                  @Param("minutes") long minutes);
+
+    /**
+     * Deletes the row of a goal and day if no logs are left in it.
+     *
+     * @param goalId  the ID of the goal
+     * @param logDate the day
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("""
+                DELETE FROM ProgressLogDailyStats s
+                WHERE s.goalId = :goalId AND s.logDate = :logDate AND s.logCount <= 0
+            """)
+    int deleteIfEmpty(@Param("goalId") Long goalId, @Param("logDate") LocalDate logDate);
+
+    /**
+     * Retrieves the all-time totals of every goal of a user that has logs, most recently logged first.
+     *
+     * @param userId the ID of the user
+     * @return totals by goal
+     */
+    @Query("""
+                SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDto(
+                    g.id, g.title, SUM(s.logCount), SUM(s.minutesSpent), MAX(s.logDate)
+                )
+                FROM ProgressLogDailyStats s JOIN Goal g ON g.id = s.goalId
+                WHERE s.userId = :userId AND s.logCount > 0
+                GROUP BY g.id, g.title
+                ORDER BY MAX(s.logDate) DESC, g.id DESC
+            """)
+    List<GoalStatsDto> findGoalTotalsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Retrieves the all-time totals of a goal of a user.
+     *
+     * @param goalId the ID of the goal
+     * @param userId the ID of the goal owner
+     * @return an {@link Optional} with the totals, empty if the goal has no logs
+     */
+    @Query("""
+                SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDto(
+                    g.id, g.title, SUM(s.logCount), SUM(s.minutesSpent), MAX(s.logDate)
+                )
+                FROM ProgressLogDailyStats s JOIN Goal g ON g.id = s.goalId
+                WHERE s.goalId = :goalId AND s.userId = :userId AND s.logCount > 0
+                GROUP BY g.id, g.title
+            """)
+    Optional<GoalStatsDto> findGoalTotals(@Param("goalId") Long goalId, @Param("userId") Long userId);
+
+    /**
+     * Retrieves the logs and minutes of a user per day, over all goals, for the days between {@code from}
+     * and {@code to} inclusive that have logs.
+     *
+     * @param userId the ID of the user
+     * @param from   the first day
+     * @param to     the last day
+     * @return daily totals in ascending day order
+     */
+    @Query("""
+                SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.DailyStatsDto(
+                    s.logDate, SUM(s.logCount), SUM(s.minutesSpent)
+                )
+                FROM ProgressLogDailyStats s
+                WHERE s.userId = :userId AND s.logDate BETWEEN :from AND :to AND s.logCount > 0
+                GROUP BY s.logDate
+                ORDER BY s.logDate
+            """)
+    List<DailyStatsDto> findDailyByUserId(@Param("userId") Long userId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    /**
+     * Retrieves the logs and minutes of a goal per day for the days between {@code from}
+     * and {@code to} inclusive that have logs.
+     *
+     * @param goalId the ID of the goal
+     * @param userId the ID of the goal owner
+     * @param from   the first day
+     * @param to     the last day
+     * @return daily totals in ascending day order
+     */
+    @Query("""
+                SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.DailyStatsDto(
+                    s.logDate, SUM(s.logCount), SUM(s.minutesSpent)
+                )
+                FROM ProgressLogDailyStats s
+                WHERE s.goalId = :goalId AND s.userId = :userId AND s.logDate BETWEEN :from AND :to AND s.logCount > 0
+                GROUP BY s.logDate
+                ORDER BY s.logDate
+            """)
+    List<DailyStatsDto> findDailyByGoalId(@Param("goalId") Long goalId,
+                                          @Param("userId") Long userId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    /**
+     * Counts the days on which a user logged progress on any goal.
+     *
+     * @param userId the ID of the user
+     * @return the number of distinct days with logs
+     */
+    @Query("""
+                SELECT COUNT(DISTINCT s.logDate) FROM ProgressLogDailyStats s
+                WHERE s.userId = :userId AND s.logCount > 0
+            """)
+    long countActiveDaysByUserId(@Param("userId") Long userId);
+
+    /**
+     * Counts the days on which progress was logged on a goal.
+     *
+     * @param goalId the ID of the goal
+     * @param userId the ID of the goal owner
+     * @return the number of days with logs
+     */
+    @Query("""
+                SELECT COUNT(s) FROM ProgressLogDailyStats s
+                WHERE s.goalId = :goalId AND s.userId = :userId AND s.logCount > 0
+            """)
+    long countActiveDaysByGoalId(@Param("goalId") Long goalId, @Param("userId") Long userId);
+
+    /**
+     * Retrieves the days since {@code since} on which a user logged progress on any goal, used to compute streaks.
+     *
+     * @param userId the ID of the user
+     * @param since  the first day
+     * @return distinct days in descending order
+     */
+    @Query("""
+                SELECT DISTINCT s.logDate FROM ProgressLogDailyStats s
+                WHERE s.userId = :userId AND s.logDate >= :since AND s.logCount > 0
+                ORDER BY s.logDate DESC
+            """)
+    List<LocalDate> findActiveDaysByUserId(@Param("userId") Long userId, @Param("since") LocalDate since);
+
+    /**
+     * Retrieves the days since {@code since} on which progress was logged on a goal, used to compute streaks.
+     *
+     * @param goalId the ID of the goal
+     * @param userId the ID of the goal owner
+     * @param since  the first day
+     * @return days in descending order
+     */
+    @Query("""
+                SELECT s.logDate FROM ProgressLogDailyStats s
+                WHERE s.goalId = :goalId AND s.userId = :userId AND s.logDate >= :since AND s.logCount > 0
+                ORDER BY s.logDate DESC
+            """)
+    List<LocalDate> findActiveDaysByGoalId(@Param("goalId") Long goalId,
+                                           @Param("userId") Long userId,
+                                           @Param("since") LocalDate since);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +39,45 @@ public interface ProgressLogRepo extends JpaRepository<ProgressLog, Long> {
     @Query("SELECT p FROM ProgressLog p WHERE p.goal.id = :goalId AND p.goal.user.id = :userId ORDER BY p.logTime DESC")
     Page<ProgressLog> findProgressLogsByGoalIdAndUserId(Pageable pageable, @Param("goalId") Long goalId, @Param("userId") Long userId);
 
+    /**
+     * Retrieves the first keyset slice of {@link ProgressLog} entries for a specific goal and user,
+     * ordered by log time and ID in descending order. No count query is issued.
+     *
+     * @param goalId   the ID of the goal
+     * @param userId   the ID of the user who owns the goal
+     * @param pageable limits the number of returned rows; its sort is ignored
+     * @return a {@link List} of {@link ProgressLog} entities
+     */
+    @Query("""
+                SELECT p FROM ProgressLog p
+                WHERE p.goal.id = :goalId AND p.goal.user.id = :userId
+                ORDER BY p.logTime DESC, p.id DESC
+            """)
+    List<ProgressLog> findFirstLogsByGoalIdAndUserId(@Param("goalId") Long goalId, @Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Retrieves the keyset slice of {@link ProgressLog} entries that follow the row identified by
+     * {@code (logTime, id)}, using the same ordering as {@link #findFirstLogsByGoalIdAndUserId}.
+     *
+     * @param goalId   the ID of the goal
+     * @param userId   the ID of the user who owns the goal
+     * @param logTime  log time of the last row of the previous slice
+     * @param id       ID of the last row of the previous slice
+     * @param pageable limits the number of returned rows; its sort is ignored
+     * @return a {@link List} of {@link ProgressLog} entities
+     */
+    @Query("""
+                SELECT p FROM ProgressLog p
+                WHERE p.goal.id = :goalId AND p.goal.user.id = :userId
+                  AND (p.logTime < :logTime OR (p.logTime = :logTime AND p.id < :id))
+                ORDER BY p.logTime DESC, p.id DESC
+            """)
+    List<ProgressLog> findLogsByGoalIdAndUserIdAfter(@Param("goalId") Long goalId,
+                                                     @Param("userId") Long userId,
+                                                     @Param("logTime") LocalDateTime logTime,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
     /**
      * Retrieves a list of progress log contents as {@link ProgressLogContentDto} for a specific goal and user.
      * <p>
@@ -61,6 +101,34 @@ public interface ProgressLogRepo extends JpaRepository<ProgressLog, Long> {
             @Param("userId") Long userId,
             Pageable pageable);
 
+    /**
+     * Retrieves contents of progress logs added after the given log, i.e. with a greater ID,
+     * for a specific goal and user.
+     * <p>
+     * Uses the same projection as {@link #findContentsByIdAndGoalIdAndUserId}, but results are ordered
+     * by ID ascending, i.e. in the order the logs were added, whatever their log time. A page therefore
+     * always holds the oldest logs not yet analysed, and the highest ID on it can be used as the next
+     * {@code afterLogId} without skipping any log.
+     * </p>
+     *
+     * @param goalId     the ID of the goal
+     * @param userId     the ID of the user who owns the goal
+     * @param afterLogId the ID of the last progress log that was already analysed
+     * @param pageable   pagination information
+     * @return a {@link List} of {@link ProgressLogContentDto} containing progress log ID and note
+     */
+    @Query("""
+                SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto(pl.id, pl.note)
+                FROM ProgressLog pl
+                WHERE pl.goal.id = :goalId AND pl.goal.user.id = :userId AND pl.id > :afterLogId
+                ORDER BY pl.id ASC
+            """)
+    List<ProgressLogContentDto> findContentsByGoalIdAndUserIdAfter(
+            @Param("goalId") Long goalId,
+            @Param("userId") Long userId,
+            @Param("afterLogId") Long afterLogId,
+            Pageable pageable);
+
     /**
      * Finds a single {@link ProgressLog} by its ID, the associated goal ID, and the user ID.
      *
@@ -1,7 +1,10 @@
 package com.github.mykyta.sirobaba.ailearningtracker.persistence.repository;
 
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -43,4 +46,32 @@ public interface UserRepo extends JpaRepository<User, Long> {
      * @return true if a user with the username exists, false otherwise
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Retrieves the security-relevant state of a {@link User} used for access token revocation checks.
+     *
+     * @param id the ID of the user
+     * @return an {@link Optional} containing the {@link UserTokenStateDto}, or empty if the user does not exist
+     */
+    @Query("""
+            SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto(
+                u.id, u.email, u.username, u.role, u.refreshTokenKey, u.twoFactorEnabled)
+            FROM User u
+            WHERE u.id = :id
+            """)
+    Optional<UserTokenStateDto> findTokenStateById(@Param("id") Long id);
+
+    /**
+     * Retrieves the security-relevant state of a {@link User} by email.
+     *
+     * @param email the email of the user
+     * @return an {@link Optional} containing the {@link UserTokenStateDto}, or empty if the user does not exist
+     */
+    @Query("""
+            SELECT new com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto(
+                u.id, u.email, u.username, u.role, u.refreshTokenKey, u.twoFactorEnabled)
+            FROM User u
+            WHERE u.email = :email
+            """)
+    Optional<UserTokenStateDto> findTokenStateByEmail(@Param("email") String email);
 }
@@ -0,0 +1,21 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for streamed AI analyses.
+ * <p>
+ * Bounds how long a Server-Sent Events connection may stay open while the model is generating.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ai.analysis-stream")
+public class AiAnalysisStreamProperties {
+
+    /**
+     * Maximum lifetime of a single analysis stream; the generation is cancelled when it expires.
+     */
+    private Duration timeout = Duration.ofMinutes(3);
+}
@@ -0,0 +1,61 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the limiter applied to every call of the chat model.
+ * <p>
+ * Bounds how many calls run at once, overall and per user, and how fast calls are started,
+ * so a burst of plan generations or analyses cannot exceed the provider's rate limits
+ * or pile up blocked threads. Calls that cannot start in time are rejected with HTTP 429.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ai.call-limiter")
+public class AiCallLimiterProperties {
+
+    /**
+     * Whether the limiter is installed on the chat client at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of model calls running at once across all users.
+     */
+    private int maxConcurrentCalls = 16;
+
+    /**
+     * Maximum number of model calls running at once for a single authenticated user.
+     * Calls above it are rejected immediately.
+     */
+    private int maxConcurrentCallsPerUser = 4;
+
+    /**
+     * Sustained number of model calls started per second.
+     */
+    private double requestsPerSecond = 5;
+
+    /**
+     * Number of calls that may start at once after an idle period.
+     */
+    private int burst = 10;
+
+    /**
+     * How long a call may wait for a free slot and a rate limit token before it is rejected.
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Longest time a started model call is expected to run. A call that joins an identical call
+     * waits for the shared response until this much time has passed since the shared call started.
+     */
+    private Duration callTimeout = Duration.ofMinutes(2);
+
+    /**
+     * Whether concurrent calls of the same user with an identical prompt share a single model call.
+     * A call that joins another one is rejected if the shared call does not finish within {@code callTimeout}.
+     */
+    private boolean coalesce = true;
+}
@@ -0,0 +1,31 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for repairing AI responses that do not contain valid JSON.
+ * <p>
+ * A response that cannot be parsed even after tolerant extraction is sent back to the model
+ * with a short repair prompt containing only the broken output, which is much cheaper than
+ * repeating the original generation.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ai.json-repair")
+public class AiJsonRepairProperties {
+
+    /**
+     * Whether broken responses are sent back to the model for repair.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of repair prompts per response.
+     */
+    private int maxAttempts = 1;
+
+    /**
+     * Longest broken output that is sent for repair; longer outputs fail right away.
+     */
+    private int maxInputChars = 16_000;
+}
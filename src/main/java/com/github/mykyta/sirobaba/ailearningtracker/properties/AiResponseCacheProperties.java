@@ -0,0 +1,67 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the AI response cache used by learning plan generation.
+ * <p>
+ * Responses are cached by a hash of the template name, the rendered prompt with collapsed whitespace
+ * and the model id, so near-identical goals reuse an earlier generation instead of calling the model.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ai.response-cache")
+public class AiResponseCacheProperties {
+
+    /**
+     * Whether cached responses are used at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Identifier of the model that produced the responses; part of the cache key,
+     * so switching models never serves responses of the previous one.
+     */
+    private String modelId = "default";
+
+    /**
+     * How long a response stays valid.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Maximum number of responses kept in memory.
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * Whether the in-memory TTL counts from the last write or from the last read.
+     */
+    private Eviction eviction = Eviction.AFTER_WRITE;
+
+    /**
+     * Optional database tier that keeps responses across restarts.
+     */
+    private Persistent persistent = new Persistent();
+
+    public enum Eviction {
+        AFTER_WRITE,
+        AFTER_ACCESS
+    }
+
+    @Data
+    public static class Persistent {
+
+        /**
+         * Whether responses are also stored in the {@code ai_response_cache} table.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How often expired entries are deleted from the table.
+         */
+        private Duration cleanupInterval = Duration.ofHours(1);
+    }
+}
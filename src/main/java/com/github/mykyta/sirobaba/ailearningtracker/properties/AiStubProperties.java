@@ -0,0 +1,93 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties of the stub AI model used with the {@code ai-stub} profile,
+ * and of recording live model responses for it.
+ * <p>
+ * The stub replays recorded responses for prompts seen before and synthesizes canned responses
+ * for any other prompt, with a configurable latency distribution and failure rate, so that goal
+ * creation and analysis can be load-tested end to end without access to the real model.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.ai.stub")
+public class AiStubProperties {
+
+    /**
+     * JSON Lines file of recorded prompts and responses.
+     */
+    private Path recordings = Path.of("ai-recordings.jsonl");
+
+    /**
+     * Whether live model responses are appended to {@link #recordings}; ignored with the {@code ai-stub} profile.
+     */
+    private boolean record = false;
+
+    /**
+     * Responses for prompts without a recording; the first one whose fragments all occur in the prompt is used.
+     */
+    private List<CannedResponse> responses = new ArrayList<>();
+
+    /**
+     * Shape of the simulated response latency.
+     */
+    private LatencyDistribution latencyDistribution = LatencyDistribution.LOG_NORMAL;
+
+    /**
+     * Median response latency.
+     */
+    private Duration latency = Duration.ofMillis(800);
+
+    /**
+     * 99th percentile response latency, used by {@link LatencyDistribution#LOG_NORMAL}.
+     */
+    private Duration latencyP99 = Duration.ofSeconds(3);
+
+    /**
+     * Share of calls, between 0 and 1, that fail after their latency.
+     */
+    private double failureRate = 0.0;
+
+    /**
+     * Seed of the latency and failure random generator, for reproducible runs; random if not set.
+     */
+    private Long seed;
+
+    /**
+     * Number of chunks a streamed response is split into.
+     */
+    private int streamChunks = 8;
+
+    @Data
+    public static class CannedResponse {
+
+        /**
+         * Fragments that must all occur in the prompt.
+         */
+        private List<String> promptContains = new ArrayList<>();
+
+        /**
+         * Response text.
+         */
+        private String response;
+    }
+
+    public enum LatencyDistribution {
+        /**
+         * Every call takes {@code latency}.
+         */
+        FIXED,
+        /**
+         * Latency is log-normal with median {@code latency} and 99th percentile {@code latencyP99},
+         * the long-tailed shape observed for model calls.
+         */
+        LOG_NORMAL
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for asynchronous goal creation.
+ * <p>
+ * Bounds the executor that runs AI plan generation off the request thread
+ * and the in-memory store that keeps job results for polling.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.goal.creation-jobs")
+public class GoalCreationJobProperties {
+
+    /**
+     * Maximum number of plans generated concurrently.
+     */
+    private int concurrency = 8;
+
+    /**
+     * Number of accepted jobs that may wait for a free worker before new jobs are rejected.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * How long a finished job stays available to the polling endpoint.
+     */
+    private Duration retention = Duration.ofMinutes(30);
+
+    /**
+     * Upper bound of jobs kept in memory.
+     */
+    private int maxStoredJobs = 10_000;
+}
@@ -0,0 +1,25 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for bulk progress log ingestion.
+ * <p>
+ * Entries are parsed from the request body one at a time and validated before anything is written,
+ * then persisted in one transaction as JDBC batches of {@code chunkSize} logs.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.progress-log.batch")
+public class ProgressLogBatchProperties {
+
+    /**
+     * Number of logs flushed per JDBC batch; should match {@code hibernate.jdbc.batch_size}.
+     */
+    private int chunkSize = 50;
+
+    /**
+     * Upper bound of entries accepted in a single request.
+     */
+    private int maxEntries = 10_000;
+}
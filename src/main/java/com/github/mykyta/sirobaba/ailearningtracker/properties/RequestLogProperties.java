@@ -0,0 +1,40 @@
+package com.github.mykyta.sirobaba.ailearningtracker.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties of the request log written by
+ * {@link com.github.mykyta.sirobaba.ailearningtracker.aspects.RequestLogAspect}.
+ * <p>
+ * Successful fast requests are sampled, while failed and slow requests are always logged,
+ * so that the log stays useful without costing a line per request at high traffic.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.request-log")
+public class RequestLogProperties {
+
+    /**
+     * Whether controller calls are logged.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Share of successful requests that are logged, from 0 to 1.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Sample rates overriding {@link #sampleRate}, by endpoint as {@code ControllerName.methodName}.
+     */
+    private Map<String, Double> endpoints = new HashMap<>();
+
+    /**
+     * Requests taking at least this long are logged whatever their sample rate.
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+}
@@ -2,13 +2,17 @@ package com.github.mykyta.sirobaba.ailearningtracker.resolvers;
 
 import com.github.mykyta.sirobaba.ailearningtracker.annotations.CurrentUser;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetails;
 import com.github.mykyta.sirobaba.ailearningtracker.services.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -18,8 +22,10 @@ import java.security.Principal;
  * Argument resolver responsible for injecting the currently authenticated user's
  * information into controller method parameters annotated with {@link CurrentUser}.
  * <p>
- * This resolver extracts the authenticated principal from the current request
- * and delegates loading of user details to {@link UserService}.
+ * This resolver extracts the authenticated principal from the current request.
+ * The user loaded by the authentication filter is converted in memory, so resolving
+ * the argument does not query the database again. Only unknown principal types are
+ * delegated to {@link UserService}, and that result is memoized for the rest of the request.
  * <p>
  * It allows controllers to receive {@link CurrentUserInfoDto} directly without
  * manually interacting with security context or JWT parsing.
@@ -34,8 +40,10 @@ import java.security.Principal;
 @Component
 @AllArgsConstructor
 public class UserArgumentResolver implements HandlerMethodArgumentResolver {
+    private static final String CURRENT_USER_ATTRIBUTE = UserArgumentResolver.class.getName() + ".CURRENT_USER";
 
     private final UserService userService;
+    private final UserMapper userMapper;
 
     /**
      * Determines whether the method parameter is supported by this resolver.
@@ -61,7 +69,8 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
      * Logic:
      * <ul>
      *     <li>Extract the {@link Principal} from the incoming request</li>
-     *     <li>If the principal exists, load the user info using {@link UserService}</li>
+     *     <li>If it wraps {@link CustomUserDetails} or {@link CurrentUserInfoDto}, build the result without a query</li>
+     *     <li>Otherwise load the user info using {@link UserService} once per request</li>
      *     <li>If the principal is null (unauthenticated request), returns null</li>
      * </ul>
      *
@@ -79,9 +88,27 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
             WebDataBinderFactory binderFactory
     ) {
         Principal principal = webRequest.getUserPrincipal();
-        return principal != null
-                ? userService.findCurrentUserInfoDto(principal.getName())
-                : null;
+        if (principal == null) {
+            return null;
+        }
+
+        if (principal instanceof Authentication authentication) {
+            if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                return userMapper.toCurrentUserInfoDto(userDetails.user());
+            }
+            if (authentication.getPrincipal() instanceof CurrentUserInfoDto currentUser) {
+                return currentUser;
+            }
+        }
+
+        Object memoized = webRequest.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memoized != null) {
+            return memoized;
+        }
+
+        CurrentUserInfoDto currentUser = userService.findCurrentUserInfoDto(principal.getName());
+        webRequest.setAttribute(CURRENT_USER_ATTRIBUTE, currentUser, RequestAttributes.SCOPE_REQUEST);
+        return currentUser;
     }
 }
 
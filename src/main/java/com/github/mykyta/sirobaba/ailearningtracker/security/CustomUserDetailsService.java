@@ -1,8 +1,14 @@
 package com.github.mykyta.sirobaba.ailearningtracker.security;
 
+import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenClaims;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenRevocationChecker;
 import com.github.mykyta.sirobaba.ailearningtracker.services.impl.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -19,10 +25,55 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserServiceImpl userService;
+    private final AccessTokenRevocationChecker revocationChecker;
+
+    @Value("${app.security.stateless-principal.enabled:false}")
+    private boolean statelessPrincipal;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userService.findByEmail(email);
         return new CustomUserDetails(user);
     }
-}
\ No newline at end of file
+
+    /**
+     * Resolves the principal for a verified access token.
+     * <p>
+     * By default the principal is built from the cached state of the user found by email. When
+     * {@code app.security.stateless-principal.enabled} is set, it is built from the token
+     * claims and a periodically refreshed security snapshot instead, so authenticated requests
+     * do not query the users table.
+     * </p>
+     * <p>
+     * Either way the principal wraps a new {@link User} that is never attached to a persistence context;
+     * it carries no password and must not be saved.
+     * </p>
+     *
+     * @param claims the verified access token claims
+     * @return the user details for the token owner
+     * @throws BadCredentialsException if the token has been revoked
+     */
+    public UserDetails loadUserByAccessToken(AccessTokenClaims claims) {
+        if (!statelessPrincipal) {
+            UserTokenStateDto state = userService.findTokenStateByEmail(claims.email());
+            return new CustomUserDetails(User.builder()
+                    .id(state.getId())
+                    .email(state.getEmail())
+                    .role(state.getRole())
+                    .username(state.getUsername())
+                    .twoFactorEnabled(state.isTwoFactorEnabled())
+                    .build());
+        }
+
+        UserTokenStateDto state = revocationChecker.findActiveState(claims)
+                .orElseThrow(() -> new BadCredentialsException(ErrorMessage.ACCESS_TOKEN_REVOKED));
+
+        return new CustomUserDetails(User.builder()
+                .id(claims.userId())
+                .email(claims.email())
+                .role(claims.role())
+                .username(state.getUsername())
+                .twoFactorEnabled(state.isTwoFactorEnabled())
+                .build());
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.mykyta.sirobaba.ailearningtracker.security.filters;
 
 import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsService;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenClaims;
 import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Created by Mykyta Sirobaba on 20.08.2025.
@@ -45,13 +47,16 @@ public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring("Bearer ".length());
-        String email = jwtTool.extractEmail(token);
+        Optional<AccessTokenClaims> claims = jwtTool.parseAccessToken(token);
 
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (claims.isEmpty()) {
+            log.warn("JWT validation failed");
+        } else if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            String email = claims.get().email();
             try {
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+                UserDetails userDetails = customUserDetailsService.loadUserByAccessToken(claims.get());
 
-                if (jwtTool.validateToken(token, userDetails)) {
+                if (email.equals(userDetails.getUsername())) {
                     UsernamePasswordAuthenticationToken authenticationToken =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
@@ -0,0 +1,21 @@
+package com.github.mykyta.sirobaba.ailearningtracker.security.jwt;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+
+import java.util.Date;
+
+/**
+ * Typed view of a verified access token.
+ * <p>
+ * Produced by {@link JwtTool#parseAccessToken(String)} after the signature and expiration
+ * have been checked, so callers never need to parse the same token twice.
+ * </p>
+ *
+ * @param email        subject of the token (user email)
+ * @param userId       id of the user the token was issued for
+ * @param role         role of the user at issue time
+ * @param tokenVersion digest of the refresh token key at issue time, {@code null} for legacy tokens
+ * @param expiresAt    expiration instant of the token
+ */
+public record AccessTokenClaims(String email, Long userId, Role role, String tokenVersion, Date expiresAt) {
+}
@@ -0,0 +1,82 @@
+package com.github.mykyta.sirobaba.ailearningtracker.security.jwt;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.UserRepo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Decides whether a verified access token has been revoked since it was issued.
+ * <p>
+ * A token is revoked when the user no longer exists, their email or role changed, or their refresh
+ * token key differs from the one the token was issued for (the embedded token version no longer matches).
+ * The refresh token key is currently only assigned at registration, so the version check guards
+ * against keys replaced directly in the database; there is no logout that rotates it. The security
+ * state of each user is loaded with a single projection query and kept in a bounded cache for
+ * {@code revocation-check-ttl-seconds}, so such changes take effect at most that long after they
+ * happen while the hot path stays free of per-request queries.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationChecker {
+
+    private final UserRepo userRepo;
+    private final Cache<Long, UserTokenStateDto> states;
+
+    public AccessTokenRevocationChecker(
+            UserRepo userRepo,
+            @Value("${app.security.stateless-principal.revocation-check-ttl-seconds:60}") long revocationCheckTtlSeconds,
+            @Value("${app.security.stateless-principal.max-cached-users:10000}") int maxCachedUsers) {
+        this.userRepo = userRepo;
+        this.states = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(revocationCheckTtlSeconds))
+                .maximumSize(maxCachedUsers)
+                .build();
+    }
+
+    /**
+     * Returns the current security state of the token owner if the token is still honoured.
+     *
+     * @param claims the verified access token claims
+     * @return the user's state, or empty if the token must be rejected
+     */
+    public Optional<UserTokenStateDto> findActiveState(AccessTokenClaims claims) {
+        Optional<UserTokenStateDto> state = currentState(claims.userId());
+
+        if (state.isEmpty()) {
+            log.warn("Access token rejected, user no longer exists: {}", claims.userId());
+            return Optional.empty();
+        }
+
+        UserTokenStateDto current = state.get();
+        boolean versionMatches = claims.tokenVersion() != null
+                                 && claims.tokenVersion().equals(JwtTool.tokenVersionOf(current.getRefreshTokenKey()));
+
+        if (!versionMatches || current.getRole() != claims.role() || !current.getEmail().equals(claims.email())) {
+            log.warn("Access token revoked for user: {}", claims.userId());
+            return Optional.empty();
+        }
+
+        return state;
+    }
+
+    /**
+     * Drops the cached state of a user so the next request re-reads it.
+     *
+     * @param userId the ID of the user whose security state changed
+     */
+    public void invalidate(Long userId) {
+        states.invalidate(userId);
+    }
+
+    private Optional<UserTokenStateDto> currentState(Long userId) {
+        return Optional.ofNullable(states.get(userId, id -> userRepo.findTokenStateById(id).orElse(null)));
+    }
+}
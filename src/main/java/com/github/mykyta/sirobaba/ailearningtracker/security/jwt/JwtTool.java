@@ -3,25 +3,40 @@ package com.github.mykyta.sirobaba.ailearningtracker.security.jwt;
 import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.Invalid2FaTokenException;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 /**
  * Created by Mykyta Sirobaba on 19.08.2025.
  * email mykyta.sirobaba@gmail.com
  */
 
+@Slf4j
 @Component
 public class JwtTool {
-    private final String jwtSecret;
+    private static final String ROLE_CLAIM = "role";
+    private static final String ID_CLAIM = "id";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final Key signingKey;
+    private final JwtParser jwtParser;
     private final Long jwtExpiration;
     private final Long refreshExpiration;
     private final Long jwt2FaToken;
@@ -30,7 +45,10 @@ public class JwtTool {
                    @Value("${accessTokenValidTimeInMillisecond}") Long jwtExpiration,
                    @Value("${refreshTokenValidTimeInMillisecond}") Long refreshExpiration,
                    @Value("${jwt2FaToken}")Long jwt2FaToken) {
-        this.jwtSecret = jwtSecret;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
         this.jwtExpiration = jwtExpiration;
         this.refreshExpiration = refreshExpiration;
         this.jwt2FaToken = jwt2FaToken;
@@ -39,11 +57,12 @@ public class JwtTool {
     public String generateAccessToken(User user) {
         return Jwts.builder()
                 .setSubject(user.getEmail())
-                .claim("role", user.getRole().name())
-                .claim("id", user.getId())
+                .claim(ROLE_CLAIM, user.getRole().name())
+                .claim(ID_CLAIM, user.getId())
+                .claim(TOKEN_VERSION_CLAIM, tokenVersionOf(user.getRefreshTokenKey()))
                 .setIssuedAt(new Date())
                 .setExpiration(getExpirationDate(jwtExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -53,21 +72,51 @@ public class JwtTool {
                 .claim("refreshKey", user.getRefreshTokenKey())
                 .setIssuedAt(new Date())
                 .setExpiration(getExpirationDate(refreshExpiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiration of an access token exactly once and returns its claims.
+     * Refresh and 2FA tokens are rejected because they do not carry the id and role claims.
+     *
+     * @param token raw JWT taken from the Authorization header
+     * @return the typed claims, or empty if the token is malformed, expired or not an access token
+     */
+    public Optional<AccessTokenClaims> parseAccessToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            Long userId = claims.get(ID_CLAIM, Long.class);
+            String role = claims.get(ROLE_CLAIM, String.class);
+
+            if (claims.getSubject() == null || userId == null || role == null) {
+                log.debug("Token is not an access token");
+                return Optional.empty();
+            }
+
+            return Optional.of(new AccessTokenClaims(
+                    claims.getSubject(),
+                    userId,
+                    Role.valueOf(role),
+                    claims.get(TOKEN_VERSION_CLAIM, String.class),
+                    claims.getExpiration()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Access token rejected: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public boolean validateToken(String token, UserDetails user) {
-        String email = extractEmail(token);
-        return email.equals(user.getUsername()) && isValid(token);
+        Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(user.getUsername()) && isValid(claims);
     }
 
     public boolean validateRefreshToken(String token, User user) {
-        String email = extractEmail(token);
-        String refreshKey = extractClaim(token, "refreshKey", String.class);
-        return email.equals(user.getEmail())
-               && refreshKey.equals(user.getRefreshTokenKey())
-               && isValid(token);
+        Claims claims = extractAllClaims(token);
+        String refreshKey = claims.get("refreshKey", String.class);
+        return claims.getSubject().equals(user.getEmail())
+               && user.getRefreshTokenKey().equals(refreshKey)
+               && isValid(claims);
     }
 
     public String generate2FaToken(User user) {
@@ -79,16 +128,12 @@ public class JwtTool {
                 .claim("authStage", "2fa_pending")
                 .setIssuedAt(new Date())
                 .setExpiration(expiration)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Long getUserIdFrom2FaToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = extractAllClaims(token);
 
         if (!"2fa_pending".equals(claims.get("authStage"))) {
             throw new Invalid2FaTokenException(ErrorMessage.INVALID_TOKEN_TYPE);
@@ -102,30 +147,47 @@ public class JwtTool {
     }
 
     public boolean isValid(String token) {
-        return extractAllClaims(token).getExpiration().after(new Date());
-
+        return isValid(extractAllClaims(token));
     }
 
     public <T> T extractClaim(String token, String claim, Class<T> type) {
         return extractAllClaims(token).get(claim, type);
     }
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-    }
-
     public long getExpirationDate(String token) {
         return extractAllClaims(token).getExpiration().getTime();
     }
+
+    /**
+     * Derives the token version embedded into access tokens from the user's refresh token key.
+     * Rotating the refresh token key therefore changes the version and revokes issued access tokens.
+     * Only a short digest is embedded so the key itself never appears in an access token.
+     *
+     * @param refreshTokenKey the user's current refresh token key
+     * @return a short URL-safe digest of the key, or {@code null} if the key is absent
+     */
+    public static String tokenVersionOf(String refreshTokenKey) {
+        if (refreshTokenKey == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(refreshTokenKey.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private boolean isValid(Claims claims) {
+        return claims.getExpiration().after(new Date());
+    }
+
     private Date getExpirationDate(long validity) {
         return new Date(System.currentTimeMillis() + validity);
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
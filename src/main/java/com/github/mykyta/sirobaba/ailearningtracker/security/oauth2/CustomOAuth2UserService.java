@@ -1,9 +1,11 @@
 package com.github.mykyta.sirobaba.ailearningtracker.security.oauth2;
 
+import com.github.mykyta.sirobaba.ailearningtracker.events.user.UserChangedEvent;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.UserRepo;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -25,6 +27,7 @@ import java.util.UUID;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepo userRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -35,15 +38,19 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         final String name = oAuth2User.getAttribute("name");
 
         User user = userRepo.findByEmail(email)
-                .orElseGet(() -> userRepo.save(User.builder()
-                        .username(name)
-                        .email(email)
-                        .password(UUID.randomUUID().toString())
-                        .provider(provider.toUpperCase())
-                        .providerId(providerId)
-                        .role(Role.USER)
-                        .refreshTokenKey(UUID.randomUUID().toString())
-                        .build()));
+                .orElseGet(() -> {
+                    User savedUser = userRepo.save(User.builder()
+                            .username(name)
+                            .email(email)
+                            .password(UUID.randomUUID().toString())
+                            .provider(provider.toUpperCase())
+                            .providerId(providerId)
+                            .role(Role.USER)
+                            .refreshTokenKey(UUID.randomUUID().toString())
+                            .build());
+                    eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getEmail()));
+                    return savedUser;
+                });
 
         return new DefaultOAuth2User(
                 Collections.singleton(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())),
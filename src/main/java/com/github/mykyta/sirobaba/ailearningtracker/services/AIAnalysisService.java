@@ -3,8 +3,10 @@ package com.github.mykyta.sirobaba.ailearningtracker.services;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisDetailsDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Created by Mykyta Sirobaba on 30.10.2025.
@@ -22,6 +24,18 @@ public interface AIAnalysisService {
      */
     AIAnalysisDetailsDto createAIAnalysis(Long userId, AIAnalysisRequestDto aiAnalysisRequestDto, Long goalId);
 
+    /**
+     * Creates a new AI-based analysis for the user's goal progress and streams the model
+     * output to the client as Server-Sent Events while it is generated.
+     * The analysis is persisted once the stream completes.
+     *
+     * @param userId ID of the authenticated user
+     * @param aiAnalysisRequestDto request containing analysis settings (e.g., log limit)
+     * @param goalId ID of the goal for which analysis is being created
+     * @return emitter delivering response chunks followed by the created analysis
+     */
+    SseEmitter streamAIAnalysis(Long userId, AIAnalysisRequestDto aiAnalysisRequestDto, Long goalId);
+
     /**
      * Retrieves a specific AI analysis for the given user and goal.
      *
@@ -42,6 +56,17 @@ public interface AIAnalysisService {
      */
     PageResponse<AIAnalysisResponseDto> getAIAnalyses(Long userId, Long goalId, Pageable pageable);
 
+    /**
+     * Returns a keyset-paginated slice of AI analyses for the given goal.
+     *
+     * @param userId ID of the authenticated user
+     * @param goalId ID of the goal to list analyses for
+     * @param cursor opaque cursor of the previous slice, or {@code null} for the first one
+     * @param size maximum number of analyses in the slice
+     * @return slice of analyses with the cursor of the next slice
+     */
+    CursorPageResponse<AIAnalysisResponseDto> getAIAnalyses(Long userId, Long goalId, String cursor, int size);
+
     /**
      * Deletes an AI analysis that belongs to the given user and goal.
      *
@@ -6,6 +6,8 @@ import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalReq
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
 
+import reactor.core.publisher.Flux;
+
 import java.util.List;
 
 /**
@@ -35,5 +37,54 @@ public interface AIService {
     AiAnalysisOfProgressLogDto analyseProgressLog(List<ProgressLogContentDto> progressLogContentDtos,
                                                   String description,
                                                   List<Subgoal> subgoals);
-}
 
+    /**
+     * Streams the AI analysis of user progress logs chunk by chunk as the model generates it.
+     * The concatenated chunks form the same response that {@link #analyseProgressLog} would parse.
+     *
+     * @param progressLogContentDtos list of progress entries made by the user
+     * @param description description of the parent goal
+     * @param subgoals list of subgoals under the parent goal
+     * @return flux of raw response chunks
+     */
+    Flux<String> streamProgressLogAnalysis(List<ProgressLogContentDto> progressLogContentDtos,
+                                           String description,
+                                           List<Subgoal> subgoals);
+
+    /**
+     * Updates a previous AI analysis with progress logs added since it was made, without
+     * re-sending the logs and subgoals it was already built from.
+     *
+     * @param newProgressLogContentDtos progress entries added since the previous analysis
+     * @param description description of the parent goal
+     * @param previousAnalysis text of the previous analysis
+     * @return AI-generated analysis of the user's progress, including recommendations
+     */
+    AiAnalysisOfProgressLogDto analyseProgressLogChanges(List<ProgressLogContentDto> newProgressLogContentDtos,
+                                                         String description,
+                                                         String previousAnalysis);
+
+    /**
+     * Streams the update of a previous AI analysis chunk by chunk as the model generates it.
+     * The concatenated chunks form the same response that {@link #analyseProgressLogChanges} would parse.
+     *
+     * @param newProgressLogContentDtos progress entries added since the previous analysis
+     * @param description description of the parent goal
+     * @param previousAnalysis text of the previous analysis
+     * @return flux of raw response chunks
+     */
+    Flux<String> streamProgressLogChangesAnalysis(List<ProgressLogContentDto> newProgressLogContentDtos,
+                                                  String description,
+                                                  String previousAnalysis);
+
+    /**
+     * Parses a complete AI response, e.g. one assembled from {@link #streamProgressLogAnalysis},
+     * into a progress log analysis.
+     *
+     * @param templateName name of the template the analysis prompt was rendered from
+     * @param aiResponse full AI response text
+     * @param description description of the parent goal
+     * @return parsed analysis of the user's progress
+     */
+    AiAnalysisOfProgressLogDto parseProgressLogAnalysis(String templateName, String aiResponse, String description);
+}
@@ -0,0 +1,30 @@
+package com.github.mykyta.sirobaba.ailearningtracker.services;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+
+/**
+ * Service for creating goals asynchronously, without holding the request thread
+ * while the AI plan is generated.
+ */
+public interface GoalCreationJobService {
+
+    /**
+     * Method for accepting a goal creation request and scheduling it on the background executor.
+     *
+     * @param goalRequestDto - request body containing goal data.
+     * @param user           - information about the current user.
+     * @return GoalCreationJobDto describing the accepted job.
+     */
+    GoalCreationJobDto submit(GoalRequestDto goalRequestDto, CurrentUserInfoDto user);
+
+    /**
+     * Method for retrieving the current state of a goal creation job.
+     *
+     * @param jobId  - id of the job.
+     * @param userId - id of the user who submitted the job.
+     * @return GoalCreationJobDto with the job status and, once completed, the created goal.
+     */
+    GoalCreationJobDto getJob(String jobId, Long userId);
+}
@@ -1,8 +1,10 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services;
 
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
@@ -23,6 +25,15 @@ public interface GoalService {
      */
     GoalResponseDto createGoal(GoalRequestDto goalRequestDto, CurrentUserInfoDto user);
 
+    /**
+     * Method for persisting a goal from an already generated AI plan.
+     *
+     * @param aiPlanResponseDto - AI-generated plan with the main goal and its subgoals.
+     * @param user              - information about the goal owner.
+     * @return GoalResponseDto representing the created goal.
+     */
+    GoalResponseDto createGoalFromPlan(AiPlanResponseDto aiPlanResponseDto, CurrentUserInfoDto user);
+
     /**
      * Method for retrieving all non-completed user goals with pagination.
      *
@@ -32,6 +43,16 @@ public interface GoalService {
      */
     PageResponse<GoalSummaryDto> getAllGoals(Pageable pageable, Long userId);
 
+    /**
+     * Method for retrieving non-completed user goals with keyset pagination.
+     *
+     * @param cursor - opaque cursor of the previous slice, or null for the first one.
+     * @param size   - maximum number of goals in the slice.
+     * @param userId - id of the user.
+     * @return CursorPageResponse of goals and the cursor of the next slice.
+     */
+    CursorPageResponse<GoalSummaryDto> getAllGoals(String cursor, int size, Long userId);
+
     /**
      * Method for retrieving detailed data of a specific goal.
      *
@@ -59,6 +80,16 @@ public interface GoalService {
      */
     PageResponse<GoalSummaryDto> getAllCompletedGoals(Pageable pageable, Long userId);
 
+    /**
+     * Method for retrieving completed user goals with keyset pagination.
+     *
+     * @param cursor - opaque cursor of the previous slice, or null for the first one.
+     * @param size   - maximum number of goals in the slice.
+     * @param userId - user id.
+     * @return CursorPageResponse of completed goals and the cursor of the next slice.
+     */
+    CursorPageResponse<GoalSummaryDto> getAllCompletedGoals(String cursor, int size, Long userId);
+
     /**
      * Method for retrieving a goal by id and user id.
      *
@@ -68,6 +99,23 @@ public interface GoalService {
      */
     Goal findByIdAndUserId(Long goalId, Long userId);
 
+    /**
+     * Method for checking that a goal belongs to a user without loading it.
+     *
+     * @param goalId - goal id.
+     * @param userId - user id.
+     */
+    void checkOwnership(Long goalId, Long userId);
+
+    /**
+     * Method for obtaining a reference to a goal without loading it,
+     * for use as the parent of a new entity.
+     *
+     * @param goalId - goal id.
+     * @return Goal entity reference.
+     */
+    Goal getReference(Long goalId);
+
     /**
      * Method for deleting a goal.
      *
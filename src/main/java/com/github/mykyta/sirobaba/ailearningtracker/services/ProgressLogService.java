@@ -1,12 +1,15 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services;
 
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogBatchResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogDetailsResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -25,6 +28,16 @@ public interface ProgressLogService {
      */
     ProgressLogResponseDto createProgressLog(Long goalId, ProgressLogRequestDto progressLog, Long userId);
 
+    /**
+     * Method for importing many progress logs for a goal at once.
+     *
+     * @param goalId - id of the goal.
+     * @param body   - request body with an NDJSON stream or a JSON array of progress log entries.
+     * @param userId - id of the user who owns the goal.
+     * @return ProgressLogBatchResponseDto with the number of created logs.
+     */
+    ProgressLogBatchResponseDto createProgressLogs(Long goalId, InputStream body, Long userId);
+
     /**
      * Method for retrieving paginated progress logs for a specific goal.
      *
@@ -35,6 +48,17 @@ public interface ProgressLogService {
      */
     PageResponse<ProgressLogResponseDto> getLogsForGoal(Pageable pageable, Long goalId, Long userId);
 
+    /**
+     * Method for retrieving progress logs for a specific goal with keyset pagination.
+     *
+     * @param cursor - opaque cursor of the previous slice, or null for the first one.
+     * @param size   - maximum number of logs in the slice.
+     * @param goalId - id of the goal.
+     * @param userId - id of the user who owns the goal.
+     * @return CursorPageResponse containing progress logs and the cursor of the next slice.
+     */
+    CursorPageResponse<ProgressLogResponseDto> getLogsForGoal(String cursor, int size, Long goalId, Long userId);
+
     /**
      * Method for retrieving detailed information about a specific progress log.
      *
@@ -55,6 +79,18 @@ public interface ProgressLogService {
      */
     List<ProgressLogContentDto> getProgressLogContent(Long goalId, Long userId, Integer limit);
 
+    /**
+     * Method for retrieving content of progress logs added to the given goal after the given log,
+     * oldest added first.
+     *
+     * @param goalId     - id of the goal.
+     * @param userId     - id of the user.
+     * @param afterLogId - id of the last log that was already analysed.
+     * @param limit      - maximum number of logs to return.
+     * @return list of ProgressLogContentDto, empty if no logs were added.
+     */
+    List<ProgressLogContentDto> getProgressLogContentAfter(Long goalId, Long userId, Long afterLogId, Integer limit);
+
     /**
      * Method for deleting a progress log.
      *
@@ -0,0 +1,38 @@
+package com.github.mykyta.sirobaba.ailearningtracker.services;
+
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalNotFoundException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidStatsRangeException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDetailsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.UserStatsDto;
+
+import java.time.LocalDate;
+
+/**
+ * Service for learning statistics computed from the daily progress log rollup.
+ */
+public interface StatsService {
+
+    /**
+     * Retrieves the statistics of a user over all goals.
+     *
+     * @param userId identifier of the user
+     * @param from   first day of the daily progress, or {@code null} for 29 days before {@code to}
+     * @param to     last day of the daily progress, or {@code null} for today
+     * @return totals, streaks, totals by goal and daily progress
+     * @throws InvalidStatsRangeException if {@code from} is after {@code to} or the range is too long
+     */
+    UserStatsDto getUserStats(Long userId, LocalDate from, LocalDate to);
+
+    /**
+     * Retrieves the statistics of one goal.
+     *
+     * @param goalId identifier of the goal
+     * @param userId identifier of the goal owner
+     * @param from   first day of the daily progress, or {@code null} for 29 days before {@code to}
+     * @param to     last day of the daily progress, or {@code null} for today
+     * @return totals, streaks and daily progress of the goal
+     * @throws GoalNotFoundException      if the goal does not exist or does not belong to the user
+     * @throws InvalidStatsRangeException if {@code from} is after {@code to} or the range is too long
+     */
+    GoalStatsDetailsDto getGoalStats(Long goalId, Long userId, LocalDate from, LocalDate to);
+}
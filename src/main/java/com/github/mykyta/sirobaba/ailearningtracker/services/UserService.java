@@ -4,6 +4,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.UserNo
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.TwoFactorActivationRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.TwoFactorSetupResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
 
 /**
@@ -30,6 +31,26 @@ public interface UserService {
      */
     User findById(Long id);
 
+    /**
+     * Finds the security-relevant state of a user by email.
+     * <p>
+     * Served from a cache; use it instead of {@link #findByEmail} when the entity itself is not needed.
+     *
+     * @param email user email
+     * @return immutable snapshot of the user
+     * @throws UserNotFoundException if user with the given email does not exist
+     */
+    UserTokenStateDto findTokenStateByEmail(String email);
+
+    /**
+     * Returns a reference to the user with the given id without loading it,
+     * for use as the owner of a new entity.
+     *
+     * @param id user id
+     * @return user entity reference
+     */
+    User getReference(Long id);
+
     /**
      * Creates and persists a new user.
      *
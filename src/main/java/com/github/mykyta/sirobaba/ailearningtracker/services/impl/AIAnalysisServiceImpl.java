@@ -1,17 +1,23 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services.impl;
 
+import com.github.mykyta.sirobaba.ailearningtracker.constants.AiPromptsTemplateNames;
 import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiAnalysisInThisGoalNotFound;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiCallRejectedException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiJsonParseException;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisDetailsDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageCursor;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.AIAnalysis;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.AIAnalysisMapper;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.AIAnalysisRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiAnalysisStreamProperties;
 import com.github.mykyta.sirobaba.ailearningtracker.services.AIAnalysisService;
 import com.github.mykyta.sirobaba.ailearningtracker.services.AIService;
 import com.github.mykyta.sirobaba.ailearningtracker.services.GoalService;
@@ -20,9 +26,17 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -37,15 +51,28 @@ import java.util.List;
 @AllArgsConstructor
 public class AIAnalysisServiceImpl implements AIAnalysisService {
 
+    public static final String TOKEN_EVENT = "token";
+    public static final String ANALYSIS_EVENT = "analysis";
+    public static final String ERROR_EVENT = "error";
+
     private final AIAnalysisRepo aiAnalysisRepo;
     private final ProgressLogService progressLogService;
     private final GoalService goalService;
     private final AIService aiService;
     private final AIAnalysisMapper aiAnalysisMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AiAnalysisStreamProperties streamProperties;
 
     /**
      * Creates a new AI analysis for the given goal and user.
      * Retrieves progress logs for the goal, performs AI analysis, and persists the result.
+     * <p>
+     * The analysis is incremental: once a goal has an analysis, only the logs added after it are sent
+     * together with the previous analysis text, and if no logs were added the previous analysis is
+     * returned without calling the model.
+     * <p>
+     * The flow is split into a short read transaction, the AI call without any transaction,
+     * and a short write transaction, so no database connection is held while waiting for the model.
      *
      * @param userId ID of the user requesting the analysis
      * @param aiAnalysisRequestDto request containing analysis parameters (e.g., limit)
@@ -54,37 +81,104 @@ public class AIAnalysisServiceImpl implements AIAnalysisService {
      * @throws AiAnalysisInThisGoalNotFound if the goal does not belong to the user
      */
     @Override
-    @Transactional
     public AIAnalysisDetailsDto createAIAnalysis(Long userId,
                                                  AIAnalysisRequestDto aiAnalysisRequestDto,
                                                  Long goalId) {
         log.info("Creating AI analysis: userId={}, goalId={}, limit={}",
                 userId, goalId, aiAnalysisRequestDto.getLimit());
 
-        List<ProgressLogContentDto> progressLogContentDto =
-                progressLogService.getProgressLogContent(goalId, userId, aiAnalysisRequestDto.getLimit());
-        log.debug("Retrieved {} progress logs for goalId={}", progressLogContentDto.size(), goalId);
-
-        Goal goal = goalService.findByIdAndUserId(goalId, userId);
-        log.info("Goal found for analysis: {}", goal.getId());
+        AnalysisInput input = transactionTemplate.execute(status -> loadAnalysisInput(
+                userId, goalId, aiAnalysisRequestDto.getLimit()));
+        if (input.isUpToDate()) {
+            log.info("No new progress logs since analysis id={}, returning it", input.previous().getId());
+            return aiAnalysisMapper.toAIAnalysisDetailsDto(input.previous());
+        }
+        Goal goal = input.goal();
 
-        AiAnalysisOfProgressLogDto result = aiService.analyseProgressLog(
-                progressLogContentDto,
-                goal.getDescription(),
-                goal.getSubgoals()
-        );
+        AiAnalysisOfProgressLogDto result = input.isIncremental()
+                ? aiService.analyseProgressLogChanges(
+                        input.progressLogs(),
+                        goal.getDescription(),
+                        input.previous().getAnalysisText())
+                : aiService.analyseProgressLog(
+                        input.progressLogs(),
+                        goal.getDescription(),
+                        goal.getSubgoals());
 
         log.debug("AI analysis completed for goalId={}", goalId);
 
-        AIAnalysis aiAnalysis = aiAnalysisMapper.toAIAnalysis(result);
-        aiAnalysis.setGoal(goal);
+        AIAnalysis aiAnalysis = toAIAnalysis(result, input);
 
-        AIAnalysis saved = aiAnalysisRepo.save(aiAnalysis);
+        AIAnalysis saved = transactionTemplate.execute(status -> aiAnalysisRepo.save(aiAnalysis));
         log.info("AI analysis saved with id={}", saved.getId());
 
         return aiAnalysisMapper.toAIAnalysisDetailsDto(saved);
     }
 
+    /**
+     * Creates a new AI analysis for the given goal and streams the model output as Server-Sent Events.
+     * <p>
+     * Ownership and input are checked before the stream opens, so a missing goal is still reported
+     * as a regular error response. Like {@link #createAIAnalysis}, only logs added after the previous
+     * analysis are sent; if there are none, the previous analysis is sent as the only
+     * {@value #ANALYSIS_EVENT} event without calling the model. Each response chunk is sent as a {@value #TOKEN_EVENT} event;
+     * when the model finishes, the assembled response is parsed, persisted and sent as a single
+     * {@value #ANALYSIS_EVENT} event. A failure after the stream has opened is sent as an
+     * {@value #ERROR_EVENT} event. The generation is cancelled if the client disconnects
+     * or the stream times out.
+     *
+     * @param userId ID of the user requesting the analysis
+     * @param aiAnalysisRequestDto request containing analysis parameters (e.g., limit)
+     * @param goalId ID of the goal to analyze
+     * @return emitter that delivers the analysis events
+     * @throws AiAnalysisInThisGoalNotFound if the goal does not belong to the user
+     */
+    @Override
+    public SseEmitter streamAIAnalysis(Long userId,
+                                       AIAnalysisRequestDto aiAnalysisRequestDto,
+                                       Long goalId) {
+        log.info("Streaming AI analysis: userId={}, goalId={}, limit={}",
+                userId, goalId, aiAnalysisRequestDto.getLimit());
+
+        AnalysisInput input = transactionTemplate.execute(status -> loadAnalysisInput(
+                userId, goalId, aiAnalysisRequestDto.getLimit()));
+        Goal goal = input.goal();
+
+        SseEmitter emitter = new SseEmitter(streamProperties.getTimeout().toMillis());
+        if (input.isUpToDate()) {
+            log.info("No new progress logs since analysis id={}, streaming it", input.previous().getId());
+            sendAnalysis(emitter, input.previous(), goalId);
+            return emitter;
+        }
+        StringBuilder response = new StringBuilder();
+
+        Flux<String> chunks = input.isIncremental()
+                ? aiService.streamProgressLogChangesAnalysis(
+                        input.progressLogs(),
+                        goal.getDescription(),
+                        input.previous().getAnalysisText())
+                : aiService.streamProgressLogAnalysis(
+                        input.progressLogs(),
+                        goal.getDescription(),
+                        goal.getSubgoals());
+
+        Disposable generation = chunks
+                .publishOn(Schedulers.boundedElastic())
+                .subscribe(
+                        chunk -> {
+                            response.append(chunk);
+                            send(emitter, SseEmitter.event().name(TOKEN_EVENT).data(chunk));
+                        },
+                        error -> failStream(emitter, goalId, error),
+                        () -> completeStream(emitter, response.toString(), input)
+                );
+
+        emitter.onTimeout(generation::dispose);
+        emitter.onError(error -> generation.dispose());
+        emitter.onCompletion(generation::dispose);
+        return emitter;
+    }
+
     /**
      * Retrieves a single AI analysis by its ID for the given user's goal.
      *
@@ -96,13 +190,13 @@ public class AIAnalysisServiceImpl implements AIAnalysisService {
      */
     @Override
     public AIAnalysisDetailsDto getAIAnalysis(Long userId, Long analysisId, Long goalId) {
-        log.info("Retrieving AI analysis: userId={}, analysisId={}, goalId={}", userId, analysisId, goalId);
+        log.debug("Retrieving AI analysis: userId={}, analysisId={}, goalId={}", userId, analysisId, goalId);
 
         Goal goal = goalService.findByIdAndUserId(goalId, userId);
-        log.info("Goal found: {}", goal.getId());
+        log.debug("Goal found: {}", goal.getId());
 
         AIAnalysis aiAnalysis = findByIdAndGoalId(analysisId, goal.getId());
-        log.info("Analysis found: {}", aiAnalysis.getId());
+        log.debug("Analysis found: {}", aiAnalysis.getId());
 
         return aiAnalysisMapper.toAIAnalysisDetailsDto(aiAnalysis);
     }
@@ -117,7 +211,7 @@ public class AIAnalysisServiceImpl implements AIAnalysisService {
      */
     @Override
     public PageResponse<AIAnalysisResponseDto> getAIAnalyses(Long userId, Long goalId, Pageable pageable) {
-        log.info("Retrieving paginated AI analyses: userId={}, goalId={}, page={}", userId, goalId, pageable.getPageNumber());
+        log.debug("Retrieving paginated AI analyses: userId={}, goalId={}, page={}", userId, goalId, pageable.getPageNumber());
 
         Page<AIAnalysisResponseDto> page =
                 aiAnalysisRepo.findByIdAndUserIdAndGoalId(userId, goalId, pageable);
@@ -126,6 +220,37 @@ public class AIAnalysisServiceImpl implements AIAnalysisService {
         return PageResponse.from(page);
     }
 
+    /**
+     * Retrieves a keyset-paginated slice of AI analyses for the given user's goal.
+     * <p>
+     * Seeks past {@code (createdAt, id)} of the cursor instead of skipping rows,
+     * and does not count the total number of analyses.
+     *
+     * @param userId ID of the user
+     * @param goalId ID of the goal
+     * @param cursor opaque cursor of the previous slice, or {@code null} for the first one
+     * @param size maximum number of analyses in the slice
+     * @return slice of AI analysis summaries with the cursor of the next slice
+     */
+    @Override
+    public CursorPageResponse<AIAnalysisResponseDto> getAIAnalyses(Long userId, Long goalId, String cursor, int size) {
+        log.debug("Retrieving AI analysis slice: userId={}, goalId={}", userId, goalId);
+
+        PageCursor after = PageCursor.decode(cursor);
+        List<AIAnalysisResponseDto> rows = after == null
+                ? aiAnalysisRepo.findFirstByUserIdAndGoalId(userId, goalId, CursorPageResponse.probe(size))
+                : aiAnalysisRepo.findByUserIdAndGoalIdAfter(
+                        userId,
+                        goalId,
+                        after.positionAsDateTime(),
+                        after.id(),
+                        CursorPageResponse.probe(size)
+                );
+        log.debug("Retrieved {} analyses for goalId={}", rows.size(), goalId);
+
+        return CursorPageResponse.from(rows, size, analysis -> PageCursor.of(analysis.getCreatedAt(), analysis.getId()));
+    }
+
     /**
      * Deletes an AI analysis by its ID for the given user's goal.
      *
@@ -163,4 +288,182 @@ public class AIAnalysisServiceImpl implements AIAnalysisService {
                     );
                 });
     }
-}
\ No newline at end of file
+
+    /**
+     * Parses and persists the assembled analysis, then sends it as the final stream event.
+     *
+     * @param emitter    emitter of the analysis stream
+     * @param aiResponse complete model response
+     * @param input      input the analysis was generated from
+     */
+    private void completeStream(SseEmitter emitter, String aiResponse, AnalysisInput input) {
+        Goal goal = input.goal();
+        try {
+            AiAnalysisOfProgressLogDto result = aiService.parseProgressLogAnalysis(
+                    input.templateName(), aiResponse, goal.getDescription());
+
+            AIAnalysis aiAnalysis = toAIAnalysis(result, input);
+
+            AIAnalysis saved = transactionTemplate.execute(status -> aiAnalysisRepo.save(aiAnalysis));
+            log.info("Streamed AI analysis saved with id={}", saved.getId());
+
+            sendAnalysis(emitter, saved, goal.getId());
+        } catch (RuntimeException e) {
+            failStream(emitter, goal.getId(), e);
+        }
+    }
+
+    /**
+     * Sends an analysis as the final stream event and closes the stream.
+     *
+     * @param emitter  emitter of the analysis stream
+     * @param analysis persisted analysis
+     * @param goalId   ID of the analysed goal
+     */
+    private void sendAnalysis(SseEmitter emitter, AIAnalysis analysis, Long goalId) {
+        try {
+            send(emitter, SseEmitter.event()
+                    .name(ANALYSIS_EVENT)
+                    .data(aiAnalysisMapper.toAIAnalysisDetailsDto(analysis), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (RuntimeException e) {
+            failStream(emitter, goalId, e);
+        }
+    }
+
+    /**
+     * Maps the model result to a new analysis of the goal, recording the newest log it covers.
+     *
+     * @param result parsed model result
+     * @param input  input the analysis was generated from
+     * @return analysis entity ready to be saved
+     */
+    private AIAnalysis toAIAnalysis(AiAnalysisOfProgressLogDto result, AnalysisInput input) {
+        AIAnalysis aiAnalysis = aiAnalysisMapper.toAIAnalysis(result);
+        aiAnalysis.setGoal(input.goal());
+        aiAnalysis.setLastProgressLogId(input.lastProgressLogId());
+        return aiAnalysis;
+    }
+
+    /**
+     * Reports a failure to the client, if it is still connected, and closes the stream.
+     * Only messages built from {@link ErrorMessage} constants reach the client; the details
+     * of any other failure are only logged.
+     *
+     * @param emitter emitter of the analysis stream
+     * @param goalId  ID of the analysed goal
+     * @param error   cause of the failure
+     */
+    private void failStream(SseEmitter emitter, Long goalId, Throwable error) {
+        log.error("AI analysis stream failed for goalId={}", goalId, error);
+        try {
+            emitter.send(SseEmitter.event().name(ERROR_EVENT).data(clientMessage(error)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Could not report stream failure for goalId={}: {}", goalId, e.getMessage());
+        }
+        emitter.complete();
+    }
+
+    /**
+     * Maps a stream failure to the message sent to the client.
+     *
+     * @param error cause of the failure
+     * @return message safe to show to the client
+     */
+    private static String clientMessage(Throwable error) {
+        if (error instanceof AiCallRejectedException) {
+            return error.getMessage();
+        }
+        if (error instanceof AiJsonParseException) {
+            return ErrorMessage.AI_ANALYSIS_NOT_GENERATED;
+        }
+        return ErrorMessage.UNEXPECTED_SERVER_ERROR;
+    }
+
+    /**
+     * Sends a single event, turning a client disconnect into an error of the AI stream.
+     *
+     * @param emitter emitter of the analysis stream
+     * @param event   event to send
+     */
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Loads everything the AI analysis needs: the goal with its subgoals, its previous analysis
+     * and the progress logs to analyse.
+     * <p>
+     * If the previous analysis records the newest log it covers, only logs added after that one
+     * are loaded, oldest added first, and the watermark moves to the last of them, so logs beyond
+     * {@code limit} or backdated ones are picked up by a later analysis rather than skipped.
+     * Otherwise the latest logs are loaded for a full analysis.
+     *
+     * @param userId ID of the user
+     * @param goalId ID of the goal
+     * @param limit  maximum number of progress logs to include
+     * @return input for the AI analysis
+     */
+    private AnalysisInput loadAnalysisInput(Long userId, Long goalId, Integer limit) {
+        Goal goal = goalService.findByIdAndUserId(goalId, userId);
+        log.debug("Goal found for analysis: {}", goal.getId());
+
+        AIAnalysis previous = aiAnalysisRepo.findFirstByGoalIdOrderByCreatedAtDescIdDesc(goal.getId())
+                .filter(analysis -> analysis.getLastProgressLogId() != null)
+                .orElse(null);
+
+        List<ProgressLogContentDto> progressLogContentDto = previous == null
+                ? progressLogService.getProgressLogContent(goalId, userId, limit)
+                : progressLogService.getProgressLogContentAfter(goalId, userId, previous.getLastProgressLogId(), limit);
+        log.debug("Retrieved {} progress logs for goalId={}, previous analysis id={}",
+                progressLogContentDto.size(), goalId, previous == null ? null : previous.getId());
+
+        Long lastProgressLogId = previous == null ? null : previous.getLastProgressLogId();
+        if (previous != null) {
+            // Delta logs come in id order, so the last one bounds exactly what this analysis consumes
+            if (!progressLogContentDto.isEmpty()) {
+                lastProgressLogId = progressLogContentDto.get(progressLogContentDto.size() - 1).getId();
+            }
+        } else {
+            for (ProgressLogContentDto content : progressLogContentDto) {
+                if (content.getId() != null && (lastProgressLogId == null || content.getId() > lastProgressLogId)) {
+                    lastProgressLogId = content.getId();
+                }
+            }
+        }
+
+        return new AnalysisInput(progressLogContentDto, goal, previous, lastProgressLogId);
+    }
+
+    /**
+     * Data read in the first transaction of {@link #createAIAnalysis}.
+     *
+     * @param progressLogs      progress log contents sent to the AI
+     * @param goal              analysed goal with its subgoals initialized
+     * @param previous          previous analysis the new one builds on, or {@code null} for a full analysis
+     * @param lastProgressLogId highest progress log id covered once the new analysis is made
+     */
+    private record AnalysisInput(List<ProgressLogContentDto> progressLogs,
+                                 Goal goal,
+                                 AIAnalysis previous,
+                                 Long lastProgressLogId) {
+
+        boolean isIncremental() {
+            return previous != null;
+        }
+
+        boolean isUpToDate() {
+            return previous != null && progressLogs.isEmpty();
+        }
+
+        String templateName() {
+            return isIncremental()
+                    ? AiPromptsTemplateNames.UPDATE_ANALYSE_PROGRESS_LOGS
+                    : AiPromptsTemplateNames.CREATE_ANALYSE_PROGRESS_LOGS;
+        }
+    }
+}
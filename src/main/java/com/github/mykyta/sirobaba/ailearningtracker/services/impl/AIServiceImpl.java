@@ -1,29 +1,50 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.cache.AiResponseCache;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.json.JsonExtractor;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.metrics.AiMetrics;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.prompt.PromptFormats;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.prompt.ResponseSchemas;
 import com.github.mykyta.sirobaba.ailearningtracker.configs.AiTemplateConfig;
+import com.github.mykyta.sirobaba.ailearningtracker.configs.AiTemplateConfig.PlanGenerationMode;
+import com.github.mykyta.sirobaba.ailearningtracker.configs.AiTemplateConfig.ResponseFormat;
 import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
 import com.github.mykyta.sirobaba.ailearningtracker.constants.AiPromptsTemplateNames;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiCallRejectedException;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiJsonParseException;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalValidationException;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.GoalAiResultDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.PlanAiResultDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.SubgoalListAiResultDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiJsonRepairProperties;
 import com.github.mykyta.sirobaba.ailearningtracker.services.AIService;
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.http.MediaType;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 
 /**
  * Service implementation for interacting with the AI model to generate learning plans
@@ -40,9 +61,17 @@ public class AIServiceImpl implements AIService {
     private final ChatClient chatClient;
     private final AiTemplateConfig aiTemplateConfig;
     private final ObjectMapper objectMapper;
+    private final AiResponseCache aiResponseCache;
+    private final AiJsonRepairProperties jsonRepairProperties;
+    private final AiMetrics aiMetrics;
 
     /**
      * Creates a complete learning plan including main goal and subgoals.
+     * <p>
+     * The generation strategy is selected by {@link AiTemplateConfig#getPlanGenerationMode()}:
+     * sequential (main goal, then subgoals derived from it), parallel (subgoals are generated
+     * from the raw user prompt on a virtual thread while the main goal is summarized), or
+     * combined (a single prompt returns both).
      *
      * @param goalRequestDto user-provided goal request
      * @return AI-generated learning plan response
@@ -51,10 +80,39 @@ public class AIServiceImpl implements AIService {
      */
     @Override
     public AiPlanResponseDto createLearningPlan(GoalRequestDto goalRequestDto) {
-        log.info("Creating learning plan for goal: {}", goalRequestDto.getTitle());
-
-        GoalAiResultDto goalAiResultDto = createMainGoal(goalRequestDto);
-        SubgoalListAiResultDto subgoalListResult = createSubgoal(goalAiResultDto);
+        PlanGenerationMode mode = Objects.requireNonNullElse(
+                aiTemplateConfig.getPlanGenerationMode(), PlanGenerationMode.SEQUENTIAL);
+        log.debug("Creating learning plan for goal: {}, mode={}", goalRequestDto.getTitle(), mode);
+
+        GoalAiResultDto goalAiResultDto;
+        SubgoalListAiResultDto subgoalListResult;
+        switch (mode) {
+            case PARALLEL -> {
+                try (ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                        Executors.newVirtualThreadPerTaskExecutor())) {
+                    Future<SubgoalListAiResultDto> subgoals =
+                            executor.submit(() -> createSubgoalFromGoal(goalRequestDto));
+                    Future<GoalAiResultDto> mainGoal = executor.submit(() -> createMainGoal(goalRequestDto));
+                    goalAiResultDto = await(mainGoal, subgoals);
+                    subgoalListResult = await(subgoals, mainGoal);
+                }
+            }
+            case COMBINED -> {
+                PlanAiResultDto combined = createCombinedPlan(goalRequestDto);
+                goalAiResultDto = GoalAiResultDto.builder()
+                        .generalGoal(combined.getGeneralGoal())
+                        .difficulty(combined.getDifficulty())
+                        .deadline(goalRequestDto.getDeadline())
+                        .build();
+                subgoalListResult = SubgoalListAiResultDto.builder()
+                        .subGoals(combined.getSubGoals())
+                        .build();
+            }
+            default -> {
+                goalAiResultDto = createMainGoal(goalRequestDto);
+                subgoalListResult = createSubgoal(goalAiResultDto);
+            }
+        }
         validateDeadline(goalAiResultDto, subgoalListResult, goalRequestDto);
 
         AiPlanResponseDto plan = AiPlanResponseDto.builder()
@@ -78,33 +136,14 @@ public class AIServiceImpl implements AIService {
      */
     private GoalAiResultDto createMainGoal(GoalRequestDto goalRequestDto) {
         log.debug("Generating main goal for user input: {}", goalRequestDto.getPrompt());
-        String template = aiTemplateConfig.getTemplate(AiPromptsTemplateNames.CREATE_MAIN_GOAL);
-        String goal = goalRequestDto.getPrompt() != null ? goalRequestDto.getPrompt() : "";
-
-        String promptText = template.replace("{{goal}}", goal);
-
-        String aiResponse = chatClient
-                .prompt(promptText)
-                .call()
-                .content();
-
-        if (aiResponse == null || aiResponse.isBlank()) {
-            throw new AiJsonParseException(
-                    String.format(ErrorMessage.AI_RETURNED_EMPTY_RESPONSE, promptText)
-            );
-        }
-
-        String jsonString = getString(aiResponse);
-
-        try {
-            GoalAiResultDto result = objectMapper.readValue(jsonString, GoalAiResultDto.class);
-            result.setDeadline(goalRequestDto.getDeadline());
-            log.debug("Main goal parsed successfully: {}", result.getGeneralGoal());
-            return result;
-        } catch (Exception e) {
-            log.error("Failed to parse main goal JSON from AI response: {}", aiResponse, e);
-            throw new AiJsonParseException(String.format(ErrorMessage.AI_JSON_PARSE, aiResponse));
-        }
+        String promptText = aiTemplateConfig.getCompiledTemplate(AiPromptsTemplateNames.CREATE_MAIN_GOAL)
+                .render(Map.of("goal", userGoal(goalRequestDto)));
+
+        GoalAiResultDto result = requestJson(AiPromptsTemplateNames.CREATE_MAIN_GOAL, promptText,
+                GoalAiResultDto.class, r -> r.getGeneralGoal() != null && r.getDifficulty() != null);
+        result.setDeadline(goalRequestDto.getDeadline());
+        log.debug("Main goal parsed successfully: {}", result.getGeneralGoal());
+        return result;
     }
 
     /**
@@ -116,16 +155,74 @@ public class AIServiceImpl implements AIService {
      */
     private SubgoalListAiResultDto createSubgoal(GoalAiResultDto goalAiResultDto) {
         log.debug("Generating subgoals for main goal: {}", goalAiResultDto.getGeneralGoal());
-        String template = aiTemplateConfig.getTemplate(AiPromptsTemplateNames.CREATE_SUBGOAL);
+        String promptText = aiTemplateConfig.getCompiledTemplate(AiPromptsTemplateNames.CREATE_SUBGOAL)
+                .render(Map.of(
+                        "generalGoal", goalAiResultDto.getGeneralGoal(),
+                        "difficulty", goalAiResultDto.getDifficulty().toString()));
+
+        SubgoalListAiResultDto result = requestJson(AiPromptsTemplateNames.CREATE_SUBGOAL, promptText,
+                SubgoalListAiResultDto.class, r -> r.getSubGoals() != null);
+        log.debug("Subgoals parsed successfully, count: {}", result.getSubGoals().size());
+        return result;
+    }
 
-        String promptText = template
-                .replace("{{generalGoal}}", goalAiResultDto.getGeneralGoal())
-                .replace("{{difficulty}}", goalAiResultDto.getDifficulty().toString());
+    /**
+     * Requests the AI model to generate subgoals directly from the user's goal,
+     * without waiting for the main goal summary.
+     *
+     * @param goalRequestDto user goal input
+     * @return list of parsed subgoals
+     * @throws AiJsonParseException if JSON parsing fails
+     */
+    private SubgoalListAiResultDto createSubgoalFromGoal(GoalRequestDto goalRequestDto) {
+        log.debug("Generating subgoals for user input: {}", goalRequestDto.getPrompt());
+        String promptText = aiTemplateConfig.getCompiledTemplate(AiPromptsTemplateNames.CREATE_SUBGOAL_FROM_GOAL)
+                .render(Map.of("goal", userGoal(goalRequestDto)));
+
+        SubgoalListAiResultDto result = requestJson(AiPromptsTemplateNames.CREATE_SUBGOAL_FROM_GOAL, promptText,
+                SubgoalListAiResultDto.class, r -> r.getSubGoals() != null);
+        log.debug("Subgoals parsed successfully, count: {}", result.getSubGoals().size());
+        return result;
+    }
 
-        String aiResponse = chatClient
-                .prompt(promptText)
-                .call()
-                .content();
+    /**
+     * Requests the AI model to generate the main goal and its subgoals with a single prompt.
+     *
+     * @param goalRequestDto user goal input
+     * @return parsed main goal metadata with subgoals
+     * @throws AiJsonParseException if JSON parsing fails
+     */
+    private PlanAiResultDto createCombinedPlan(GoalRequestDto goalRequestDto) {
+        log.debug("Generating combined learning plan for user input: {}", goalRequestDto.getPrompt());
+        String promptText = aiTemplateConfig.getCompiledTemplate(AiPromptsTemplateNames.CREATE_LEARNING_PLAN)
+                .render(Map.of("goal", userGoal(goalRequestDto)));
+
+        PlanAiResultDto result = requestJson(AiPromptsTemplateNames.CREATE_LEARNING_PLAN, promptText,
+                PlanAiResultDto.class,
+                r -> r.getGeneralGoal() != null && r.getDifficulty() != null && r.getSubGoals() != null);
+        log.debug("Combined plan parsed successfully: {}, subgoals: {}",
+                result.getGeneralGoal(), result.getSubGoals().size());
+        return result;
+    }
+
+    /**
+     * Sends a prompt to the AI model and parses its JSON response.
+     * <p>
+     * A response cached for an equivalent prompt is reused instead of calling the model,
+     * and a fresh response is cached only when it parses into a complete result. If the JSON had
+     * to be extracted or repaired, the clean JSON is cached instead of the raw response.
+     * A result recovered from truncated output is returned but never cached.
+     *
+     * @param templateName name of the template the prompt was rendered from
+     * @param promptText   rendered prompt
+     * @param resultType   type of the expected JSON document
+     * @param isComplete   check that all fields required by the caller are present
+     * @return parsed response
+     * @throws AiJsonParseException if the response is empty, not JSON or incomplete
+     */
+    private <T> T requestJson(String templateName, String promptText, Class<T> resultType, Predicate<T> isComplete) {
+        Optional<String> cachedResponse = aiResponseCache.get(templateName, promptText);
+        String aiResponse = cachedResponse.orElseGet(() -> callModel(templateName, promptText, resultType));
 
         if (aiResponse == null || aiResponse.isBlank()) {
             throw new AiJsonParseException(
@@ -133,18 +230,155 @@ public class AIServiceImpl implements AIService {
             );
         }
 
-        String jsonString = getString(aiResponse);
+        ParsedJson<T> parsed = parseJson(templateName, aiResponse, resultType, isComplete);
+
+        if (parsed.cacheable() && (cachedResponse.isEmpty() || !parsed.json().equals(aiResponse))) {
+            aiResponseCache.put(templateName, promptText, parsed.json());
+        }
+        return parsed.result();
+    }
 
+    /**
+     * Parses a JSON document out of an AI response, repairing it if necessary.
+     * <p>
+     * With {@link ResponseFormat#SCHEMA} the response is expected to be the JSON document itself
+     * and is read directly. Otherwise, or if it does not read into a complete result,
+     * the JSON object is located with {@link JsonExtractor}, which tolerates text around it and
+     * truncated output. If that does not yield a complete result, or the output was truncated, only the
+     * broken output is sent back with the {@code repairJson} prompt, at most
+     * {@link AiJsonRepairProperties#getMaxAttempts()} times, instead of failing the request and repeating
+     * the whole generation. Only when no repair succeeds is the first result read from truncated output
+     * used, marked as not cacheable.
+     *
+     * @param templateName name of the template the response was generated from, used for logging
+     * @param aiResponse   raw AI response
+     * @param resultType   type of the expected JSON document
+     * @param isComplete   check that all fields required by the caller are present
+     * @return parsed result with the JSON it was read from
+     * @throws AiJsonParseException if neither the response nor its repairs contain a complete result
+     */
+    private <T> ParsedJson<T> parseJson(String templateName,
+                                        String aiResponse,
+                                        Class<T> resultType,
+                                        Predicate<T> isComplete) {
+        if (usesResponseSchema()) {
+            T direct = readJson(aiResponse, resultType);
+            if (direct != null && isComplete.test(direct)) {
+                aiMetrics.recordParse(templateName, AiMetrics.PARSE_DIRECT);
+                return new ParsedJson<>(direct, aiResponse, true);
+            }
+        }
+
+        String response = aiResponse;
+        ParsedJson<T> truncated = null;
+        for (int attempt = 0; ; attempt++) {
+            Optional<JsonExtractor.ExtractedJson> json = JsonExtractor.extractObject(response);
+            Optional<T> result = json.map(extracted -> readJson(extracted.json(), resultType)).filter(isComplete);
+            if (result.isPresent() && !json.get().truncated()) {
+                if (attempt > 0) {
+                    log.info("Repaired {} JSON after {} attempt(s)", templateName, attempt);
+                }
+                aiMetrics.recordParse(templateName, attempt > 0 ? AiMetrics.PARSE_REPAIRED : AiMetrics.PARSE_EXTRACTED);
+                return new ParsedJson<>(result.get(), json.get().json(), true);
+            }
+            if (result.isPresent() && truncated == null) {
+                truncated = new ParsedJson<>(result.get(), json.get().json(), false);
+            }
+
+            String repaired = attempt < jsonRepairProperties.getMaxAttempts()
+                    ? requestRepair(templateName, response)
+                    : null;
+            if ((repaired == null || repaired.isBlank()) && truncated != null) {
+                log.warn("Using {} JSON recovered from truncated output, it is not cached", templateName);
+                aiMetrics.recordParse(templateName, AiMetrics.PARSE_TRUNCATED);
+                return truncated;
+            }
+            if (repaired == null || repaired.isBlank()) {
+                log.error("Failed to parse {} JSON from AI response: {}", templateName, aiResponse);
+                aiMetrics.recordParse(templateName, AiMetrics.PARSE_FAILED);
+                throw new AiJsonParseException(String.format(
+                        response.indexOf('{') < 0 ? ErrorMessage.AI_NOT_RETURN_JSON : ErrorMessage.AI_JSON_PARSE,
+                        response));
+            }
+            response = repaired;
+        }
+    }
+
+    /**
+     * Reads a JSON document, treating any failure as a missing result.
+     *
+     * @param json       JSON text
+     * @param resultType type of the expected JSON document
+     * @return parsed document, or {@code null} if it cannot be read
+     */
+    private <T> T readJson(String json, Class<T> resultType) {
         try {
-            SubgoalListAiResultDto result = objectMapper.readValue(jsonString, SubgoalListAiResultDto.class);
-            log.debug("Subgoals parsed successfully, count: {}", result.getSubGoals().size());
-            return result;
+            return objectMapper.readValue(json, resultType);
         } catch (Exception e) {
-            log.error("Failed to parse subgoals JSON from AI response: {}", aiResponse, e);
-            throw new AiJsonParseException(String.format(ErrorMessage.AI_JSON_PARSE, aiResponse));
+            log.debug("Failed to read {} from AI JSON: {}", resultType.getSimpleName(), e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * Asks the model to fix a broken JSON response, sending only the broken output.
+     *
+     * @param templateName   name of the template the response was generated from, used for logging
+     * @param brokenResponse response that could not be parsed
+     * @return repaired response, or {@code null} if repair is disabled, the output is too long or the call failed
+     * @throws AiCallRejectedException if the call limiter rejects the repair call
+     */
+    private String requestRepair(String templateName, String brokenResponse) {
+        if (!jsonRepairProperties.isEnabled() || brokenResponse.length() > jsonRepairProperties.getMaxInputChars()) {
+            return null;
+        }
+
+        log.warn("Requesting repair of {} JSON, {} chars", templateName, brokenResponse.length());
+        String promptText = aiTemplateConfig.getCompiledTemplate(AiPromptsTemplateNames.REPAIR_JSON)
+                .render(Map.of("brokenOutput", brokenResponse));
+        aiMetrics.recordPrompt(AiPromptsTemplateNames.REPAIR_JSON, promptText);
+        try {
+            String repaired = chatClient
+                    .prompt(promptText)
+                    .call()
+                    .content();
+            aiMetrics.recordResponse(AiPromptsTemplateNames.REPAIR_JSON, repaired);
+            return repaired;
+        } catch (AiCallRejectedException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("JSON repair call for {} failed: {}", templateName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Waits for one part of a parallel plan generation and cancels the other part if this one fails.
+     *
+     * @param future  part to wait for
+     * @param sibling part generated concurrently
+     * @return result of the part
+     */
+    private static <T> T await(Future<T> future, Future<?> sibling) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            sibling.cancel(true);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sibling.cancel(true);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String userGoal(GoalRequestDto goalRequestDto) {
+        return goalRequestDto.getPrompt() != null ? goalRequestDto.getPrompt() : "";
+    }
+
     /**
      * Validates whether the user's deadline is feasible given estimated hours for subgoals.
      *
@@ -206,66 +440,230 @@ public class AIServiceImpl implements AIService {
     public AiAnalysisOfProgressLogDto analyseProgressLog(List<ProgressLogContentDto> progressLogContentDtos,
                                                          String description,
                                                          List<Subgoal> subgoals) {
-        log.info("Analyzing progress logs for goal: {}", description);
+        log.debug("Analyzing progress logs for goal: {}", description);
 
-        String template = aiTemplateConfig.getTemplate(AiPromptsTemplateNames.CREATE_ANALYSE_PROGRESS_LOGS);
+        String promptText = buildAnalysisPrompt(progressLogContentDtos, description, subgoals);
+        return requestAnalysis(AiPromptsTemplateNames.CREATE_ANALYSE_PROGRESS_LOGS, promptText, description);
+    }
 
-        String promptText = template
-                .replace("{{goalDescription}}", description)
-                .replace("{{subgoals}}", subgoals.toString())
-                .replace("{{progressLogContent}}", progressLogContentDtos.toString());
+    /**
+     * Updates a previous analysis with new progress logs using the AI model.
+     *
+     * @param newProgressLogContentDtos progress logs added since the previous analysis
+     * @param description               goal description
+     * @param previousAnalysis          text of the previous analysis
+     * @return AI-generated analysis DTO
+     * @throws AiJsonParseException if AI returns invalid JSON
+     */
+    @Override
+    public AiAnalysisOfProgressLogDto analyseProgressLogChanges(List<ProgressLogContentDto> newProgressLogContentDtos,
+                                                                String description,
+                                                                String previousAnalysis) {
+        log.debug("Analyzing {} new progress logs for goal: {}", newProgressLogContentDtos.size(), description);
 
-        String aiResponse = chatClient
-                .prompt(promptText)
-                .call()
-                .content();
+        String promptText = buildChangesAnalysisPrompt(newProgressLogContentDtos, description, previousAnalysis);
+        return requestAnalysis(AiPromptsTemplateNames.UPDATE_ANALYSE_PROGRESS_LOGS, promptText, description);
+    }
+
+    /**
+     * Streams the AI analysis of progress logs as raw response chunks.
+     *
+     * @param progressLogContentDtos progress logs to analyze
+     * @param description            goal description
+     * @param subgoals               list of subgoals
+     * @return cold flux of response chunks; the model is called on subscription
+     */
+    @Override
+    public Flux<String> streamProgressLogAnalysis(List<ProgressLogContentDto> progressLogContentDtos,
+                                                  String description,
+                                                  List<Subgoal> subgoals) {
+        log.debug("Streaming progress log analysis for goal: {}", description);
+
+        String promptText = buildAnalysisPrompt(progressLogContentDtos, description, subgoals);
+
+        return streamModel(AiPromptsTemplateNames.CREATE_ANALYSE_PROGRESS_LOGS, promptText,
+                AiAnalysisOfProgressLogDto.class);
+    }
 
+    /**
+     * Streams the update of a previous analysis as raw response chunks.
+     *
+     * @param newProgressLogContentDtos progress logs added since the previous analysis
+     * @param description               goal description
+     * @param previousAnalysis          text of the previous analysis
+     * @return cold flux of response chunks; the model is called on subscription
+     */
+    @Override
+    public Flux<String> streamProgressLogChangesAnalysis(List<ProgressLogContentDto> newProgressLogContentDtos,
+                                                         String description,
+                                                         String previousAnalysis) {
+        log.debug("Streaming analysis of {} new progress logs for goal: {}",
+                newProgressLogContentDtos.size(), description);
+
+        String promptText = buildChangesAnalysisPrompt(newProgressLogContentDtos, description, previousAnalysis);
+
+        return streamModel(AiPromptsTemplateNames.UPDATE_ANALYSE_PROGRESS_LOGS, promptText,
+                AiAnalysisOfProgressLogDto.class);
+    }
+
+    /**
+     * Parses a complete AI response into a progress log analysis.
+     *
+     * @param templateName name of the template the prompt was rendered from, used for metrics and logging
+     * @param aiResponse  full AI response text
+     * @param description goal description, used for logging and error messages
+     * @return parsed analysis with the creation time set
+     * @throws AiJsonParseException if the response is empty or not valid JSON
+     */
+    @Override
+    public AiAnalysisOfProgressLogDto parseProgressLogAnalysis(String templateName,
+                                                               String aiResponse,
+                                                               String description) {
         if (aiResponse == null || aiResponse.isBlank()) {
             throw new AiJsonParseException(
-                    String.format(ErrorMessage.AI_RETURNED_EMPTY_RESPONSE, promptText)
+                    String.format(ErrorMessage.AI_RETURNED_EMPTY_RESPONSE, description)
             );
         }
 
-        String jsonString = getString(aiResponse);
+        AiAnalysisOfProgressLogDto result = parseJson(templateName,
+                aiResponse, AiAnalysisOfProgressLogDto.class, r -> r.getAnalysisText() != null).result();
+        result.setCreatedAt(LocalDateTime.now());
+        log.info("Progress log analysis completed successfully for goal: {}", description);
+        return result;
+    }
 
-        try {
-            AiAnalysisOfProgressLogDto result =
-                    objectMapper.readValue(jsonString, AiAnalysisOfProgressLogDto.class);
-            result.setCreatedAt(LocalDateTime.now());
-            log.info("Progress log analysis completed successfully for goal: {}", description);
-            return result;
-        } catch (Exception e) {
-            log.error("Failed to parse AI analysis JSON for goal: {}", description, e);
-            throw new AiJsonParseException(String.format(ErrorMessage.AI_JSON_PARSE, aiResponse));
-        }
+    /**
+     * Renders the progress log analysis template with subgoals and logs in the compact
+     * {@link PromptFormats} representation rather than entity {@code toString()} output.
+     *
+     * @param progressLogContentDtos progress logs to analyze
+     * @param description            goal description
+     * @param subgoals               list of subgoals
+     * @return prompt text
+     */
+    private String buildAnalysisPrompt(List<ProgressLogContentDto> progressLogContentDtos,
+                                       String description,
+                                       List<Subgoal> subgoals) {
+        return aiTemplateConfig.getCompiledTemplate(AiPromptsTemplateNames.CREATE_ANALYSE_PROGRESS_LOGS)
+                .render(Map.of(
+                        "goalDescription", Objects.requireNonNullElse(description, ""),
+                        "subgoals", PromptFormats.subgoals(subgoals),
+                        "progressLogContent", PromptFormats.progressLogs(progressLogContentDtos)));
     }
 
     /**
-     * Extracts JSON from AI responses, handling markdown code fences if present.
+     * Renders the incremental analysis template with the previous analysis and only the new logs.
      *
-     * @param aiResponse raw AI response
-     * @return cleaned JSON string
-     * @throws AiJsonParseException if response is not parsable JSON
+     * @param newProgressLogContentDtos progress logs added since the previous analysis
+     * @param description               goal description
+     * @param previousAnalysis          text of the previous analysis
+     * @return prompt text
      */
-    @NotNull
-    private static String getString(String aiResponse) {
-        String jsonString = aiResponse;
-
-        if (aiResponse.trim().startsWith("```")) {
-            int startIndex = aiResponse.indexOf('{');
-            int endIndex = aiResponse.lastIndexOf('}');
-            if (startIndex != -1 && endIndex != -1 && endIndex > startIndex) {
-                jsonString = aiResponse.substring(startIndex, endIndex + 1);
-            } else {
-                throw new AiJsonParseException(
-                        String.format(ErrorMessage.AI_RETURNED_NOT_PARSABLE_CONTENT, aiResponse)
-                );
-            }
-        } else if (!aiResponse.trim().startsWith("{")) {
+    private String buildChangesAnalysisPrompt(List<ProgressLogContentDto> newProgressLogContentDtos,
+                                              String description,
+                                              String previousAnalysis) {
+        return aiTemplateConfig.getCompiledTemplate(AiPromptsTemplateNames.UPDATE_ANALYSE_PROGRESS_LOGS)
+                .render(Map.of(
+                        "goalDescription", Objects.requireNonNullElse(description, ""),
+                        "previousAnalysis", Objects.requireNonNullElse(previousAnalysis, "").strip(),
+                        "progressLogContent", PromptFormats.progressLogs(newProgressLogContentDtos)));
+    }
+
+    /**
+     * Sends an analysis prompt to the AI model and parses the response.
+     *
+     * @param templateName name of the template the prompt was rendered from
+     * @param promptText   rendered prompt
+     * @param description  goal description, used for logging and error messages
+     * @return parsed analysis
+     * @throws AiJsonParseException if the response is empty or not valid JSON
+     */
+    private AiAnalysisOfProgressLogDto requestAnalysis(String templateName, String promptText, String description) {
+        String aiResponse = callModel(templateName, promptText, AiAnalysisOfProgressLogDto.class);
+
+        if (aiResponse == null || aiResponse.isBlank()) {
             throw new AiJsonParseException(
-                    String.format(ErrorMessage.AI_NOT_RETURN_JSON, aiResponse)
+                    String.format(ErrorMessage.AI_RETURNED_EMPTY_RESPONSE, promptText)
             );
         }
-        return jsonString;
+
+        return parseProgressLogAnalysis(templateName, aiResponse, description);
+    }
+
+    /**
+     * Sends a prompt to the AI model, constraining the response to the schema of the result type
+     * when {@link ResponseFormat#SCHEMA} is configured, and records the prompt and response sizes.
+     *
+     * @param templateName name of the template the prompt was rendered from
+     * @param promptText   rendered prompt
+     * @param resultType   type of the expected JSON document
+     * @return raw response text
+     */
+    private String callModel(String templateName, String promptText, Class<?> resultType) {
+        aiMetrics.recordPrompt(templateName, promptText);
+        String aiResponse = usesResponseSchema()
+                ? chatClient
+                .prompt()
+                .user(promptText)
+                .options(schemaOptions(resultType))
+                .call()
+                .content()
+                : chatClient
+                .prompt(promptText)
+                .call()
+                .content();
+        aiMetrics.recordResponse(templateName, aiResponse);
+        return aiResponse;
+    }
+
+    /**
+     * Streaming counterpart of {@link #callModel(String, String, Class)}; the response size
+     * is recorded once the stream completes.
+     *
+     * @param templateName name of the template the prompt was rendered from
+     * @param promptText   rendered prompt
+     * @param resultType   type of the expected JSON document
+     * @return cold flux of response chunks
+     */
+    private Flux<String> streamModel(String templateName, String promptText, Class<?> resultType) {
+        Flux<String> chunks = usesResponseSchema()
+                ? chatClient
+                .prompt()
+                .user(promptText)
+                .options(schemaOptions(resultType))
+                .stream()
+                .content()
+                : chatClient
+                .prompt(promptText)
+                .stream()
+                .content();
+        return Flux.defer(() -> {
+            aiMetrics.recordPrompt(templateName, promptText);
+            StringBuilder response = new StringBuilder();
+            return chunks
+                    .doOnNext(response::append)
+                    .doOnComplete(() -> aiMetrics.recordResponse(templateName, response));
+        });
+    }
+
+    private boolean usesResponseSchema() {
+        return aiTemplateConfig.getResponseFormat() == ResponseFormat.SCHEMA;
+    }
+
+    private static GoogleGenAiChatOptions schemaOptions(Class<?> resultType) {
+        return GoogleGenAiChatOptions.builder()
+                .responseMimeType(MediaType.APPLICATION_JSON_VALUE)
+                .responseSchema(ResponseSchemas.of(resultType))
+                .build();
+    }
+
+    /**
+     * JSON document parsed from an AI response.
+     *
+     * @param result    parsed document
+     * @param json      JSON text the document was read from
+     * @param cacheable whether the document is complete, so it may be reused for equivalent prompts
+     */
+    private record ParsedJson<T>(T result, String json, boolean cacheable) {
     }
 }
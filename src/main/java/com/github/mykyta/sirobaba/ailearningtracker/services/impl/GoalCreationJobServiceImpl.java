@@ -0,0 +1,219 @@
+package com.github.mykyta.sirobaba.ailearningtracker.services.impl;
+
+import com.github.mykyta.sirobaba.ailearningtracker.configs.AsyncConfig;
+import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiCallRejectedException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiJsonParseException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalCreationJobNotFoundException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalCreationRejectedException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalValidationException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.MissingDataException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobStatus;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.GoalCreationJobProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.services.AIService;
+import com.github.mykyta.sirobaba.ailearningtracker.services.GoalCreationJobService;
+import com.github.mykyta.sirobaba.ailearningtracker.services.GoalService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for asynchronous goal creation.
+ * <p>
+ * The AI plan is generated on a bounded background executor without any transaction,
+ * then {@link GoalService#createGoalFromPlan} persists it in a short transaction.
+ * Job state is kept in memory for {@link GoalCreationJobProperties#getRetention()} so clients can poll it.
+ */
+@Slf4j
+@Service
+public class GoalCreationJobServiceImpl implements GoalCreationJobService {
+
+    private final AIService aiService;
+    private final GoalService goalService;
+    private final TaskExecutor executor;
+    private final GoalCreationJobProperties properties;
+    private final Map<String, GoalCreationJob> jobs = new ConcurrentHashMap<>();
+
+    public GoalCreationJobServiceImpl(AIService aiService,
+                                      GoalService goalService,
+                                      @Qualifier(AsyncConfig.GOAL_CREATION_EXECUTOR) TaskExecutor executor,
+                                      GoalCreationJobProperties properties) {
+        this.aiService = aiService;
+        this.goalService = goalService;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    /**
+     * Accepts a goal creation request and schedules plan generation.
+     *
+     * @param goalRequestDto DTO containing goal description and preferences
+     * @param user           current authenticated user
+     * @return DTO describing the accepted job in {@link GoalCreationJobStatus#PENDING} state
+     * @throws MissingDataException          if request data is missing
+     * @throws GoalCreationRejectedException if the executor cannot accept more jobs
+     */
+    @Override
+    public GoalCreationJobDto submit(GoalRequestDto goalRequestDto, CurrentUserInfoDto user) {
+        if (goalRequestDto == null) {
+            log.warn("Missing goal request data for email={}", user.getEmail());
+            throw new MissingDataException(ErrorMessage.GOAL_REQUESTED_IS_MISSING);
+        }
+
+        evictExpiredJobs();
+        GoalCreationJob job = new GoalCreationJob(UUID.randomUUID().toString(), user.getId());
+        jobs.put(job.jobId, job);
+
+        try {
+            executor.execute(() -> run(job, goalRequestDto, user));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.jobId);
+            log.warn("Goal creation job rejected for userId={}: executor saturated", user.getId());
+            throw new GoalCreationRejectedException(ErrorMessage.GOAL_CREATION_REJECTED);
+        }
+
+        log.info("Goal creation job accepted: jobId={}, userId={}", job.jobId, user.getId());
+        return job.toDto();
+    }
+
+    /**
+     * Retrieves a goal creation job owned by the given user.
+     *
+     * @param jobId  job identifier
+     * @param userId identifier of the job owner
+     * @return DTO with the job state
+     * @throws GoalCreationJobNotFoundException if the job does not exist, expired or belongs to another user
+     */
+    @Override
+    public GoalCreationJobDto getJob(String jobId, Long userId) {
+        GoalCreationJob job = jobs.get(jobId);
+
+        if (job == null || !job.userId.equals(userId) || job.isExpired(Instant.now().minus(properties.getRetention()))) {
+            throw new GoalCreationJobNotFoundException(
+                    String.format(ErrorMessage.GOAL_CREATION_JOB_NOT_FOUND, jobId)
+            );
+        }
+
+        return job.toDto();
+    }
+
+    /**
+     * Generates the plan and persists the goal, recording the outcome on the job.
+     *
+     * @param job            job being executed
+     * @param goalRequestDto DTO containing goal description and preferences
+     * @param user           owner of the job
+     */
+    private void run(GoalCreationJob job, GoalRequestDto goalRequestDto, CurrentUserInfoDto user) {
+        job.status = GoalCreationJobStatus.RUNNING;
+        try {
+            AiPlanResponseDto plan = aiService.createLearningPlan(goalRequestDto);
+            job.complete(goalService.createGoalFromPlan(plan, user));
+            log.info("Goal creation job completed: jobId={}, goalId={}", job.jobId, job.goal.getId());
+        } catch (RuntimeException e) {
+            job.fail(failureReason(job, e));
+        }
+    }
+
+    /**
+     * Maps a failure to the reason shown to the client. Messages of known exceptions are built
+     * from {@link ErrorMessage} constants; anything else is logged and reported generically,
+     * like the fallback of the global exception handler.
+     *
+     * @param job   job that failed
+     * @param error failure of the job
+     * @return reason stored on the job
+     */
+    private static String failureReason(GoalCreationJob job, RuntimeException error) {
+        if (error instanceof GoalValidationException
+                || error instanceof AiCallRejectedException
+                || error instanceof MissingDataException) {
+            log.warn("Goal creation job failed: jobId={}, reason={}", job.jobId, error.getMessage());
+            return error.getMessage();
+        }
+        if (error instanceof AiJsonParseException) {
+            log.warn("Goal creation job failed: jobId={}, reason={}", job.jobId, error.getMessage());
+            return ErrorMessage.AI_PLAN_NOT_GENERATED;
+        }
+        log.error("Goal creation job failed: jobId={}", job.jobId, error);
+        return ErrorMessage.UNEXPECTED_SERVER_ERROR;
+    }
+
+    /**
+     * Drops finished jobs past their retention and, if the store is still full, the oldest ones.
+     */
+    private void evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(properties.getRetention());
+        jobs.values().removeIf(job -> job.isExpired(threshold));
+
+        if (jobs.size() >= properties.getMaxStoredJobs()) {
+            jobs.values().stream()
+                    .filter(GoalCreationJob::isFinished)
+                    .sorted((a, b) -> a.createdAt.compareTo(b.createdAt))
+                    .limit(jobs.size() - properties.getMaxStoredJobs() + 1L)
+                    .toList()
+                    .forEach(job -> jobs.remove(job.jobId));
+        }
+    }
+
+    /**
+     * Mutable job state shared between the request thread and the worker.
+     */
+    private static final class GoalCreationJob {
+        private final String jobId;
+        private final Long userId;
+        private final Instant createdAt = Instant.now();
+        private volatile GoalCreationJobStatus status = GoalCreationJobStatus.PENDING;
+        private volatile GoalResponseDto goal;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private GoalCreationJob(String jobId, Long userId) {
+            this.jobId = jobId;
+            this.userId = userId;
+        }
+
+        private void complete(GoalResponseDto createdGoal) {
+            this.goal = createdGoal;
+            this.finishedAt = Instant.now();
+            this.status = GoalCreationJobStatus.COMPLETED;
+        }
+
+        private void fail(String reason) {
+            this.error = reason;
+            this.finishedAt = Instant.now();
+            this.status = GoalCreationJobStatus.FAILED;
+        }
+
+        private boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private boolean isExpired(Instant threshold) {
+            return finishedAt != null && finishedAt.isBefore(threshold);
+        }
+
+        private GoalCreationJobDto toDto() {
+            return GoalCreationJobDto.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .goal(goal)
+                    .error(error)
+                    .createdAt(createdAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
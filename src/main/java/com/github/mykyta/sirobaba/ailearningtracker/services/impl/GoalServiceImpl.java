@@ -9,6 +9,8 @@ import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanRes
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageCursor;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
@@ -26,6 +28,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -46,12 +49,16 @@ public class GoalServiceImpl implements GoalService {
     private final GoalRepo goalRepo;
     private final GoalMapper goalMapper;
     private final SubgoalService subGoalService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Creates a new learning goal for the current user.
      * <p>
      * Generates an AI-based learning plan, creates related subgoals,
      * calculates estimated total hours, and persists the goal.
+     * <p>
+     * The AI call runs outside of any transaction, so no database connection is held
+     * while waiting for the model; only the final write runs in a short transaction.
      *
      * @param goalRequestDto DTO containing goal description and preferences
      * @param user           current authenticated user
@@ -59,41 +66,40 @@ public class GoalServiceImpl implements GoalService {
      * @throws MissingDataException if request data or user data is missing
      */
     @Override
-    @Transactional
     public GoalResponseDto createGoal(GoalRequestDto goalRequestDto, CurrentUserInfoDto user) {
         log.info("Creating goal for user: email={}", user.getEmail());
 
-        if (goalRequestDto == null || userService.findByEmail(user.getEmail()).getEmail() == null) {
+        if (goalRequestDto == null || userService.findTokenStateByEmail(user.getEmail()).getEmail() == null) {
             log.warn("Missing goal request data or user data for email={}", user.getEmail());
             throw new MissingDataException(ErrorMessage.GOAL_REQUESTED_IS_MISSING);
         }
 
         AiPlanResponseDto aiPlanResponseDto = aiService.createLearningPlan(goalRequestDto);
-        Goal newGoal = goalMapper.toGoal(aiPlanResponseDto);
-
-        List<Subgoal> subGoals = subGoalService.createAndLinkSubGoals(
-                aiPlanResponseDto.getSubGoals(),
-                newGoal
-        );
-
-        newGoal.setSubgoals(subGoals);
-        newGoal.setEstimatedHours(
-                subGoals.stream()
-                        .map(Subgoal::getEstimatedHours)
-                        .reduce(0, Integer::sum)
-        );
-        newGoal.setCreatedAt(LocalDate.now());
-        newGoal.setUser(userService.findByEmail(user.getEmail()));
+        return transactionTemplate.execute(status -> persistPlan(aiPlanResponseDto, user));
+    }
 
-        Goal savedGoal = goalRepo.save(newGoal);
-        log.info("Goal created successfully: id={}, userEmail={}", savedGoal.getId(), user.getEmail());
-        return goalMapper.toGoalResponseDto(savedGoal);
+    /**
+     * Persists a goal from an already generated AI plan.
+     * <p>
+     * Used by asynchronous goal creation, where the plan is generated outside
+     * of any transaction and only this short write runs transactionally.
+     *
+     * @param aiPlanResponseDto AI-generated plan with the main goal and its subgoals
+     * @param user              current authenticated user
+     * @return response DTO representing the created goal
+     */
+    @Override
+    @Transactional
+    public GoalResponseDto createGoalFromPlan(AiPlanResponseDto aiPlanResponseDto, CurrentUserInfoDto user) {
+        log.info("Persisting generated plan for user: email={}", user.getEmail());
+        return persistPlan(aiPlanResponseDto, user);
     }
 
     /**
      * Marks a goal as completed for the specified user.
      * <p>
-     * Also marks all related subgoals as completed if they are not already.
+     * Also marks all related subgoals as completed if they are not already
+     * and aligns the completed subgoal counter with the total.
      *
      * @param id     goal identifier
      * @param userId identifier of the goal owner
@@ -120,6 +126,7 @@ public class GoalServiceImpl implements GoalService {
                 subGoal.setCompleted(true);
             }
         }
+        goalToComplete.setCompletedSubgoalCount(goalToComplete.getSubgoalCount());
 
         Goal updatedGoal = goalRepo.save(goalToComplete);
         log.info("Goal completed successfully: id={}, userId={}", updatedGoal.getId(), userId);
@@ -136,7 +143,7 @@ public class GoalServiceImpl implements GoalService {
      */
     @Override
     public GoalResponseDto getGoal(Long id, Long userId) {
-        log.info("Fetching goal id={} for userId={}", id, userId);
+        log.debug("Fetching goal id={} for userId={}", id, userId);
         Goal goal = findByIdAndUserId(id, userId);
         return goalMapper.toGoalResponseDto(goal);
     }
@@ -166,12 +173,26 @@ public class GoalServiceImpl implements GoalService {
      */
     @Override
     public PageResponse<GoalSummaryDto> getAllGoals(Pageable pageable, Long userId) {
-        log.info("Fetching all non-completed goals for userId={}", userId);
+        log.debug("Fetching all non-completed goals for userId={}", userId);
         Page<GoalSummaryDto> page =
                 goalRepo.findAllNonCompletedGoalsWithSubCount(pageable, userId);
         return PageResponse.from(page);
     }
 
+    /**
+     * Retrieves a keyset-paginated slice of non-completed goals for the specified user.
+     *
+     * @param cursor opaque cursor of the previous slice, or {@code null} for the first one
+     * @param size   maximum number of goals in the slice
+     * @param userId identifier of the goal owner
+     * @return slice of goal summaries with the cursor of the next slice
+     */
+    @Override
+    public CursorPageResponse<GoalSummaryDto> getAllGoals(String cursor, int size, Long userId) {
+        log.debug("Fetching non-completed goal slice for userId={}", userId);
+        return findGoalSlice(cursor, size, userId, false);
+    }
+
     /**
      * Retrieves a paginated list of all completed goals for the specified user.
      *
@@ -181,12 +202,44 @@ public class GoalServiceImpl implements GoalService {
      */
     @Override
     public PageResponse<GoalSummaryDto> getAllCompletedGoals(Pageable pageable, Long userId) {
-        log.info("Fetching all completed goals for userId={}", userId);
+        log.debug("Fetching all completed goals for userId={}", userId);
         Page<GoalSummaryDto> page =
                 goalRepo.findAllCompletedGoalsWithSubCount(pageable, userId);
         return PageResponse.from(page);
     }
 
+    /**
+     * Retrieves a keyset-paginated slice of completed goals for the specified user.
+     *
+     * @param cursor opaque cursor of the previous slice, or {@code null} for the first one
+     * @param size   maximum number of goals in the slice
+     * @param userId identifier of the goal owner
+     * @return slice of completed goal summaries with the cursor of the next slice
+     */
+    @Override
+    public CursorPageResponse<GoalSummaryDto> getAllCompletedGoals(String cursor, int size, Long userId) {
+        log.debug("Fetching completed goal slice for userId={}", userId);
+        return findGoalSlice(cursor, size, userId, true);
+    }
+
+    /**
+     * Seeks past {@code (createdAt, id)} of the cursor instead of skipping rows,
+     * and does not count the total number of goals.
+     */
+    private CursorPageResponse<GoalSummaryDto> findGoalSlice(String cursor, int size, Long userId, boolean completed) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<GoalSummaryDto> rows = after == null
+                ? goalRepo.findFirstGoalsWithSubCount(userId, completed, CursorPageResponse.probe(size))
+                : goalRepo.findGoalsWithSubCountAfter(
+                        userId,
+                        completed,
+                        after.positionAsDate(),
+                        after.id(),
+                        CursorPageResponse.probe(size)
+                );
+        return CursorPageResponse.from(rows, size, goal -> PageCursor.of(goal.getCreatedAt(), goal.getId()));
+    }
+
     /**
      * Handles subgoal completion events.
      * <p>
@@ -239,6 +292,70 @@ public class GoalServiceImpl implements GoalService {
                 });
     }
 
+    /**
+     * Checks that a goal belongs to a user with a single exists query, without loading the goal or its subgoals.
+     *
+     * @param goalId goal identifier
+     * @param userId identifier of the goal owner
+     * @throws GoalNotFoundException if the goal does not exist or does not belong to the user
+     */
+    @Override
+    public void checkOwnership(Long goalId, Long userId) {
+        log.debug("Checking ownership of goal id={} for userId={}", goalId, userId);
+        if (!goalRepo.existsByGoalIdAndOwnerId(goalId, userId)) {
+            log.warn("Goal id={} not found for userId={}", goalId, userId);
+            throw new GoalNotFoundException(
+                    String.format(
+                            ErrorMessage.GOAL_WITH_THIS_OWNER_NOT_FOUND,
+                            goalId,
+                            userId
+                    )
+            );
+        }
+    }
+
+    /**
+     * Returns a reference to the goal with the given identifier without loading it.
+     *
+     * @param goalId goal identifier
+     * @return goal entity reference, bound to the current persistence context
+     */
+    @Override
+    public Goal getReference(Long goalId) {
+        return goalRepo.getReferenceById(goalId);
+    }
+
+    /**
+     * Builds the goal and its subgoals from an AI plan and saves them.
+     *
+     * @param aiPlanResponseDto AI-generated plan with the main goal and its subgoals
+     * @param user              owner of the new goal
+     * @return response DTO representing the created goal
+     */
+    private GoalResponseDto persistPlan(AiPlanResponseDto aiPlanResponseDto, CurrentUserInfoDto user) {
+        Goal newGoal = goalMapper.toGoal(aiPlanResponseDto);
+
+        List<Subgoal> subGoals = subGoalService.createAndLinkSubGoals(
+                aiPlanResponseDto.getSubGoals(),
+                newGoal
+        );
+
+        newGoal.setSubgoals(subGoals);
+        newGoal.setSubgoalCount(subGoals.size());
+        newGoal.setCompletedSubgoalCount((int) subGoals.stream().filter(Subgoal::isCompleted).count());
+        newGoal.setEstimatedHours(
+                subGoals.stream()
+                        .map(Subgoal::getEstimatedHours)
+                        .reduce(0, Integer::sum)
+        );
+        newGoal.setCreatedAt(LocalDate.now());
+        newGoal.setUser(userService.getReference(user.getId()));
+
+        Goal savedGoal = goalRepo.save(newGoal);
+        log.info("Goal created successfully: id={}, userEmail={}", savedGoal.getId(), user.getEmail());
+        return goalMapper.toGoalResponseDto(savedGoal);
+    }
+
     /**
      * Finds a goal entity by its identifier.
      * <p>
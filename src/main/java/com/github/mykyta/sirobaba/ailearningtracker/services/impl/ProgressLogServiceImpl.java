@@ -1,18 +1,33 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services.impl;
 
 import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidProgressLogBatchException;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.ProgressLogNotFoundException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogBatchEntryDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogBatchResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogDetailsResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageCursor;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLog;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLogDailyStats;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.ProgressLogMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogDailyStatsRepo;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.ProgressLogBatchProperties;
 import com.github.mykyta.sirobaba.ailearningtracker.services.GoalService;
 import com.github.mykyta.sirobaba.ailearningtracker.services.ProgressLogService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -20,15 +35,27 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Service implementation for managing progress logs for user goals.
  * <p>
  * Provides functionality to create, retrieve, delete, and fetch progress log content.
  * Progress logs are always scoped to a specific goal and user.
+ * Every added or deleted log is also applied to the daily rollup read by the statistics endpoints,
+ * in the same transaction.
  */
 @Slf4j
 @Service
@@ -36,14 +63,20 @@ import java.util.List;
 public class ProgressLogServiceImpl implements ProgressLogService {
 
     private final ProgressLogRepo progressLogRepo;
+    private final ProgressLogDailyStatsRepo dailyStatsRepo;
     private final GoalService goalService;
     private final ProgressLogMapper progressLogMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ProgressLogBatchProperties batchProperties;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Creates a new progress log entry for a specific goal.
      * <p>
      * Calculates the total time spent based on hours and minutes,
-     * associates the log with the given goal, and persists it.
+     * associates the log with the given goal, persists it and adds it to the daily rollup.
      *
      * @param goalId      identifier of the goal
      * @param progressLog DTO containing progress log data
@@ -60,20 +93,14 @@ public class ProgressLogServiceImpl implements ProgressLogService {
         log.info("Creating progress log for goalId={} userId={}", goalId, userId);
 
         Goal goal = goalService.findByIdAndUserId(goalId, userId);
-        int time = sumHoursAndMinutesThenConvertToMinutes(
-                progressLog.getHours(),
-                progressLog.getMinutes()
+        ProgressLog progressLogSaved = progressLogRepo.save(toProgressLog(progressLog, goal));
+        addToDailyStats(
+                goalId,
+                userId,
+                progressLogSaved.getLogTime().toLocalDate(),
+                1,
+                progressLogSaved.getMinutesSpent()
         );
-
-        ProgressLog progressLogEntity = ProgressLog.builder()
-                .title(progressLog.getTitle())
-                .logTime(LocalDateTime.now())
-                .note(progressLog.getNote())
-                .minutesSpent(time)
-                .goal(goal)
-                .build();
-
-        ProgressLog progressLogSaved = progressLogRepo.save(progressLogEntity);
         log.info(
                 "Progress log created: logId={} goalId={} userId={}",
                 progressLogSaved.getId(),
@@ -85,6 +112,37 @@ public class ProgressLogServiceImpl implements ProgressLogService {
                 .progressLogToProgressLogResponseDto(progressLogSaved);
     }
 
+    /**
+     * Imports many progress logs for a specific goal.
+     * <p>
+     * Goal ownership is checked once with an exists query. The body is read entry by entry, either as
+     * newline-delimited JSON or as a JSON array, and every entry is validated before anything is written,
+     * so no database connection is held while the client is still uploading. All logs are then written
+     * in one transaction as JDBC batches of {@code chunk-size} entries; a malformed or invalid entry
+     * rejects the whole batch, so a client can safely retry it.
+     *
+     * @param goalId identifier of the goal
+     * @param body   NDJSON stream or JSON array of progress log entries
+     * @param userId identifier of the log owner
+     * @return number of created progress logs
+     * @throws InvalidProgressLogBatchException if the body is malformed, an entry is invalid
+     *                                          or the batch exceeds the configured size
+     */
+    @Override
+    public ProgressLogBatchResponseDto createProgressLogs(Long goalId, InputStream body, Long userId) {
+        log.info("Importing progress log batch for goalId={} userId={}", goalId, userId);
+
+        goalService.checkOwnership(goalId, userId);
+        List<ProgressLogBatchEntryDto> entries = readBatch(body);
+        transactionTemplate.executeWithoutResult(status -> persistBatch(entries, goalId, userId));
+
+        log.info("Imported {} progress logs for goalId={} userId={}", entries.size(), goalId, userId);
+        return ProgressLogBatchResponseDto.builder()
+                .goalId(goalId)
+                .created(entries.size())
+                .build();
+    }
+
     /**
      * Retrieves a paginated list of progress logs for a specific goal.
      *
@@ -99,7 +157,7 @@ public class ProgressLogServiceImpl implements ProgressLogService {
             Long goalId,
             Long userId
     ) {
-        log.info("Fetching progress logs for goalId={} userId={}", goalId, userId);
+        log.debug("Fetching progress logs for goalId={} userId={}", goalId, userId);
 
         Page<ProgressLog> page =
                 progressLogRepo.findProgressLogsByGoalIdAndUserId(
@@ -111,7 +169,7 @@ public class ProgressLogServiceImpl implements ProgressLogService {
         Page<ProgressLogResponseDto> result =
                 page.map(progressLogMapper::progressLogToProgressLogResponseDto);
 
-        log.info(
+        log.debug(
                 "Fetched {} progress logs for goalId={} userId={}",
                 result.getTotalElements(),
                 goalId,
@@ -121,6 +179,43 @@ public class ProgressLogServiceImpl implements ProgressLogService {
         return PageResponse.from(result);
     }
 
+    /**
+     * Retrieves a keyset-paginated slice of progress logs for a specific goal.
+     * <p>
+     * Seeks past {@code (logTime, id)} of the cursor instead of skipping rows,
+     * and does not count the total number of logs.
+     *
+     * @param cursor opaque cursor of the previous slice, or {@code null} for the first one
+     * @param size   maximum number of logs in the slice
+     * @param goalId identifier of the goal
+     * @param userId identifier of the goal owner
+     * @return slice of progress log summaries with the cursor of the next slice
+     */
+    @Override
+    public CursorPageResponse<ProgressLogResponseDto> getLogsForGoal(
+            String cursor,
+            int size,
+            Long goalId,
+            Long userId
+    ) {
+        log.debug("Fetching progress log slice for goalId={} userId={}", goalId, userId);
+
+        PageCursor after = PageCursor.decode(cursor);
+        List<ProgressLog> rows = after == null
+                ? progressLogRepo.findFirstLogsByGoalIdAndUserId(goalId, userId, CursorPageResponse.probe(size))
+                : progressLogRepo.findLogsByGoalIdAndUserIdAfter(
+                        goalId,
+                        userId,
+                        after.positionAsDateTime(),
+                        after.id(),
+                        CursorPageResponse.probe(size)
+                );
+
+        return CursorPageResponse
+                .from(rows, size, progressLog -> PageCursor.of(progressLog.getLogTime(), progressLog.getId()))
+                .map(progressLogMapper::progressLogToProgressLogResponseDto);
+    }
+
     /**
      * Retrieves detailed information for a specific progress log.
      *
@@ -136,7 +231,7 @@ public class ProgressLogServiceImpl implements ProgressLogService {
             Long logId,
             Long userId
     ) {
-        log.info(
+        log.debug(
                 "Fetching progress log details for logId={} goalId={} userId={}",
                 logId,
                 goalId,
@@ -151,7 +246,8 @@ public class ProgressLogServiceImpl implements ProgressLogService {
     }
 
     /**
-     * Deletes a progress log belonging to a specific goal and user.
+     * Deletes a progress log belonging to a specific goal and user,
+     * and removes it from the daily rollup.
      *
      * @param goalId identifier of the goal
      * @param logId  identifier of the progress log
@@ -172,6 +268,9 @@ public class ProgressLogServiceImpl implements ProgressLogService {
                 findByIdAndGoalIdAndUserId(goalId, logId, userId);
 
         progressLogRepo.delete(progressLog);
+        LocalDate logDate = progressLog.getLogTime().toLocalDate();
+        dailyStatsRepo.removeLog(goalId, logDate, progressLog.getMinutesSpent());
+        dailyStatsRepo.deleteIfEmpty(goalId, logDate);
 
         log.info(
                 "Progress log deleted logId={} goalId={} userId={}",
@@ -198,7 +297,7 @@ public class ProgressLogServiceImpl implements ProgressLogService {
             Long userId,
             Integer limit
     ) {
-        log.info(
+        log.debug(
                 "Fetching progress log content for goalId={} userId={} limit={}",
                 goalId,
                 userId,
@@ -228,7 +327,7 @@ public class ProgressLogServiceImpl implements ProgressLogService {
             );
         }
 
-        log.info(
+        log.debug(
                 "Fetched {} progress log content entries for goalId={} userId={}",
                 progressLogContentDto.size(),
                 goalId,
@@ -238,6 +337,51 @@ public class ProgressLogServiceImpl implements ProgressLogService {
         return progressLogContentDto;
     }
 
+    /**
+     * Retrieves content entries of progress logs added to a goal after the given log, oldest added first.
+     * <p>
+     * Used for incremental AI analysis; unlike {@link #getProgressLogContent}, no new logs is not an error.
+     * When more than {@code limit} logs were added, the rest are left for the next analysis.
+     *
+     * @param goalId     identifier of the goal
+     * @param userId     identifier of the goal owner
+     * @param afterLogId identifier of the last log that was already analysed
+     * @param limit      maximum number of entries to retrieve
+     * @return list of progress log content DTOs, empty if no logs were added
+     */
+    @Override
+    public List<ProgressLogContentDto> getProgressLogContentAfter(
+            Long goalId,
+            Long userId,
+            Long afterLogId,
+            Integer limit
+    ) {
+        log.debug(
+                "Fetching new progress log content for goalId={} userId={} afterLogId={} limit={}",
+                goalId,
+                userId,
+                afterLogId,
+                limit
+        );
+
+        List<ProgressLogContentDto> progressLogContentDto =
+                progressLogRepo.findContentsByGoalIdAndUserIdAfter(
+                        goalId,
+                        userId,
+                        afterLogId,
+                        PageRequest.of(0, limit)
+                );
+
+        log.debug(
+                "Fetched {} new progress log content entries for goalId={} userId={}",
+                progressLogContentDto.size(),
+                goalId,
+                userId
+        );
+
+        return progressLogContentDto;
+    }
+
     /**
      * Finds a progress log by its identifier, goal identifier, and user identifier.
      *
@@ -277,6 +421,183 @@ public class ProgressLogServiceImpl implements ProgressLogService {
                 });
     }
 
+    /**
+     * Builds a progress log entity for the given goal from request data.
+     *
+     * @param progressLog DTO containing progress log data
+     * @param goal        goal the log belongs to
+     * @return new, not yet persisted progress log
+     */
+    private ProgressLog toProgressLog(ProgressLogRequestDto progressLog, Goal goal) {
+        int time = sumHoursAndMinutesThenConvertToMinutes(
+                progressLog.getHours(),
+                progressLog.getMinutes()
+        );
+
+        return ProgressLog.builder()
+                .title(progressLog.getTitle())
+                .logTime(LocalDateTime.now())
+                .note(progressLog.getNote())
+                .minutesSpent(time)
+                .goal(goal)
+                .build();
+    }
+
+    /**
+     * Builds a progress log entity for the given goal from a batch entry.
+     * Missing hours or minutes count as 0 and a missing log time as now.
+     *
+     * @param entry DTO containing progress log data
+     * @param goal  goal the log belongs to
+     * @return new, not yet persisted progress log
+     */
+    private ProgressLog toProgressLog(ProgressLogBatchEntryDto entry, Goal goal) {
+        int time = sumHoursAndMinutesThenConvertToMinutes(
+                Objects.requireNonNullElse(entry.getHours(), 0),
+                Objects.requireNonNullElse(entry.getMinutes(), 0)
+        );
+
+        return ProgressLog.builder()
+                .title(entry.getTitle())
+                .logTime(Objects.requireNonNullElseGet(entry.getLogTime(), LocalDateTime::now))
+                .note(entry.getNote())
+                .minutesSpent(time)
+                .goal(goal)
+                .build();
+    }
+
+    /**
+     * Validates one entry of a progress log batch.
+     *
+     * @param entry parsed entry, {@code null} for a JSON {@code null}
+     * @param index zero-based position of the entry in the batch
+     * @throws InvalidProgressLogBatchException if the entry is missing or violates a constraint
+     */
+    private void validate(ProgressLogBatchEntryDto entry, int index) {
+        if (entry == null) {
+            throw new InvalidProgressLogBatchException(
+                    String.format(ErrorMessage.INVALID_PROGRESS_LOG_BATCH_ENTRY, index, "entry is null")
+            );
+        }
+        Set<ConstraintViolation<ProgressLogBatchEntryDto>> violations = validator.validate(entry);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<ProgressLogBatchEntryDto> violation = violations.iterator().next();
+            throw new InvalidProgressLogBatchException(
+                    String.format(ErrorMessage.INVALID_PROGRESS_LOG_BATCH_ENTRY, index,
+                            violation.getPropertyPath() + " " + violation.getMessage())
+            );
+        }
+    }
+
+    /**
+     * Reads and validates every entry of a batch body.
+     *
+     * @param body NDJSON stream or JSON array of progress log entries
+     * @return validated entries, in body order
+     * @throws InvalidProgressLogBatchException if the body is malformed, an entry is invalid
+     *                                          or the batch exceeds the configured size
+     */
+    private List<ProgressLogBatchEntryDto> readBatch(InputStream body) {
+        List<ProgressLogBatchEntryDto> batch = new ArrayList<>();
+        try (MappingIterator<ProgressLogBatchEntryDto> entries =
+                     objectMapper.readerFor(ProgressLogBatchEntryDto.class).readValues(body)) {
+            while (entries.hasNextValue()) {
+                if (batch.size() >= batchProperties.getMaxEntries()) {
+                    throw new InvalidProgressLogBatchException(
+                            String.format(ErrorMessage.PROGRESS_LOG_BATCH_TOO_LARGE, batchProperties.getMaxEntries())
+                    );
+                }
+                ProgressLogBatchEntryDto entry = entries.nextValue();
+                validate(entry, batch.size());
+                batch.add(entry);
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidProgressLogBatchException(
+                    String.format(ErrorMessage.MALFORMED_PROGRESS_LOG_BATCH, e.getOriginalMessage())
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return batch;
+    }
+
+    /**
+     * Writes a validated batch in chunks of {@code chunk-size} logs, each sent as one JDBC batch
+     * and detached afterwards to keep the persistence context small, then adds the batch to the daily
+     * rollup with one update per day. Must run in a transaction.
+     *
+     * @param entries validated entries
+     * @param goalId  identifier of the goal the logs belong to
+     * @param userId  identifier of the log owner
+     */
+    private void persistBatch(List<ProgressLogBatchEntryDto> entries, Long goalId, Long userId) {
+        // Days in ascending order, so concurrent imports lock the rollup rows in the same order
+        Map<LocalDate, long[]> days = new TreeMap<>();
+        List<ProgressLog> chunk = new ArrayList<>(batchProperties.getChunkSize());
+
+        for (ProgressLogBatchEntryDto entry : entries) {
+            ProgressLog progressLog = toProgressLog(entry, goalService.getReference(goalId));
+            long[] day = days.computeIfAbsent(progressLog.getLogTime().toLocalDate(), date -> new long[2]);
+            day[0]++;
+            day[1] += progressLog.getMinutesSpent();
+
+            chunk.add(progressLog);
+            if (chunk.size() >= batchProperties.getChunkSize()) {
+                flushChunk(chunk);
+            }
+        }
+        flushChunk(chunk);
+
+        days.forEach((logDate, day) -> addToDailyStats(goalId, userId, logDate, (int) day[0], day[1]));
+    }
+
+    /**
+     * Adds logs to the daily rollup row of a goal and day, creating the row if it does not exist.
+     * <p>
+     * An existing row is incremented in place. The first logs of a day lock the goal row, so concurrent
+     * first logs of the same goal are serialized, then retry the increment and insert the row only if
+     * it still does not exist. Must run in a transaction.
+     *
+     * @param goalId  identifier of the goal
+     * @param userId  identifier of the goal owner
+     * @param logDate day the logs were made on
+     * @param logs    number of added logs
+     * @param minutes minutes spent in the added logs
+     */
+    private void addToDailyStats(Long goalId, Long userId, LocalDate logDate, int logs, long minutes) {
+        if (dailyStatsRepo.addLogs(goalId, logDate, logs, minutes) > 0) {
+            return;
+        }
+
+        entityManager.find(Goal.class, goalId, LockModeType.PESSIMISTIC_WRITE);
+        if (dailyStatsRepo.addLogs(goalId, logDate, logs, minutes) > 0) {
+            return;
+        }
+        dailyStatsRepo.save(ProgressLogDailyStats.builder()
+                .goalId(goalId)
+                .logDate(logDate)
+                .userId(userId)
+                .logCount(logs)
+                .minutesSpent(minutes)
+                .build());
+    }
+
+    /**
+     * Writes a chunk of progress logs as one JDBC batch and detaches them.
+     *
+     * @param chunk logs to persist; cleared afterwards
+     */
+    private void flushChunk(List<ProgressLog> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        progressLogRepo.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        log.debug("Flushed {} progress logs", chunk.size());
+        chunk.clear();
+    }
+
     /**
      * Converts hours and minutes into total minutes.
      *
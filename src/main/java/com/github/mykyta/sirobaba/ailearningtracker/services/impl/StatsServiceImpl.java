@@ -0,0 +1,193 @@
+package com.github.mykyta.sirobaba.ailearningtracker.services.impl;
+
+import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidStatsRangeException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.DailyStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDetailsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.UserStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogDailyStatsRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.services.GoalService;
+import com.github.mykyta.sirobaba.ailearningtracker.services.StatsService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Service implementation for learning statistics.
+ * <p>
+ * Everything is read from the daily rollup maintained by {@link ProgressLogServiceImpl}, so the cost
+ * depends on the number of days with logs and on the requested range, not on the number of logs.
+ * A streak is a run of consecutive days with at least one log; the current streak is still running
+ * if its last day is today or yesterday. Streaks are computed from the last {@link #STREAK_WINDOW_DAYS}
+ * days only, so their cost does not grow with the history and a longer streak counts as that many days.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class StatsServiceImpl implements StatsService {
+
+    /**
+     * Longest range of daily progress returned at once.
+     */
+    static final int MAX_RANGE_DAYS = 366;
+
+    /**
+     * Days of daily progress returned when no range is given.
+     */
+    static final int DEFAULT_RANGE_DAYS = 30;
+
+    /**
+     * Days up to today that are read to compute streaks.
+     */
+    static final int STREAK_WINDOW_DAYS = MAX_RANGE_DAYS;
+
+    private final ProgressLogDailyStatsRepo dailyStatsRepo;
+    private final GoalService goalService;
+
+    /**
+     * Retrieves the statistics of a user over all goals.
+     *
+     * @param userId identifier of the user
+     * @param from   first day of the daily progress, or {@code null} for 29 days before {@code to}
+     * @param to     last day of the daily progress, or {@code null} for today
+     * @return totals, streaks, totals by goal and daily progress
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public UserStatsDto getUserStats(Long userId, LocalDate from, LocalDate to) {
+        log.debug("Fetching statistics for userId={} from={} to={}", userId, from, to);
+        LocalDate today = LocalDate.now();
+        LocalDate last = to != null ? to : today;
+        LocalDate first = from != null ? from : last.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(first, last);
+
+        List<GoalStatsDto> goals = dailyStatsRepo.findGoalTotalsByUserId(userId);
+        Streaks streaks = Streaks.of(dailyStatsRepo.findActiveDaysByUserId(userId, streakWindowStart(today)), today);
+
+        return UserStatsDto.builder()
+                .totalLogs(goals.stream().mapToLong(GoalStatsDto::getTotalLogs).sum())
+                .totalMinutes(goals.stream().mapToLong(GoalStatsDto::getTotalMinutes).sum())
+                .activeDays((int) dailyStatsRepo.countActiveDaysByUserId(userId))
+                .currentStreak(streaks.current())
+                .longestStreak(streaks.longest())
+                .from(first)
+                .to(last)
+                .goals(goals)
+                .daily(dailyStatsRepo.findDailyByUserId(userId, first, last))
+                .build();
+    }
+
+    /**
+     * Retrieves the statistics of one goal.
+     * <p>
+     * The goal itself is only loaded to check its ownership when it has no logs.
+     *
+     * @param goalId identifier of the goal
+     * @param userId identifier of the goal owner
+     * @param from   first day of the daily progress, or {@code null} for 29 days before {@code to}
+     * @param to     last day of the daily progress, or {@code null} for today
+     * @return totals, streaks and daily progress of the goal
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public GoalStatsDetailsDto getGoalStats(Long goalId, Long userId, LocalDate from, LocalDate to) {
+        log.debug("Fetching statistics for goalId={} userId={} from={} to={}", goalId, userId, from, to);
+        LocalDate today = LocalDate.now();
+        LocalDate last = to != null ? to : today;
+        LocalDate first = from != null ? from : last.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(first, last);
+
+        GoalStatsDto totals = dailyStatsRepo.findGoalTotals(goalId, userId).orElseGet(() -> {
+            Goal goal = goalService.findByIdAndUserId(goalId, userId);
+            return new GoalStatsDto(goal.getId(), goal.getTitle(), 0L, 0L, null);
+        });
+        Streaks streaks = Streaks.of(
+                dailyStatsRepo.findActiveDaysByGoalId(goalId, userId, streakWindowStart(today)), today);
+        List<DailyStatsDto> daily = totals.getTotalLogs() == 0
+                ? List.of()
+                : dailyStatsRepo.findDailyByGoalId(goalId, userId, first, last);
+
+        return GoalStatsDetailsDto.builder()
+                .goalId(totals.getGoalId())
+                .title(totals.getTitle())
+                .totalLogs(totals.getTotalLogs())
+                .totalMinutes(totals.getTotalMinutes())
+                .lastLogDate(totals.getLastLogDate())
+                .activeDays((int) dailyStatsRepo.countActiveDaysByGoalId(goalId, userId))
+                .currentStreak(streaks.current())
+                .longestStreak(streaks.longest())
+                .from(first)
+                .to(last)
+                .daily(daily)
+                .build();
+    }
+
+    /**
+     * Returns the first day read to compute streaks.
+     *
+     * @param today current day
+     * @return first day of the streak window
+     */
+    private LocalDate streakWindowStart(LocalDate today) {
+        return today.minusDays(STREAK_WINDOW_DAYS - 1);
+    }
+
+    /**
+     * Checks that a range of days is ordered and not longer than {@link #MAX_RANGE_DAYS}.
+     *
+     * @param from first day
+     * @param to   last day
+     * @throws InvalidStatsRangeException if the range is invalid
+     */
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidStatsRangeException(
+                    String.format(ErrorMessage.INVALID_STATS_RANGE, from, to, MAX_RANGE_DAYS)
+            );
+        }
+    }
+
+    /**
+     * Current and longest streak of consecutive active days.
+     *
+     * @param current consecutive days ending today or yesterday, 0 if the last active day is older
+     * @param longest longest run of consecutive days
+     */
+    record Streaks(int current, int longest) {
+
+        /**
+         * Computes the streaks from distinct active days.
+         *
+         * @param activeDays distinct active days in descending order
+         * @param today      current day
+         * @return streaks
+         */
+        static Streaks of(List<LocalDate> activeDays, LocalDate today) {
+            int longest = 0;
+            int run = 0;
+            LocalDate previous = null;
+            for (LocalDate day : activeDays) {
+                run = previous != null && day.equals(previous.minusDays(1)) ? run + 1 : 1;
+                longest = Math.max(longest, run);
+                previous = day;
+            }
+
+            int current = 0;
+            if (!activeDays.isEmpty() && !activeDays.get(0).isBefore(today.minusDays(1))) {
+                current = 1;
+                while (current < activeDays.size()
+                        && activeDays.get(current).equals(activeDays.get(current - 1).minusDays(1))) {
+                    current++;
+                }
+            }
+            return new Streaks(current, longest);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.subgoal.SubG
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.SubgoalMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.GoalRepo;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.SubgoalRepo;
 import com.github.mykyta.sirobaba.ailearningtracker.services.SubgoalService;
 import lombok.AllArgsConstructor;
@@ -31,10 +32,12 @@ public class SubgoalServiceImpl implements SubgoalService {
 
     private final SubgoalMapper subGoalMapper;
     private final SubgoalRepo subGoalRepo;
+    private final GoalRepo goalRepo;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Completes a subgoal for a given user and publishes a SubgoalCompletedEvent.
+     * Completes a subgoal for a given user, increments the completed subgoal counter
+     * of its parent goal and publishes a SubgoalCompletedEvent.
      *
      * @param subgoalId ID of the subgoal to complete.
      * @param userId    ID of the user completing the subgoal.
@@ -56,12 +59,14 @@ public class SubgoalServiceImpl implements SubgoalService {
             );
         }
 
+        Long parentGoalId = subgoal.getGoal().getId();
         subgoal.setCompleted(true);
         Subgoal savedSubgoal = subGoalRepo.save(subgoal);
+        goalRepo.incrementCompletedSubgoalCount(parentGoalId);
         log.info("Subgoal {} completed successfully for user {}", subgoalId, userId);
 
-        eventPublisher.publishEvent(new SubgoalCompletedEvent(subgoal.getGoal().getId()));
-        log.debug("SubgoalCompletedEvent published for parent goal {}", subgoal.getGoal().getId());
+        eventPublisher.publishEvent(new SubgoalCompletedEvent(parentGoalId));
+        log.debug("SubgoalCompletedEvent published for parent goal {}", parentGoalId);
 
         return subGoalMapper.toSubGoalResponseDto(savedSubgoal);
     }
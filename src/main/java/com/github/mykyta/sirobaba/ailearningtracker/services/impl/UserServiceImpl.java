@@ -1,19 +1,29 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services.impl;
 
+import com.github.mykyta.sirobaba.ailearningtracker.constants.CacheNames;
 import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.events.user.UserChangedEvent;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.*;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.TwoFactorActivationRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.TwoFactorSetupResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapper;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.UserRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenRevocationChecker;
 import com.github.mykyta.sirobaba.ailearningtracker.security.totp.TotpService;
 import com.github.mykyta.sirobaba.ailearningtracker.services.UserService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.Instant;
 
@@ -22,6 +32,10 @@ import java.time.Instant;
  * <p>
  * Handles user retrieval, creation, and two-factor authentication lifecycle
  * including setup, activation, and disabling.
+ * <p>
+ * Security snapshots looked up by email are served from a bounded cache; every write publishes
+ * a {@link UserChangedEvent} which evicts the affected entry once the transaction commits.
+ * Entities are never cached, so each caller gets its own instance.
  */
 @Slf4j
 @Service
@@ -31,6 +45,13 @@ public class UserServiceImpl implements UserService {
     private final UserRepo userRepo;
     private final UserMapper userMapper;
     private final TotpService totpService;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccessTokenRevocationChecker revocationChecker;
+    /**
+     * This service through its proxy, so internal lookups go through the cache.
+     */
+    private final ObjectProvider<UserService> self;
 
     /**
      * Creates a new user if email and username are unique.
@@ -52,7 +73,9 @@ public class UserServiceImpl implements UserService {
             throw new UserHasAlreadyRegistered(ErrorMessage.USER_ALREADY_REGISTERED_WITH_THIS_NAME);
         }
 
-        return userRepo.save(user);
+        User savedUser = userRepo.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getEmail()));
+        return savedUser;
     }
 
     /**
@@ -75,6 +98,7 @@ public class UserServiceImpl implements UserService {
         user.setTwoFactorSecret(secret);
         user.setTwoFactorSecretCreatedAt(Instant.now());
         userRepo.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
         log.debug("Two-factor activation request succeeded for user id={}", userId);
 
         String issuer = "AI Learning Tracker";
@@ -115,6 +139,7 @@ public class UserServiceImpl implements UserService {
         user.setTwoFactorEnabled(true);
         log.debug("Two-factor enabled for user id={} ", id);
         userRepo.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
     }
 
     /**
@@ -142,6 +167,7 @@ public class UserServiceImpl implements UserService {
         user.setTwoFactorSecretCreatedAt(null);
         log.debug("Two-factor disable for user id: {}", id);
         userRepo.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
     }
 
     /**
@@ -182,21 +208,84 @@ public class UserServiceImpl implements UserService {
                 });
     }
 
+    /**
+     * Finds the security-relevant state of a user by email.
+     * <p>
+     * The result is cached; it is immutable, so it is safe to share across requests.
+     *
+     * @param email - user's email
+     * @return immutable snapshot of the user
+     * @throws UserNotFoundException if no user exists with the given email
+     */
+    @Override
+    @Cacheable(cacheNames = CacheNames.USERS_BY_EMAIL, key = "#email")
+    public UserTokenStateDto findTokenStateByEmail(String email) {
+        log.debug("Looking for user state by email: {}", email);
+        return userRepo.findTokenStateByEmail(email)
+                .orElseThrow(() -> {
+                    log.error("User with email {} not found", email);
+                    return new UserNotFoundException(
+                            String.format(ErrorMessage.USER_WITH_THIS_EMAIL_NOT_FOUND, email)
+                    );
+                });
+    }
+
+    /**
+     * Returns a reference to the user with the given ID without loading it.
+     *
+     * @param id - user ID
+     * @return User entity reference, bound to the current persistence context
+     */
+    @Override
+    public User getReference(Long id) {
+        return userRepo.getReferenceById(id);
+    }
+
     /**
      * Retrieves current user information as a DTO.
+     * <p>
+     * The state is looked up through the proxied service, so it is served from the cache.
      *
      * @param email - user's email
-     * @return CurrentUserInfoDto mapped from the User entity
+     * @return CurrentUserInfoDto built from the user state
      * @throws UserNotFoundException if no user exists with the given email
      */
     @Override
     public CurrentUserInfoDto findCurrentUserInfoDto(String email) {
         log.debug("Retrieving current user info DTO for email: {}", email);
-        CurrentUserInfoDto dto = userMapper.toCurrentUserInfoDto(findByEmail(email));
+        CurrentUserInfoDto dto = userMapper.fromTokenState(self.getObject().findTokenStateByEmail(email));
         log.debug("CurrentUserInfoDto retrieved for email: {}", email);
         return dto;
     }
 
+    /**
+     * Evicts the cached state of a changed user.
+     * <p>
+     * Runs after the surrounding transaction commits so that a concurrent lookup cannot
+     * re-populate the cache with the pre-commit state.
+     *
+     * @param event user change domain event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserChanged(UserChangedEvent event) {
+        log.debug("Evicting cached user id={}", event.userId());
+        evict(CacheNames.USERS_BY_EMAIL, event.email());
+        revocationChecker.invalidate(event.userId());
+    }
+
+    /**
+     * Removes a single entry from the named cache if both exist.
+     *
+     * @param cacheName name of the cache
+     * @param key       cache key
+     */
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
     /**
      * Checks whether stored 2FA secret exists.
      *
@@ -0,0 +1,146 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.cache;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.AiResponseCacheEntry;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.AiResponseCacheRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiResponseCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Service")
+@DisplayName("AI response cache test")
+@ExtendWith(MockitoExtension.class)
+class AiResponseCacheTest {
+
+    private static final String TEMPLATE = "createMainGoal";
+    private static final String RESPONSE = "{\"generalGoal\":\"Learn Spring Boot\",\"difficulty\":\"MEDIUM\"}";
+
+    @Mock
+    private AiResponseCacheRepo aiResponseCacheRepo;
+
+    private AiResponseCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiResponseCacheProperties();
+        properties.setModelId("gemini-test");
+    }
+
+    @Test
+    @DisplayName("cacheKey() — ignores whitespace but keeps the casing of the prompt")
+    void cacheKey_shouldNormalizePrompt() {
+        String key = AiResponseCache.cacheKey(TEMPLATE, "Goal: learn Spring Boot", "gemini-test");
+
+        assertEquals(key, AiResponseCache.cacheKey(TEMPLATE, "  Goal:   learn Spring\nBoot ", "gemini-test"));
+        assertNotEquals(key, AiResponseCache.cacheKey(TEMPLATE, "goal: learn spring boot", "gemini-test"));
+        assertEquals(64, key.length());
+    }
+
+    @Test
+    @DisplayName("cacheKey() — differs per template and per model")
+    void cacheKey_shouldIncludeTemplateAndModel() {
+        String key = AiResponseCache.cacheKey(TEMPLATE, "Goal: learn Spring Boot", "gemini-test");
+
+        assertNotEquals(key, AiResponseCache.cacheKey("createSubgoal", "Goal: learn Spring Boot", "gemini-test"));
+        assertNotEquals(key, AiResponseCache.cacheKey(TEMPLATE, "Goal: learn Spring Boot", "gemini-other"));
+    }
+
+    @Test
+    @DisplayName("get() — returns a stored response for an equivalent prompt from memory")
+    void get_shouldHitMemoryForEquivalentPrompt() {
+        AiResponseCache cache = new AiResponseCache(properties, aiResponseCacheRepo);
+
+        cache.put(TEMPLATE, "Goal: learn Spring Boot", RESPONSE);
+
+        assertEquals(Optional.of(RESPONSE), cache.get(TEMPLATE, "Goal:  learn Spring Boot "));
+        verifyNoInteractions(aiResponseCacheRepo);
+    }
+
+    @Test
+    @DisplayName("get() — returns empty when the cache is disabled")
+    void get_shouldMissWhenDisabled() {
+        properties.setEnabled(false);
+        AiResponseCache cache = new AiResponseCache(properties, aiResponseCacheRepo);
+
+        cache.put(TEMPLATE, "Goal: learn Spring Boot", RESPONSE);
+
+        assertTrue(cache.get(TEMPLATE, "Goal: learn Spring Boot").isEmpty());
+    }
+
+    @Test
+    @DisplayName("put() — writes the entry to the database tier with the configured TTL")
+    void put_shouldPersistEntryWhenPersistentTierEnabled() {
+        properties.getPersistent().setEnabled(true);
+        AiResponseCache cache = new AiResponseCache(properties, aiResponseCacheRepo);
+
+        cache.put(TEMPLATE, "Goal: learn Spring Boot", RESPONSE);
+
+        ArgumentCaptor<AiResponseCacheEntry> captor = ArgumentCaptor.forClass(AiResponseCacheEntry.class);
+        verify(aiResponseCacheRepo).save(captor.capture());
+        AiResponseCacheEntry entry = captor.getValue();
+        assertEquals(AiResponseCache.cacheKey(TEMPLATE, "Goal: learn Spring Boot", "gemini-test"), entry.getCacheKey());
+        assertEquals("gemini-test", entry.getModelId());
+        assertEquals(RESPONSE, entry.getResponse());
+        assertEquals(entry.getCreatedAt().plus(properties.getTtl()), entry.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("get() — falls back to the database tier and keeps the hit in memory")
+    void get_shouldLoadFromDatabaseAfterRestart() {
+        properties.getPersistent().setEnabled(true);
+        AiResponseCache cache = new AiResponseCache(properties, aiResponseCacheRepo);
+        String key = AiResponseCache.cacheKey(TEMPLATE, "Goal: learn Spring Boot", "gemini-test");
+
+        when(aiResponseCacheRepo.findByCacheKeyAndExpiresAtAfter(eq(key), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(AiResponseCacheEntry.builder().cacheKey(key).response(RESPONSE).build()));
+
+        assertEquals(Optional.of(RESPONSE), cache.get(TEMPLATE, "Goal: learn Spring Boot"));
+        assertEquals(Optional.of(RESPONSE), cache.get(TEMPLATE, "Goal: learn Spring Boot"));
+        verify(aiResponseCacheRepo, times(1)).findByCacheKeyAndExpiresAtAfter(eq(key), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("deleteExpired() — deletes expired entries from the database tier")
+    void deleteExpired_shouldDeleteExpiredEntries() {
+        properties.getPersistent().setEnabled(true);
+        AiResponseCache cache = new AiResponseCache(properties, aiResponseCacheRepo);
+
+        cache.deleteExpired();
+
+        verify(aiResponseCacheRepo).deleteByExpiresAtBefore(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("deleteExpired() — does nothing when the database tier is disabled")
+    void deleteExpired_shouldSkipWhenPersistentTierDisabled() {
+        AiResponseCache cache = new AiResponseCache(properties, aiResponseCacheRepo);
+
+        cache.deleteExpired();
+
+        verifyNoInteractions(aiResponseCacheRepo);
+    }
+
+    @Test
+    @DisplayName("get() — treats a failing database tier as a miss")
+    void get_shouldMissWhenDatabaseFails() {
+        properties.getPersistent().setEnabled(true);
+        AiResponseCache cache = new AiResponseCache(properties, aiResponseCacheRepo);
+
+        when(aiResponseCacheRepo.findByCacheKeyAndExpiresAtAfter(anyString(), any(LocalDateTime.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        assertTrue(cache.get(TEMPLATE, "Goal: learn Spring Boot").isEmpty());
+    }
+}
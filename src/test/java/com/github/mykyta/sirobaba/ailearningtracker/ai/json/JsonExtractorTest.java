@@ -0,0 +1,77 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("Service")
+@DisplayName("JSON extractor test")
+class JsonExtractorTest {
+
+    @Test
+    @DisplayName("extract() — returns a clean JSON object unchanged")
+    void extract_shouldKeepCleanJson() {
+        String json = "{\"title\":\"Log analysis\",\"analysisText\":\"On track\"}";
+
+        assertEquals(Optional.of(json), JsonExtractor.extract(json));
+    }
+
+    @Test
+    @DisplayName("extract() — finds the object inside prose and markdown fences and drops trailing garbage")
+    void extract_shouldIgnoreSurroundingText() {
+        String response = "Sure! Here it is:\n```json\n{\"a\":[1,2,{\"b\":\"}\"}]}\n```\nLet me know {if} you need more.";
+
+        assertEquals(Optional.of("{\"a\":[1,2,{\"b\":\"}\"}]}"), JsonExtractor.extract(response));
+    }
+
+    @Test
+    @DisplayName("extract() — skips brace pairs that are not JSON")
+    void extract_shouldSkipInvalidCandidates() {
+        assertEquals(Optional.of("{\"a\":true}"), JsonExtractor.extract("Plan for {your goal}: {\"a\":true}"));
+    }
+
+    @Test
+    @DisplayName("extract() — closes a truncated string value and the open containers")
+    void extract_shouldCloseTruncatedString() {
+        String response = "{\"title\":\"Log analysis\",\"analysisText\":\"A. Summary: steady prog";
+
+        assertEquals(Optional.of("{\"title\":\"Log analysis\",\"analysisText\":\"A. Summary: steady prog\"}"),
+                JsonExtractor.extract(response));
+    }
+
+    @Test
+    @DisplayName("extract() — cuts a truncated object back to its last complete value")
+    void extract_shouldDropIncompleteTail() {
+        assertEquals(Optional.of("{\"subGoals\":[{\"title\":\"Basics\",\"estimatedHours\":10}]}"),
+                JsonExtractor.extract("{\"subGoals\":[{\"title\":\"Basics\",\"estimatedHours\":10,\"diffic"));
+        assertEquals(Optional.of("{\"a\":1}"), JsonExtractor.extract("{\"a\":1,"));
+        assertEquals(Optional.of("{\"a\":1}"), JsonExtractor.extract("{\"a\":1,\"b\":tr"));
+    }
+
+    @Test
+    @DisplayName("extract() — drops an unfinished escape sequence of a truncated string")
+    void extract_shouldDropUnfinishedEscape() {
+        assertEquals(Optional.of("{\"a\":\"caf\"}"), JsonExtractor.extract("{\"a\":\"caf\\u00"));
+    }
+
+    @Test
+    @DisplayName("extractObject() — reports whether the object had to be cut back and closed")
+    void extractObject_shouldReportTruncation() {
+        assertFalse(JsonExtractor.extractObject("Here: {\"a\":[1,2]} done").orElseThrow().truncated());
+        assertTrue(JsonExtractor.extractObject("{\"a\":[1,2").orElseThrow().truncated());
+        assertTrue(JsonExtractor.extractObject("{\"a\":\"cut off").orElseThrow().truncated());
+    }
+
+    @Test
+    @DisplayName("extract() — returns empty when the text contains no object")
+    void extract_shouldReturnEmptyWithoutObject() {
+        assertEquals(Optional.empty(), JsonExtractor.extract("I cannot answer in JSON"));
+        assertEquals(Optional.empty(), JsonExtractor.extract(null));
+    }
+}
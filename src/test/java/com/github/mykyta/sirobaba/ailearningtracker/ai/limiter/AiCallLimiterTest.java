@@ -0,0 +1,282 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.limiter;
+
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiCallRejectedException;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiCallLimiterProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Service")
+@DisplayName("AI call limiter test")
+@ExtendWith(MockitoExtension.class)
+class AiCallLimiterTest {
+
+    @Mock
+    private CallAdvisorChain callAdvisorChain;
+    @Mock
+    private StreamAdvisorChain streamAdvisorChain;
+    @Mock
+    private ChatClientResponse response;
+
+    private AiCallLimiterProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiCallLimiterProperties();
+        properties.setAcquireTimeout(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("adviseCall() — rejects a call when all global slots stay busy, and frees the slot afterwards")
+    void adviseCall_shouldRejectWhenGlobalSlotsAreBusy() {
+        properties.setMaxConcurrentCalls(1);
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        ChatClientRequest nested = request("second prompt");
+
+        when(callAdvisorChain.nextCall(any())).thenAnswer(invocation -> {
+            if (invocation.getArgument(0) == nested) {
+                return response;
+            }
+            assertThrows(AiCallRejectedException.class, () -> limiter.adviseCall(nested, callAdvisorChain));
+            return response;
+        });
+
+        assertSame(response, limiter.adviseCall(request("first prompt"), callAdvisorChain));
+        assertEquals(1, meterRegistry.get("ai.calls.rejected").tag("reason", "concurrency").counter().count());
+        assertEquals(0, meterRegistry.get("ai.calls.active").gauge().value());
+
+        assertSame(response, limiter.adviseCall(nested, callAdvisorChain));
+    }
+
+    @Test
+    @DisplayName("adviseCall() — rejects a call immediately when the user already uses all of their slots")
+    void adviseCall_shouldRejectWhenUserSlotsAreBusy() {
+        properties.setMaxConcurrentCallsPerUser(1);
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@example.com", null, List.of()));
+        ChatClientRequest nested = request("second prompt");
+
+        when(callAdvisorChain.nextCall(any())).thenAnswer(invocation -> {
+            AiCallRejectedException rejected = assertThrows(AiCallRejectedException.class,
+                    () -> limiter.adviseCall(nested, callAdvisorChain));
+            assertTrue(rejected.getMessage().contains("1 AI requests"));
+            return response;
+        });
+
+        limiter.adviseCall(request("first prompt"), callAdvisorChain);
+
+        assertEquals(1, meterRegistry.get("ai.calls.rejected").tag("reason", "user").counter().count());
+        verify(callAdvisorChain, times(1)).nextCall(any());
+    }
+
+    @Test
+    @DisplayName("adviseCall() — rejects calls above the rate limit")
+    void adviseCall_shouldRejectAboveRateLimit() {
+        properties.setRequestsPerSecond(0.01);
+        properties.setBurst(1);
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        when(callAdvisorChain.nextCall(any())).thenReturn(response);
+
+        limiter.adviseCall(request("first prompt"), callAdvisorChain);
+
+        assertThrows(AiCallRejectedException.class,
+                () -> limiter.adviseCall(request("second prompt"), callAdvisorChain));
+        assertEquals(1, meterRegistry.get("ai.calls.rejected").tag("reason", "rate").counter().count());
+        assertEquals(0, meterRegistry.get("ai.calls.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("adviseCall() — shares one model call between concurrent calls of a user with an identical prompt")
+    void adviseCall_shouldCoalesceIdenticalPrompts() throws Exception {
+        properties.setAcquireTimeout(Duration.ofSeconds(5));
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(callAdvisorChain.nextCall(any())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return response;
+        });
+
+        CompletableFuture<ChatClientResponse> first = callAsync(limiter, "user@example.com", "same prompt");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ChatClientResponse> second = callAsync(limiter, "user@example.com", "same prompt");
+
+        while (meterRegistry.get("ai.calls.coalesced").counter().count() < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertSame(response, first.get(5, TimeUnit.SECONDS));
+        assertSame(response, second.get(5, TimeUnit.SECONDS));
+        verify(callAdvisorChain, times(1)).nextCall(any());
+    }
+
+    @Test
+    @DisplayName("adviseCall() — does not share a model call between different users")
+    void adviseCall_shouldNotCoalesceCallsOfDifferentUsers() throws Exception {
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(2);
+
+        when(callAdvisorChain.nextCall(any())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            return response;
+        });
+
+        CompletableFuture<ChatClientResponse> first = callAsync(limiter, "first@example.com", "same prompt");
+        CompletableFuture<ChatClientResponse> second = callAsync(limiter, "second@example.com", "same prompt");
+
+        assertSame(response, first.get(5, TimeUnit.SECONDS));
+        assertSame(response, second.get(5, TimeUnit.SECONDS));
+        verify(callAdvisorChain, times(2)).nextCall(any());
+        assertEquals(0, meterRegistry.get("ai.calls.coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("adviseCall() — rejects a joined call that does not finish within the call timeout")
+    void adviseCall_shouldRejectJoinedCallAfterTimeout() throws Exception {
+        properties.setCallTimeout(Duration.ofMillis(50));
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(callAdvisorChain.nextCall(any())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return response;
+        });
+
+        CompletableFuture<ChatClientResponse> first = callAsync(limiter, "user@example.com", "same prompt");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ChatClientResponse> second = callAsync(limiter, "user@example.com", "same prompt");
+
+        ExecutionException rejected = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AiCallRejectedException.class, rejected.getCause());
+        assertEquals(1, meterRegistry.get("ai.calls.rejected").tag("reason", "timeout").counter().count());
+
+        release.countDown();
+        assertSame(response, first.get(5, TimeUnit.SECONDS));
+        verify(callAdvisorChain, times(1)).nextCall(any());
+    }
+
+    @Test
+    @DisplayName("adviseCall() — a joined call waits for a shared call that outlasts the acquire timeout")
+    void adviseCall_shouldWaitForSharedCallLongerThanAcquireTimeout() throws Exception {
+        properties.setCallTimeout(Duration.ofSeconds(5));
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(callAdvisorChain.nextCall(any())).thenAnswer(invocation -> {
+            started.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return response;
+        });
+
+        CompletableFuture<ChatClientResponse> first = callAsync(limiter, "user@example.com", "same prompt");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ChatClientResponse> second = callAsync(limiter, "user@example.com", "same prompt");
+
+        while (meterRegistry.get("ai.calls.coalesced").counter().count() < 1) {
+            Thread.onSpinWait();
+        }
+        Thread.sleep(properties.getAcquireTimeout().multipliedBy(4).toMillis());
+        assertFalse(second.isDone());
+        release.countDown();
+
+        assertSame(response, first.get(5, TimeUnit.SECONDS));
+        assertSame(response, second.get(5, TimeUnit.SECONDS));
+        verify(callAdvisorChain, times(1)).nextCall(any());
+        assertTrue(meterRegistry.find("ai.calls.rejected").counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("adviseCall() — checks the user's slots before joining an identical call")
+    void adviseCall_shouldCheckUserSlotsBeforeJoining() {
+        properties.setMaxConcurrentCallsPerUser(1);
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user@example.com", null, List.of()));
+        ChatClientRequest request = request("same prompt");
+
+        when(callAdvisorChain.nextCall(any())).thenAnswer(invocation -> {
+            assertThrows(AiCallRejectedException.class, () -> limiter.adviseCall(request, callAdvisorChain));
+            return response;
+        });
+
+        assertSame(response, limiter.adviseCall(request, callAdvisorChain));
+        assertEquals(1, meterRegistry.get("ai.calls.rejected").tag("reason", "user").counter().count());
+        assertEquals(0, meterRegistry.get("ai.calls.coalesced").counter().count());
+    }
+
+    @Test
+    @DisplayName("adviseStream() — holds a slot until the stream terminates")
+    void adviseStream_shouldReleaseSlotWhenStreamCompletes() {
+        properties.setMaxConcurrentCalls(1);
+        AiCallLimiter limiter = new AiCallLimiter(properties, meterRegistry);
+        ChatClientRequest request = request("streamed prompt");
+
+        when(streamAdvisorChain.nextStream(request)).thenReturn(Flux.just(response, response));
+
+        List<ChatClientResponse> chunks = limiter.adviseStream(request, streamAdvisorChain)
+                .doOnNext(chunk -> assertEquals(1, meterRegistry.get("ai.calls.active").gauge().value()))
+                .collectList()
+                .block();
+
+        assertEquals(2, chunks.size());
+        assertEquals(0, meterRegistry.get("ai.calls.active").gauge().value());
+    }
+
+    private CompletableFuture<ChatClientResponse> callAsync(AiCallLimiter limiter, String user, String prompt) {
+        ChatClientRequest request = request(prompt);
+        return CompletableFuture.supplyAsync(() -> {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, null, List.of()));
+            try {
+                return limiter.adviseCall(request, callAdvisorChain);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+    }
+
+    private static ChatClientRequest request(String prompt) {
+        ChatClientRequest request = mock(ChatClientRequest.class);
+        lenient().when(request.prompt()).thenReturn(new Prompt(prompt));
+        return request;
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("Service")
+@DisplayName("Token bucket test")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("reserve() — hands out the burst immediately, then schedules tokens at the configured rate")
+    void reserve_shouldAllowBurstThenWait() {
+        TokenBucket bucket = new TokenBucket(2, 2, clock::get);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(SECOND / 2, bucket.reserve(SECOND));
+        assertEquals(SECOND, bucket.reserve(SECOND));
+    }
+
+    @Test
+    @DisplayName("reserve() — does not reserve a token that is not available in time")
+    void reserve_shouldRejectWithoutReserving() {
+        TokenBucket bucket = new TokenBucket(1, 1, clock::get);
+        bucket.reserve(0);
+
+        assertEquals(-1, bucket.reserve(SECOND / 2));
+        assertEquals(SECOND, bucket.reserve(SECOND));
+    }
+
+    @Test
+    @DisplayName("reserve() — refills over time up to the burst")
+    void reserve_shouldRefillUpToBurst() {
+        TokenBucket bucket = new TokenBucket(1, 2, clock::get);
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        clock.addAndGet(10 * SECOND);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(-1, bucket.reserve(0));
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Service")
+@DisplayName("AI model metrics advisor test")
+@ExtendWith(MockitoExtension.class)
+class AiModelMetricsAdvisorTest {
+
+    @Mock
+    private CallAdvisorChain callAdvisorChain;
+    @Mock
+    private StreamAdvisorChain streamAdvisorChain;
+    @Mock
+    private ChatClientRequest request;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiModelMetricsAdvisor advisor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        advisor = new AiModelMetricsAdvisor(new AiMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("adviseCall() — times the call and records the reported token usage")
+    void adviseCall_shouldRecordTimeAndTokens() {
+        when(callAdvisorChain.nextCall(request)).thenReturn(response("{}", 120, 30));
+
+        advisor.adviseCall(request, callAdvisorChain);
+
+        assertEquals(1, meterRegistry.get("ai.model.call").tag("mode", "call").tag("outcome", "success").timer().count());
+        assertEquals(120, meterRegistry.get("ai.tokens").tag("type", "prompt").summary().totalAmount());
+        assertEquals(30, meterRegistry.get("ai.tokens").tag("type", "completion").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("adviseCall() — records a failed call without tokens and rethrows")
+    void adviseCall_shouldRecordError() {
+        when(callAdvisorChain.nextCall(request)).thenThrow(new IllegalStateException("model down"));
+
+        assertThrows(IllegalStateException.class, () -> advisor.adviseCall(request, callAdvisorChain));
+
+        assertEquals(1, meterRegistry.get("ai.model.call").tag("outcome", "error").timer().count());
+        assertNull(meterRegistry.find("ai.tokens").summary());
+    }
+
+    @Test
+    @DisplayName("adviseStream() — records one call per stream with the usage of the last chunk")
+    void adviseStream_shouldRecordOnCompletion() {
+        when(streamAdvisorChain.nextStream(request)).thenReturn(Flux.just(
+                response("{\"a\":", 0, 0),
+                response("1}", 80, 12)));
+
+        List<ChatClientResponse> chunks = advisor.adviseStream(request, streamAdvisorChain).collectList().block();
+
+        assertEquals(2, chunks.size());
+        assertEquals(1, meterRegistry.get("ai.model.call").tag("mode", "stream").tag("outcome", "success").timer().count());
+        assertEquals(80, meterRegistry.get("ai.tokens").tag("type", "prompt").summary().totalAmount());
+    }
+
+    private static ChatClientResponse response(String text, int promptTokens, int completionTokens) {
+        ChatResponse chatResponse = ChatResponse.builder()
+                .generations(List.of(new Generation(new AssistantMessage(text))))
+                .metadata(ChatResponseMetadata.builder()
+                        .usage(new DefaultUsage(promptTokens, completionTokens))
+                        .build())
+                .build();
+        return ChatClientResponse.builder().chatResponse(chatResponse).build();
+    }
+}
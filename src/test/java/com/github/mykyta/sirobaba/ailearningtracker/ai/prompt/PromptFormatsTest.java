@@ -0,0 +1,57 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.prompt;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("Service")
+@DisplayName("Prompt formats test")
+class PromptFormatsTest {
+
+    @Test
+    @DisplayName("subgoals() — formats one numbered line per subgoal")
+    void subgoals_shouldFormatCompactLines() {
+        Subgoal basics = Subgoal.builder()
+                .id(1L)
+                .title("Basics")
+                .description("Syntax and\ntypes")
+                .difficulty(Difficulty.EASY)
+                .estimatedHours(10)
+                .completed(true)
+                .build();
+        Subgoal spring = Subgoal.builder()
+                .id(2L)
+                .title("Spring")
+                .difficulty(Difficulty.HARD)
+                .build();
+
+        assertEquals("1. Basics [EASY, 10h, done]: Syntax and types\n2. Spring [HARD, open]",
+                PromptFormats.subgoals(List.of(basics, spring)));
+    }
+
+    @Test
+    @DisplayName("progressLogs() — formats notes as bullet lines and skips empty ones")
+    void progressLogs_shouldSkipEmptyNotes() {
+        List<ProgressLogContentDto> logs = List.of(
+                ProgressLogContentDto.builder().id(1L).content("Read chapter 1").build(),
+                ProgressLogContentDto.builder().id(2L).content("  ").build(),
+                ProgressLogContentDto.builder().id(3L).content("Wrote\r\ntests ").build()
+        );
+
+        assertEquals("- Read chapter 1\n- Wrote  tests", PromptFormats.progressLogs(logs));
+    }
+
+    @Test
+    @DisplayName("subgoals() and progressLogs() — return none for empty input")
+    void shouldReturnNoneForEmptyInput() {
+        assertEquals("none", PromptFormats.subgoals(List.of()));
+        assertEquals("none", PromptFormats.progressLogs(List.of()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Service")
+@DisplayName("Prompt template test")
+class PromptTemplateTest {
+
+    @Test
+    @DisplayName("render() — fills every slot, including repeated ones")
+    void render_shouldFillSlots() {
+        PromptTemplate template = PromptTemplate.compile("test", "Goal: {{goal}} ({{ difficulty }}), again {{goal}}.");
+
+        String prompt = template.render(Map.of("goal", "Learn Java", "difficulty", "EASY", "unused", "x"));
+
+        assertEquals("Goal: Learn Java (EASY), again Learn Java.", prompt);
+        assertEquals(Set.of("goal", "difficulty"), template.getSlotNames());
+    }
+
+    @Test
+    @DisplayName("render() — keeps text without placeholders and unterminated braces as is")
+    void render_shouldKeepLiterals() {
+        assertEquals("plain text", PromptTemplate.compile("test", "plain text").render(Map.of()));
+        assertEquals("json {{ not a slot", PromptTemplate.compile("test", "json {{ not a slot").render(Map.of()));
+        assertEquals("{\"a\": 1}", PromptTemplate.compile("test", "{\"a\": 1}").render(Map.of()));
+    }
+
+    @Test
+    @DisplayName("render() — produces the same text as chained String.replace")
+    void render_shouldMatchStringReplace() {
+        String source = "Head {{a}} middle {{b}}\n{{a}} tail";
+
+        String expected = source.replace("{{a}}", "first").replace("{{b}}", "second");
+
+        assertEquals(expected, PromptTemplate.compile("test", source).render(Map.of("a", "first", "b", "second")));
+    }
+
+    @Test
+    @DisplayName("render() — throws when a slot has no value")
+    void render_shouldThrowForMissingSlot() {
+        PromptTemplate template = PromptTemplate.compile("test", "Goal: {{goal}}");
+
+        IllegalArgumentException exception =
+                assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+        assertTrue(exception.getMessage().contains("goal"));
+    }
+
+    @Test
+    @DisplayName("getSlotNames() — lists slots in order of first appearance")
+    void getSlotNames_shouldKeepOrder() {
+        PromptTemplate template = PromptTemplate.compile("test", "{{b}} {{a}} {{b}}");
+
+        assertEquals(List.of("b", "a"), List.copyOf(template.getSlotNames()));
+    }
+}
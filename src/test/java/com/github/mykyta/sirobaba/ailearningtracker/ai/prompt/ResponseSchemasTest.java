@@ -0,0 +1,44 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.prompt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.PlanAiResultDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Tag("Service")
+@DisplayName("Response schemas test")
+class ResponseSchemasTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("of() — plan schema requires the model fields and lists every difficulty")
+    void of_shouldDescribePlan() throws Exception {
+        JsonNode schema = objectMapper.readTree(ResponseSchemas.of(PlanAiResultDto.class));
+
+        assertEquals("[\"generalGoal\",\"difficulty\",\"subGoals\"]", schema.get("required").toString());
+        assertEquals("[\"EASY\",\"MEDIUM\",\"HARD\"]", schema.at("/properties/difficulty/enum").toString());
+        assertEquals("integer", schema.at("/properties/subGoals/items/properties/estimatedHours/type").asText());
+    }
+
+    @Test
+    @DisplayName("of() — analysis schema is valid JSON")
+    void of_shouldDescribeAnalysis() throws Exception {
+        JsonNode schema = objectMapper.readTree(ResponseSchemas.of(AiAnalysisOfProgressLogDto.class));
+
+        assertEquals("[\"title\",\"analysisText\"]", schema.get("required").toString());
+    }
+
+    @Test
+    @DisplayName("of() — rejects a type without a schema")
+    void of_shouldRejectUnknownType() {
+        assertThrows(IllegalArgumentException.class, () -> ResponseSchemas.of(GoalRequestDto.class));
+    }
+}
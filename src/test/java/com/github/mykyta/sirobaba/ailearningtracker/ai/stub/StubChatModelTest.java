@@ -0,0 +1,124 @@
+package com.github.mykyta.sirobaba.ailearningtracker.ai.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties.CannedResponse;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiStubProperties.LatencyDistribution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("Service")
+@DisplayName("Stub chat model test")
+class StubChatModelTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private AiStubProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiStubProperties();
+        properties.setRecordings(tempDir.resolve("recordings.jsonl"));
+        properties.setLatencyDistribution(LatencyDistribution.FIXED);
+        properties.setLatency(Duration.ZERO);
+        properties.setSeed(42L);
+        properties.setResponses(List.of(
+                canned("{\"plan\":true}", "generalGoal", "subGoals"),
+                canned("{\"goal\":true}", "generalGoal")));
+    }
+
+    @Test
+    @DisplayName("call() — uses the first canned response whose fragments all occur in the prompt")
+    void call_shouldUseFirstMatchingCannedResponse() {
+        StubChatModel model = new StubChatModel(properties, objectMapper);
+
+        assertEquals("{\"plan\":true}", text(model.call(new Prompt("return generalGoal and subGoals"))));
+        assertEquals("{\"goal\":true}", text(model.call(new Prompt("return generalGoal"))));
+        assertThrows(IllegalStateException.class, () -> model.call(new Prompt("unknown")));
+    }
+
+    @Test
+    @DisplayName("call() — replays the latest recording of the prompt")
+    void call_shouldReplayRecording() throws Exception {
+        Files.writeString(properties.getRecordings(), String.join("\n",
+                objectMapper.writeValueAsString(new Recording("return generalGoal", "{\"old\":true}")),
+                objectMapper.writeValueAsString(new Recording("return generalGoal", "{\"recorded\":true}"))));
+
+        StubChatModel model = new StubChatModel(properties, objectMapper);
+
+        assertEquals("{\"recorded\":true}", text(model.call(new Prompt("return generalGoal"))));
+    }
+
+    @Test
+    @DisplayName("call() / stream() — fail with a transient error at failure rate 1")
+    void call_shouldFailAtFailureRate() {
+        properties.setFailureRate(1.0);
+        StubChatModel model = new StubChatModel(properties, objectMapper);
+
+        assertThrows(TransientAiException.class, () -> model.call(new Prompt("return generalGoal")));
+        assertThrows(TransientAiException.class, () -> model.stream(new Prompt("return generalGoal")).blockLast());
+    }
+
+    @Test
+    @DisplayName("stream() — emits the response in chunks")
+    void stream_shouldEmitChunks() {
+        properties.setStreamChunks(4);
+        StubChatModel model = new StubChatModel(properties, objectMapper);
+
+        List<String> chunks = model.stream(new Prompt("return generalGoal and subGoals"))
+                .map(StubChatModelTest::text)
+                .collectList()
+                .block();
+
+        assertEquals(4, chunks.size());
+        assertEquals("{\"plan\":true}", String.join("", chunks));
+    }
+
+    @Test
+    @DisplayName("nextLatency() — log-normal latency matches the configured median and 99th percentile")
+    void nextLatency_shouldMatchConfiguredPercentiles() {
+        properties.setLatencyDistribution(LatencyDistribution.LOG_NORMAL);
+        properties.setLatency(Duration.ofMillis(800));
+        properties.setLatencyP99(Duration.ofSeconds(3));
+        StubChatModel model = new StubChatModel(properties, objectMapper);
+
+        long[] samples = new long[20_000];
+        Arrays.setAll(samples, i -> model.nextLatency().toMillis());
+        Arrays.sort(samples);
+
+        long median = samples[samples.length / 2];
+        long p99 = samples[samples.length * 99 / 100];
+        assertTrue(Math.abs(median - 800) < 40, "median " + median);
+        assertTrue(Math.abs(p99 - 3000) < 300, "p99 " + p99);
+    }
+
+    private static CannedResponse canned(String response, String... promptContains) {
+        CannedResponse canned = new CannedResponse();
+        canned.setPromptContains(List.of(promptContains));
+        canned.setResponse(response);
+        return canned;
+    }
+
+    private static String text(ChatResponse response) {
+        return response.getResult().getOutput().getText();
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.mykyta.sirobaba.ailearningtracker.aspects;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.RequestLogProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Service")
+@DisplayName("Request log aspect test")
+@ExtendWith(MockitoExtension.class)
+class RequestLogAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private MethodSignature signature;
+
+    private RequestLogProperties properties;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new RequestLogProperties();
+        properties.setSlowThreshold(Duration.ofHours(1));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(SampleController.class.getDeclaredMethod("getGoal"));
+
+        appender = new ListAppender<>();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(RequestLogAspect.LOGGER_NAME)).addAppender(appender);
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("GET", "/goal/42")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger(RequestLogAspect.LOGGER_NAME)).detachAppender(appender);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("logRequest() — writes a single line with the endpoint, request and outcome")
+    void logRequest_shouldWriteOneLine() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("goal");
+
+        Object result = new RequestLogAspect(properties).logRequest(joinPoint);
+
+        assertEquals("goal", result);
+        assertEquals(1, appender.list.size());
+        Map<String, Object> line = keyValues(appender.list.get(0));
+        assertEquals("SampleController.getGoal", line.get("endpoint"));
+        assertEquals("GET", line.get("method"));
+        assertEquals("/goal/42", line.get("uri"));
+        assertEquals("ok", line.get("outcome"));
+    }
+
+    @Test
+    @DisplayName("logRequest() — skips successful calls of an endpoint sampled at zero")
+    void logRequest_shouldSkipUnsampledCalls() throws Throwable {
+        properties.setEndpoints(Map.of("SampleController.getGoal", 0.0));
+        when(joinPoint.proceed()).thenReturn("goal");
+
+        RequestLogAspect aspect = new RequestLogAspect(properties);
+        for (int i = 0; i < 10; i++) {
+            aspect.logRequest(joinPoint);
+        }
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    @DisplayName("logRequest() — always logs failed calls and rethrows")
+    void logRequest_shouldAlwaysLogFailures() throws Throwable {
+        properties.setSampleRate(0);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("Goal not found"));
+
+        assertThrows(IllegalStateException.class, () -> new RequestLogAspect(properties).logRequest(joinPoint));
+
+        Map<String, Object> line = keyValues(appender.list.get(0));
+        assertEquals("error", line.get("outcome"));
+        assertEquals("IllegalStateException", line.get("exception"));
+        assertEquals("Goal not found", line.get("message"));
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream().collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+
+    static class SampleController {
+
+        String getGoal() {
+            return "goal";
+        }
+    }
+}
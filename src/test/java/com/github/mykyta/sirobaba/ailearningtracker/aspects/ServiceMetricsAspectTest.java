@@ -0,0 +1,67 @@
+package com.github.mykyta.sirobaba.ailearningtracker.aspects;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Service")
+@DisplayName("Service metrics aspect test")
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new ServiceMetricsAspect(meterRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(SampleServiceImpl.class.getDeclaredMethod("findGoal"));
+    }
+
+    @Test
+    @DisplayName("time() — records every call on one timer per method and outcome")
+    void time_shouldReuseTimers() throws Throwable {
+        when(joinPoint.proceed())
+                .thenReturn("goal")
+                .thenReturn("goal")
+                .thenThrow(new IllegalStateException("boom"));
+
+        aspect.time(joinPoint);
+        aspect.time(joinPoint);
+        assertThrows(IllegalStateException.class, () -> aspect.time(joinPoint));
+
+        Timer success = meterRegistry.get("service.method")
+                .tags("class", "SampleServiceImpl", "method", "findGoal", "exception", "none")
+                .timer();
+        Timer failure = meterRegistry.get("service.method")
+                .tags("exception", "IllegalStateException")
+                .timer();
+        assertEquals(2, success.count());
+        assertEquals(1, failure.count());
+        assertEquals(2, meterRegistry.getMeters().size());
+    }
+
+    private static final class SampleServiceImpl {
+        String findGoal() {
+            return "goal";
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.A
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapperImpl;
 import com.github.mykyta.sirobaba.ailearningtracker.resolvers.UserArgumentResolver;
 import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsService;
 import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
@@ -25,17 +26,22 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.github.mykyta.sirobaba.ailearningtracker.SecurityTestUtils.authenticationWithUser;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -46,7 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @WebMvcTest(AIAnalysisController.class)
 @DisplayName("Artificial intelligence analysis controller test")
-@Import({WebMvcConfig.class, UserArgumentResolver.class})
+@Import({WebMvcConfig.class, UserArgumentResolver.class, UserMapperImpl.class})
 class AIAnalysisControllerTest {
 
     @MockitoBean
@@ -108,6 +114,38 @@ class AIAnalysisControllerTest {
         verify(aiAnalysisService).createAIAnalysis(eq(1L), any(AIAnalysisRequestDto.class), eq(100L));
     }
 
+    @Test
+    @DisplayName("POST /aiAnalysis/{goalId}/analysis/stream: Should stream analysis events")
+    void streamAIAnalysisShouldStreamEventsWhenRequestIsValid() throws Exception {
+        when(userService.findCurrentUserInfoDto(anyString())).thenReturn(currentUserInfoDto);
+
+        AIAnalysisRequestDto requestDto = AIAnalysisRequestDto.builder().limit(1).build();
+
+        SseEmitter emitter = new SseEmitter();
+        emitter.send(SseEmitter.event().name("token").data("Keep going"));
+        emitter.complete();
+
+        when(aiAnalysisService.streamAIAnalysis(eq(currentUserInfoDto.getId()), any(AIAnalysisRequestDto.class), eq(100L)))
+                .thenReturn(emitter);
+
+        MvcResult mvcResult = mockMvc.perform(post("/aiAnalysis/{goalId}/analysis/stream", 100L)
+                        .with(authentication(authenticationWithUser(currentUserInfoDto)))
+                        .with(csrf())
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("event:token")))
+                .andExpect(content().string(containsString("data:Keep going")));
+
+        verify(aiAnalysisService).streamAIAnalysis(eq(1L), any(AIAnalysisRequestDto.class), eq(100L));
+    }
+
     @Test
     @DisplayName("GET /aiAnalysis/{goalId}/analysis/{analysisId}: Should return 200 OK and details")
     void getAIAnalysisShouldReturnDetailsWhenFound() throws Exception {
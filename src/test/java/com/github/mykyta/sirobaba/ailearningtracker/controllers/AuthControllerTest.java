@@ -7,6 +7,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.controllers.auth.AuthControl
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.auth.*;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapperImpl;
 import com.github.mykyta.sirobaba.ailearningtracker.resolvers.UserArgumentResolver;
 import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsService;
 import com.github.mykyta.sirobaba.ailearningtracker.security.filters.AccessTokenAuthenticationFilter;
@@ -46,7 +47,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @WebMvcTest(AuthController.class)
 @DisplayName("Authentication controller test")
-@Import({WebMvcConfig.class, UserArgumentResolver.class, SecurityConfig.class})
+@Import({WebMvcConfig.class, UserArgumentResolver.class, UserMapperImpl.class, SecurityConfig.class})
 class AuthControllerTest {
 
     @MockitoBean
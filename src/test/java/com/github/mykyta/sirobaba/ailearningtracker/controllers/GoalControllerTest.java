@@ -2,16 +2,22 @@ package com.github.mykyta.sirobaba.ailearningtracker.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.mykyta.sirobaba.ailearningtracker.configs.WebMvcConfig;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidCursorException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobStatus;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapperImpl;
 import com.github.mykyta.sirobaba.ailearningtracker.resolvers.UserArgumentResolver;
 import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsService;
 import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
+import com.github.mykyta.sirobaba.ailearningtracker.services.GoalCreationJobService;
 import com.github.mykyta.sirobaba.ailearningtracker.services.GoalService;
 import com.github.mykyta.sirobaba.ailearningtracker.services.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +43,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -48,7 +55,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @WebMvcTest(GoalController.class)
 @DisplayName("Goal controller test")
-@Import({WebMvcConfig.class, UserArgumentResolver.class})
+@Import({WebMvcConfig.class, UserArgumentResolver.class, UserMapperImpl.class})
 class GoalControllerTest {
 
     @MockitoBean
@@ -58,6 +65,8 @@ class GoalControllerTest {
     @MockitoBean
     private GoalService goalService;
     @MockitoBean
+    private GoalCreationJobService goalCreationJobService;
+    @MockitoBean
     private UserService userService;
 
     @Autowired
@@ -117,6 +126,57 @@ class GoalControllerTest {
         verify(goalService).createGoal(any(GoalRequestDto.class), eq(currentUserInfoDto));
     }
 
+    @Test
+    @DisplayName("POST /goal/create?async=true: Should return 202 Accepted with job id")
+    void createGoalAsyncShouldReturnAcceptedWithJobId() throws Exception {
+        GoalRequestDto requestDto = GoalRequestDto.builder()
+                .title("Learn Java")
+                .prompt("Master Collections and Streams")
+                .deadline(LocalDate.of(2026, 1, 1))
+                .hoursPerWeek(40)
+                .build();
+
+        GoalCreationJobDto jobDto = GoalCreationJobDto.builder()
+                .jobId("job-1")
+                .status(GoalCreationJobStatus.PENDING)
+                .build();
+
+        when(goalCreationJobService.submit(any(GoalRequestDto.class), eq(currentUserInfoDto))).thenReturn(jobDto);
+
+        mockMvc.perform(post("/goal/create")
+                        .param("async", "true")
+                        .with(authentication(authenticationWithUser(currentUserInfoDto)))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/goal/create/jobs/job-1"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        verify(goalCreationJobService).submit(any(GoalRequestDto.class), eq(currentUserInfoDto));
+    }
+
+    @Test
+    @DisplayName("GET /goal/create/jobs/{jobId}: Should return 200 OK with job state")
+    void getGoalCreationJobShouldReturnJobState() throws Exception {
+        GoalCreationJobDto jobDto = GoalCreationJobDto.builder()
+                .jobId("job-1")
+                .status(GoalCreationJobStatus.COMPLETED)
+                .goal(GoalResponseDto.builder().id(100L).title("Learn Java").build())
+                .build();
+
+        when(goalCreationJobService.getJob("job-1", currentUserInfoDto.getId())).thenReturn(jobDto);
+
+        mockMvc.perform(get("/goal/create/jobs/{jobId}", "job-1")
+                        .with(authentication(authenticationWithUser(currentUserInfoDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.goal.id").value(100L));
+
+        verify(goalCreationJobService).getJob("job-1", 1L);
+    }
+
     @Test
     @DisplayName("GET /goal/{goalId}: Should return 200 OK and goal details")
     void getGoalShouldReturnGoalWhenFound() throws Exception {
@@ -247,4 +307,45 @@ class GoalControllerTest {
 
         verify(goalService).getAllCompletedGoals(any(Pageable.class), eq(1L));
     }
+
+    @Test
+    @DisplayName("GET /goal/goals/cursor: Should return 200 OK and a slice without total count")
+    void getAllGoalsByCursorShouldReturnSlice() throws Exception {
+        when(userService.findCurrentUserInfoDto(anyString())).thenReturn(currentUserInfoDto);
+
+        GoalSummaryDto summaryDto = GoalSummaryDto.builder()
+                .id(10L)
+                .title("Active Goal 1")
+                .build();
+
+        when(goalService.getAllGoals("abc", 1, currentUserInfoDto.getId()))
+                .thenReturn(new CursorPageResponse<>(List.of(summaryDto), 1, "next", true));
+
+        mockMvc.perform(get("/goal/goals/cursor")
+                        .param("cursor", "abc")
+                        .param("size", "1")
+                        .with(authentication(authenticationWithUser(currentUserInfoDto)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(10L))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(goalService).getAllGoals("abc", 1, 1L);
+    }
+
+    @Test
+    @DisplayName("GET /goal/goals/completed/cursor: Should return 400 Bad Request for a malformed cursor")
+    void getAllCompletedGoalsByCursorShouldRejectMalformedCursor() throws Exception {
+        when(userService.findCurrentUserInfoDto(anyString())).thenReturn(currentUserInfoDto);
+        when(goalService.getAllCompletedGoals("broken", 10, currentUserInfoDto.getId()))
+                .thenThrow(new InvalidCursorException("Invalid page cursor: broken"));
+
+        mockMvc.perform(get("/goal/goals/completed/cursor")
+                        .param("cursor", "broken")
+                        .with(authentication(authenticationWithUser(currentUserInfoDto)))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -2,12 +2,14 @@ package com.github.mykyta.sirobaba.ailearningtracker.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.mykyta.sirobaba.ailearningtracker.configs.WebMvcConfig;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogBatchResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogDetailsResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapperImpl;
 import com.github.mykyta.sirobaba.ailearningtracker.resolvers.UserArgumentResolver;
 import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsService;
 import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
@@ -26,10 +28,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.github.mykyta.sirobaba.ailearningtracker.SecurityTestUtils.authenticationWithUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
@@ -46,7 +51,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @WebMvcTest(ProgressLogController.class)
 @DisplayName("Progress log controller test")
-@Import({WebMvcConfig.class, UserArgumentResolver.class})
+@Import({WebMvcConfig.class, UserArgumentResolver.class, UserMapperImpl.class})
 class ProgressLogControllerTest {
 
     @MockitoBean
@@ -113,6 +118,34 @@ class ProgressLogControllerTest {
         verify(progressLogService).createProgressLog(eq(1L), any(), eq(1L));
     }
 
+    @Test
+    @DisplayName("POST /progressLog/{goalId}/logs:batch Bulk add: Should stream NDJSON body to the service and return 201 Created")
+    void addProgressLogsToGoalShouldReturnCreatedForNdjson() throws Exception {
+        when(userService.findCurrentUserInfoDto(anyString())).thenReturn(currentUserInfoDto);
+        String body = """
+                {"title":"Day 1","hours":1,"minutes":0,"note":"Read the first chapter of the book"}
+                {"title":"Day 2","hours":0,"minutes":45,"note":"Solved the exercises of chapter one"}
+                """;
+        StringBuilder received = new StringBuilder();
+
+        when(progressLogService.createProgressLogs(eq(1L), any(InputStream.class), eq(1L))).thenAnswer(invocation -> {
+            InputStream stream = invocation.getArgument(1);
+            received.append(new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+            return ProgressLogBatchResponseDto.builder().goalId(1L).created(2).build();
+        });
+
+        mockMvc.perform(post("/progressLog/{goalId}/logs:batch", 1L)
+                        .with(authentication(authenticationWithUser(currentUserInfoDto)))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.goalId").value(1L))
+                .andExpect(jsonPath("$.created").value(2));
+
+        assertEquals(body, received.toString());
+    }
+
     @Test
     @DisplayName("GET /progressLog/{goalId}/logs Get all logs: Should return 200 OK and paginated list")
     void getLogsForGoalShouldReturnPaginatedListWhenRequestIsValid() throws Exception {
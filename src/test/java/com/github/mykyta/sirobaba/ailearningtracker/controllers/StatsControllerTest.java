@@ -0,0 +1,147 @@
+package com.github.mykyta.sirobaba.ailearningtracker.controllers;
+
+import com.github.mykyta.sirobaba.ailearningtracker.configs.WebMvcConfig;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidStatsRangeException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.DailyStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDetailsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.UserStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapperImpl;
+import com.github.mykyta.sirobaba.ailearningtracker.resolvers.UserArgumentResolver;
+import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsService;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
+import com.github.mykyta.sirobaba.ailearningtracker.services.StatsService;
+import com.github.mykyta.sirobaba.ailearningtracker.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.github.mykyta.sirobaba.ailearningtracker.SecurityTestUtils.authenticationWithUser;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Tag("Controller")
+@AutoConfigureMockMvc
+@WebMvcTest(StatsController.class)
+@DisplayName("Stats controller test")
+@Import({WebMvcConfig.class, UserArgumentResolver.class, UserMapperImpl.class})
+class StatsControllerTest {
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+    @MockitoBean
+    private JwtTool jwtTool;
+    @MockitoBean
+    private StatsService statsService;
+    @MockitoBean
+    private UserService userService;
+    @Autowired
+    private MockMvc mockMvc;
+
+    private CurrentUserInfoDto currentUserInfoDto;
+
+    @BeforeEach
+    void setup() {
+        currentUserInfoDto = CurrentUserInfoDto.builder()
+                .id(1L)
+                .username("Jack")
+                .email("test@example.com")
+                .twoFactorEnabled(false)
+                .role(Role.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /stats: Should return 200 OK with totals, streaks and daily progress of the range")
+    void getUserStatsShouldReturnStatsForRange() throws Exception {
+        when(userService.findCurrentUserInfoDto(anyString())).thenReturn(currentUserInfoDto);
+        LocalDate from = LocalDate.of(2025, 10, 1);
+        LocalDate to = LocalDate.of(2025, 10, 31);
+
+        UserStatsDto userStatsDto = UserStatsDto.builder()
+                .totalLogs(12L)
+                .totalMinutes(600L)
+                .activeDays(9)
+                .currentStreak(3)
+                .longestStreak(5)
+                .from(from)
+                .to(to)
+                .goals(List.of(new GoalStatsDto(7L, "Learn SQL", 12L, 600L, LocalDate.of(2025, 10, 30))))
+                .daily(List.of(new DailyStatsDto(LocalDate.of(2025, 10, 30), 2L, 90L)))
+                .build();
+
+        when(statsService.getUserStats(1L, from, to)).thenReturn(userStatsDto);
+
+        mockMvc.perform(get("/stats")
+                        .param("from", "2025-10-01")
+                        .param("to", "2025-10-31")
+                        .with(authentication(authenticationWithUser(currentUserInfoDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalMinutes").value(600))
+                .andExpect(jsonPath("$.currentStreak").value(3))
+                .andExpect(jsonPath("$.goals[0].goalId").value(7))
+                .andExpect(jsonPath("$.daily[0].date").value("2025-10-30"))
+                .andExpect(jsonPath("$.daily[0].minutes").value(90));
+
+        verify(statsService).getUserStats(1L, from, to);
+    }
+
+    @Test
+    @DisplayName("GET /stats/goals/{goalId}: Should return 200 OK with the statistics of the goal")
+    void getGoalStatsShouldReturnStatsOfGoal() throws Exception {
+        when(userService.findCurrentUserInfoDto(anyString())).thenReturn(currentUserInfoDto);
+
+        GoalStatsDetailsDto goalStatsDetailsDto = GoalStatsDetailsDto.builder()
+                .goalId(7L)
+                .title("Learn SQL")
+                .totalLogs(4L)
+                .totalMinutes(180L)
+                .activeDays(4)
+                .currentStreak(0)
+                .longestStreak(2)
+                .daily(List.of())
+                .build();
+
+        when(statsService.getGoalStats(7L, 1L, null, null)).thenReturn(goalStatsDetailsDto);
+
+        mockMvc.perform(get("/stats/goals/{goalId}", 7L)
+                        .with(authentication(authenticationWithUser(currentUserInfoDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Learn SQL"))
+                .andExpect(jsonPath("$.totalLogs").value(4))
+                .andExpect(jsonPath("$.longestStreak").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /stats: Should return 400 Bad Request when the range is invalid")
+    void getUserStatsShouldReturnBadRequestForInvalidRange() throws Exception {
+        when(userService.findCurrentUserInfoDto(anyString())).thenReturn(currentUserInfoDto);
+        LocalDate from = LocalDate.of(2025, 10, 31);
+        LocalDate to = LocalDate.of(2025, 10, 1);
+
+        when(statsService.getUserStats(1L, from, to)).thenThrow(new InvalidStatsRangeException("Invalid range"));
+
+        mockMvc.perform(get("/stats")
+                        .param("from", "2025-10-31")
+                        .param("to", "2025-10-01")
+                        .with(authentication(authenticationWithUser(currentUserInfoDto))))
+                .andExpect(status().isBadRequest());
+    }
+}
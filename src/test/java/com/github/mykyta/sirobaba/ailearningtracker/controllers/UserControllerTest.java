@@ -6,6 +6,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.Current
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.TwoFactorActivationRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.TwoFactorSetupResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapperImpl;
 import com.github.mykyta.sirobaba.ailearningtracker.resolvers.UserArgumentResolver;
 import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetailsService;
 import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
@@ -40,7 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @WebMvcTest(UserController.class)
 @DisplayName("User controller test")
-@Import({WebMvcConfig.class, UserArgumentResolver.class})
+@Import({WebMvcConfig.class, UserArgumentResolver.class, UserMapperImpl.class})
 class UserControllerTest {
 
     @MockitoBean
@@ -3,7 +3,9 @@ package com.github.mykyta.sirobaba.ailearningtracker.mappers;
 import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapper;
 import org.junit.jupiter.api.*;
 import org.mapstruct.factory.Mappers;
@@ -70,4 +72,29 @@ class UserMapperTest {
             assertNull(userMapper.toCurrentUserInfoDto(null));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Method: fromTokenState")
+    class FromTokenStateTests {
+        @Test
+        @DisplayName("Should map identity fields from UserTokenStateDto to CurrentUserInfoDto")
+        void fromTokenState_ShouldMapAllFieldsCorrectly() {
+            UserTokenStateDto state = UserTokenStateDto.builder()
+                    .id(ModelUtils.TEST_ID)
+                    .email(ModelUtils.TEST_EMAIL)
+                    .username("tester")
+                    .role(Role.USER)
+                    .refreshTokenKey("key")
+                    .twoFactorEnabled(true)
+                    .build();
+
+            CurrentUserInfoDto dto = userMapper.fromTokenState(state);
+
+            assertEquals(state.getId(), dto.getId(), "Id field should be mapped correctly");
+            assertEquals(state.getEmail(), dto.getEmail(), "Email field should be mapped correctly");
+            assertEquals(state.getUsername(), dto.getUsername(), "Username field should be mapped correctly");
+            assertEquals(Role.USER, dto.getRole(), "Role field should be mapped correctly");
+            assertTrue(dto.isTwoFactorEnabled(), "Two-factor flag should be mapped correctly");
+        }
+    }
+}
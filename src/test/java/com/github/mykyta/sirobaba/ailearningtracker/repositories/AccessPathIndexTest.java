@@ -0,0 +1,121 @@
+package com.github.mykyta.sirobaba.ailearningtracker.repositories;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.AIAnalysisRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.GoalRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogRepo;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies with EXPLAIN that the SQL generated for the main list queries is planned on the
+ * indexes from {@code 006-add-access-path-indexes.xml}. The statements are captured from
+ * Hibernate while the repository methods run, so the test follows any change of the queries.
+ * The schema is built by the real Liquibase changelog on an embedded database in PostgreSQL mode.
+ */
+@Tag("Repository")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.github.mykyta.sirobaba.ailearningtracker.repositories.AccessPathIndexTest$SqlRecorder")
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Access path index test")
+class AccessPathIndexTest {
+
+    private static final long OWNER_ID = 1L;
+    private static final long GOAL_ID = 1L;
+    private static final int LIMIT = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private GoalRepo goalRepo;
+    @Autowired
+    private ProgressLogRepo progressLogRepo;
+    @Autowired
+    private AIAnalysisRepo aiAnalysisRepo;
+
+    @BeforeEach
+    void setUp() {
+        SqlRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("Progress log slice is read through (goal_id, log_time DESC, id DESC)")
+    void progressLogSliceShouldUseGoalLogTimeIndex() {
+        progressLogRepo.findFirstLogsByGoalIdAndUserId(GOAL_ID, OWNER_ID, PageRequest.of(0, LIMIT));
+
+        String plan = explain(SqlRecorder.lastStatement(), GOAL_ID, OWNER_ID, LIMIT);
+
+        assertThat(plan).containsIgnoringCase("idx_progress_logs_goal_id_log_time");
+    }
+
+    @Test
+    @DisplayName("Analysis slice is read through (goal_id, created_at DESC, id DESC)")
+    void analysisSliceShouldUseGoalCreatedAtIndex() {
+        aiAnalysisRepo.findFirstByUserIdAndGoalId(OWNER_ID, GOAL_ID, PageRequest.of(0, LIMIT));
+
+        String plan = explain(SqlRecorder.lastStatement(), GOAL_ID, OWNER_ID, LIMIT);
+
+        assertThat(plan).containsIgnoringCase("idx_ai_analysis_goal_id_created_at");
+    }
+
+    @Test
+    @DisplayName("Completed goal slice is a single-table read through (user_id, is_completed)")
+    void completedGoalSliceShouldUseUserCompletedIndex() {
+        goalRepo.findFirstGoalsWithSubCount(OWNER_ID, true, PageRequest.of(0, LIMIT));
+
+        String plan = explain(SqlRecorder.lastStatement(), true, OWNER_ID, LIMIT);
+
+        assertThat(plan).containsIgnoringCase("idx_goals_user_id_is_completed");
+        assertThat(plan).doesNotContainIgnoringCase("subgoals");
+    }
+
+    /**
+     * Explains a captured statement with its parameters bound in the order they appear in the SQL.
+     */
+    private String explain(String sql, Object... parameters) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters));
+    }
+
+    /**
+     * Records the SQL that Hibernate sends to the database.
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static String lastStatement() {
+            synchronized (STATEMENTS) {
+                assertThat(STATEMENTS).isNotEmpty();
+                return STATEMENTS.get(STATEMENTS.size() - 1);
+            }
+        }
+    }
+}
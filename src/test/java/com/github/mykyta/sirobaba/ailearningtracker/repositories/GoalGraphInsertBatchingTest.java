@@ -0,0 +1,83 @@
+package com.github.mykyta.sirobaba.ailearningtracker.repositories;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements needed to persist a goal with its subgoals.
+ * <p>
+ * With identity ids every subgoal was inserted in its own round trip (1 + N statements).
+ * Pooled sequences let Hibernate batch the cascade: at most two sequence calls per entity
+ * type, one goal insert and one batched subgoal insert.
+ */
+@Tag("Repository")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Goal graph insert batching test")
+class GoalGraphInsertBatchingTest {
+
+    private static final int SUBGOALS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Goal with subgoals is inserted in a constant number of round trips")
+    void goalGraphShouldBeInsertedInBatches() {
+        User owner = entityManager.persistAndFlush(User.builder()
+                .username("batching")
+                .email("batching@test.com")
+                .password("password")
+                .refreshTokenKey("key")
+                .role(Role.USER)
+                .build());
+        Goal goal = Goal.builder()
+                .title("Learn JDBC")
+                .difficulty(Difficulty.MEDIUM)
+                .createdAt(LocalDate.of(2025, 10, 1))
+                .deadline(LocalDate.of(2025, 12, 1))
+                .user(owner)
+                .build();
+        List<Subgoal> subgoals = IntStream.range(0, SUBGOALS)
+                .mapToObj(i -> Subgoal.builder()
+                        .title("Step " + i)
+                        .difficulty(Difficulty.EASY)
+                        .estimatedHours(1)
+                        .goal(goal)
+                        .build())
+                .toList();
+        goal.setSubgoals(subgoals);
+        goal.setSubgoalCount(SUBGOALS);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        entityManager.persistAndFlush(goal);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + SUBGOALS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+}
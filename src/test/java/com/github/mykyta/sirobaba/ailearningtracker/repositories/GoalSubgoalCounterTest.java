@@ -0,0 +1,89 @@
+package com.github.mykyta.sirobaba.ailearningtracker.repositories;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.GoalRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the denormalized subgoal counters on {@code goals}: the atomic increment
+ * and the goal list projection that reads them.
+ */
+@Tag("Repository")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Goal subgoal counter test")
+class GoalSubgoalCounterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private GoalRepo goalRepo;
+
+    private User owner;
+    private Goal goal;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(User.builder()
+                .username("counter")
+                .email("counter@test.com")
+                .password("password")
+                .refreshTokenKey("key")
+                .role(Role.USER)
+                .build());
+        goal = entityManager.persist(Goal.builder()
+                .title("Learn SQL")
+                .description("Indexes and plans")
+                .difficulty(Difficulty.EASY)
+                .createdAt(LocalDate.of(2025, 10, 1))
+                .deadline(LocalDate.of(2025, 12, 1))
+                .subgoalCount(2)
+                .user(owner)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("incrementCompletedSubgoalCount never exceeds the subgoal count")
+    void incrementShouldStopAtSubgoalCount() {
+        assertThat(goalRepo.incrementCompletedSubgoalCount(goal.getId())).isEqualTo(1);
+        assertThat(goalRepo.incrementCompletedSubgoalCount(goal.getId())).isEqualTo(1);
+        assertThat(goalRepo.incrementCompletedSubgoalCount(goal.getId())).isZero();
+
+        assertThat(goalRepo.findById(goal.getId()))
+                .hasValueSatisfying(reloaded -> assertThat(reloaded.getCompletedSubgoalCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Goal list reads subgoal counters from the goal row")
+    void goalListShouldReturnCounters() {
+        goalRepo.incrementCompletedSubgoalCount(goal.getId());
+
+        List<GoalSummaryDto> goals =
+                goalRepo.findAllNonCompletedGoalsWithSubCount(PageRequest.of(0, 10), owner.getId()).getContent();
+
+        assertThat(goals).singleElement().satisfies(summary -> {
+            assertThat(summary.getSubGoalCount()).isEqualTo(2);
+            assertThat(summary.getCompletedSubGoalCount()).isEqualTo(1);
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.mykyta.sirobaba.ailearningtracker.repositories;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLog;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the delta query of the incremental AI analysis: reading it page by page, with the last
+ * ID of each page as the next watermark, must return every log added after the first watermark.
+ */
+@Tag("Repository")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Progress log content delta test")
+class ProgressLogContentDeltaTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 10, 18, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ProgressLogRepo progressLogRepo;
+
+    private User owner;
+    private Goal goal;
+    private Long watermark;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(User.builder()
+                .username("delta")
+                .email("delta@test.com")
+                .password("password")
+                .refreshTokenKey("key")
+                .role(Role.USER)
+                .build());
+        goal = entityManager.persist(Goal.builder()
+                .title("Learn SQL")
+                .description("Indexes and plans")
+                .difficulty(Difficulty.EASY)
+                .createdAt(LocalDate.of(2025, 10, 1))
+                .deadline(LocalDate.of(2025, 12, 1))
+                .user(owner)
+                .build());
+        watermark = log("Already analysed", NOW.minusDays(1)).getId();
+    }
+
+    @Test
+    @DisplayName("Logs beyond the limit are returned by the next page instead of being skipped")
+    void logsBeyondLimitShouldBeReadByNextPage() {
+        List<Long> added = List.of(
+                log("First", NOW).getId(),
+                log("Second", NOW.plusHours(1)).getId(),
+                log("Third", NOW.plusHours(2)).getId());
+
+        assertThat(readAllAfterWatermark(2)).containsExactlyElementsOf(added);
+    }
+
+    @Test
+    @DisplayName("A backdated log added after the watermark is returned")
+    void backdatedLogShouldBeReturned() {
+        Long recent = log("Recent", NOW).getId();
+        Long backdated = log("Backdated", NOW.minusDays(30)).getId();
+
+        assertThat(readAllAfterWatermark(1)).containsExactly(recent, backdated);
+    }
+
+    private List<Long> readAllAfterWatermark(int limit) {
+        List<Long> read = new ArrayList<>();
+        List<ProgressLogContentDto> page;
+        while (!(page = progressLogRepo.findContentsByGoalIdAndUserIdAfter(
+                goal.getId(), owner.getId(), watermark, PageRequest.of(0, limit))).isEmpty()) {
+            assertThat(page).hasSizeLessThanOrEqualTo(limit);
+            page.forEach(content -> read.add(content.getId()));
+            watermark = page.get(page.size() - 1).getId();
+        }
+        return read;
+    }
+
+    private ProgressLog log(String title, LocalDateTime logTime) {
+        ProgressLog progressLog = entityManager.persist(ProgressLog.builder()
+                .title(title)
+                .logTime(logTime)
+                .minutesSpent(30)
+                .note(title + " note")
+                .goal(goal)
+                .build());
+        entityManager.flush();
+        return progressLog;
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.mykyta.sirobaba.ailearningtracker.repositories;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.DailyStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLogDailyStats;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogDailyStatsRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the writes and statistics queries on the daily progress log rollup.
+ */
+@Tag("Repository")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Progress log daily stats repository test")
+class ProgressLogDailyStatsRepoTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 10, 10);
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private ProgressLogDailyStatsRepo dailyStatsRepo;
+
+    private User owner;
+    private Goal sql;
+    private Goal java;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(User.builder()
+                .username("stats")
+                .email("stats@test.com")
+                .password("password")
+                .refreshTokenKey("key")
+                .role(Role.USER)
+                .build());
+        sql = entityManager.persist(goal("Learn SQL"));
+        java = entityManager.persist(goal("Learn Java"));
+
+        entityManager.persist(stats(sql, DAY, 2, 90));
+        entityManager.persist(stats(sql, DAY.minusDays(1), 1, 30));
+        entityManager.persist(stats(java, DAY, 1, 60));
+        entityManager.persist(stats(java, DAY.minusDays(5), 3, 150));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Goal totals are summed over days, most recently logged goal first")
+    void goalTotalsShouldSumDays() {
+        List<GoalStatsDto> totals = dailyStatsRepo.findGoalTotalsByUserId(owner.getId());
+
+        assertThat(totals).extracting(GoalStatsDto::getGoalId).containsExactly(java.getId(), sql.getId());
+        assertThat(totals.get(0).getTotalLogs()).isEqualTo(4L);
+        assertThat(totals.get(0).getTotalMinutes()).isEqualTo(210L);
+        assertThat(totals.get(1).getTitle()).isEqualTo("Learn SQL");
+        assertThat(totals.get(1).getLastLogDate()).isEqualTo(DAY);
+    }
+
+    @Test
+    @DisplayName("Daily progress of a user is summed over goals within the range")
+    void dailyProgressShouldSumGoalsWithinRange() {
+        List<DailyStatsDto> daily = dailyStatsRepo.findDailyByUserId(owner.getId(), DAY.minusDays(1), DAY);
+
+        assertThat(daily).extracting(DailyStatsDto::getDate).containsExactly(DAY.minusDays(1), DAY);
+        assertThat(daily.get(1).getLogs()).isEqualTo(3L);
+        assertThat(daily.get(1).getMinutes()).isEqualTo(150L);
+        assertThat(dailyStatsRepo.findActiveDaysByUserId(owner.getId(), DAY.minusDays(5)))
+                .containsExactly(DAY, DAY.minusDays(1), DAY.minusDays(5));
+        assertThat(dailyStatsRepo.findActiveDaysByUserId(owner.getId(), DAY.minusDays(1)))
+                .containsExactly(DAY, DAY.minusDays(1));
+        assertThat(dailyStatsRepo.countActiveDaysByUserId(owner.getId())).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Adding logs increments the existing row of a day and reports a missing one")
+    void addLogsShouldIncrementExistingDay() {
+        assertThat(dailyStatsRepo.addLogs(sql.getId(), DAY, 2, 40)).isEqualTo(1);
+        assertThat(dailyStatsRepo.addLogs(sql.getId(), DAY.plusDays(1), 1, 10)).isZero();
+
+        assertThat(dailyStatsRepo.findDailyByGoalId(sql.getId(), owner.getId(), DAY, DAY.plusDays(1)))
+                .singleElement()
+                .satisfies(day -> {
+                    assertThat(day.getLogs()).isEqualTo(4L);
+                    assertThat(day.getMinutes()).isEqualTo(130L);
+                });
+    }
+
+    @Test
+    @DisplayName("Removing the last log of a day deletes its row")
+    void removeLogShouldDeleteEmptyDay() {
+        assertThat(dailyStatsRepo.removeLog(sql.getId(), DAY.minusDays(1), 30)).isEqualTo(1);
+        assertThat(dailyStatsRepo.deleteIfEmpty(sql.getId(), DAY.minusDays(1))).isEqualTo(1);
+        assertThat(dailyStatsRepo.removeLog(sql.getId(), DAY, 45)).isEqualTo(1);
+        assertThat(dailyStatsRepo.deleteIfEmpty(sql.getId(), DAY)).isZero();
+
+        assertThat(dailyStatsRepo.findGoalTotals(sql.getId(), owner.getId()))
+                .hasValueSatisfying(totals -> {
+                    assertThat(totals.getTotalLogs()).isEqualTo(1L);
+                    assertThat(totals.getTotalMinutes()).isEqualTo(45L);
+                });
+        assertThat(dailyStatsRepo.findActiveDaysByGoalId(sql.getId(), owner.getId(), DAY.minusDays(1)))
+                .containsExactly(DAY);
+        assertThat(dailyStatsRepo.countActiveDaysByGoalId(sql.getId(), owner.getId())).isEqualTo(1L);
+    }
+
+    private Goal goal(String title) {
+        return Goal.builder()
+                .title(title)
+                .description("Statistics")
+                .difficulty(Difficulty.EASY)
+                .createdAt(LocalDate.of(2025, 10, 1))
+                .deadline(LocalDate.of(2025, 12, 1))
+                .user(owner)
+                .build();
+    }
+
+    private ProgressLogDailyStats stats(Goal goal, LocalDate logDate, int logs, long minutes) {
+        return ProgressLogDailyStats.builder()
+                .goalId(goal.getId())
+                .logDate(logDate)
+                .userId(owner.getId())
+                .logCount(logs)
+                .minutesSpent(minutes)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.mykyta.sirobaba.ailearningtracker.resolvers;
+
+import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapperImpl;
+import com.github.mykyta.sirobaba.ailearningtracker.security.CustomUserDetails;
+import com.github.mykyta.sirobaba.ailearningtracker.services.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.security.Principal;
+
+import static com.github.mykyta.sirobaba.ailearningtracker.SecurityTestUtils.authenticationWithUser;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Controller")
+@DisplayName("Current user argument resolver test")
+@ExtendWith(MockitoExtension.class)
+class UserArgumentResolverTest {
+
+    @Mock
+    private UserService userService;
+
+    private final UserMapper userMapper = new UserMapperImpl();
+
+    private UserArgumentResolver resolver;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new UserArgumentResolver(userService, userMapper);
+        request = new MockHttpServletRequest();
+    }
+
+    @Test
+    @DisplayName("Should build current user from authenticated user details without a query")
+    void resolveArgument_userDetailsPrincipal_noQuery() {
+        User user = ModelUtils.createTestUser();
+        user.setUsername("user");
+        user.setRole(Role.USER);
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        request.setUserPrincipal(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        CurrentUserInfoDto result = resolve();
+
+        assertEquals(ModelUtils.TEST_ID, result.getId());
+        assertEquals(ModelUtils.TEST_EMAIL, result.getEmail());
+        assertEquals("user", result.getUsername());
+        assertEquals(Role.USER, result.getRole());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("Should return current user principal as is")
+    void resolveArgument_currentUserPrincipal_returnedAsIs() {
+        CurrentUserInfoDto currentUser = CurrentUserInfoDto.builder().id(ModelUtils.TEST_ID).build();
+        request.setUserPrincipal(authenticationWithUser(currentUser));
+
+        assertSame(currentUser, resolve());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("Should load unknown principal once per request")
+    void resolveArgument_otherPrincipal_loadedOncePerRequest() {
+        CurrentUserInfoDto currentUser = CurrentUserInfoDto.builder().id(ModelUtils.TEST_ID).build();
+        Principal principal = () -> ModelUtils.TEST_EMAIL;
+        request.setUserPrincipal(principal);
+        when(userService.findCurrentUserInfoDto(ModelUtils.TEST_EMAIL)).thenReturn(currentUser);
+
+        assertSame(currentUser, resolve());
+        assertSame(currentUser, resolve());
+        verify(userService, times(1)).findCurrentUserInfoDto(ModelUtils.TEST_EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should return null for unauthenticated request")
+    void resolveArgument_noPrincipal_returnsNull() {
+        assertNull(resolve());
+        verifyNoInteractions(userService);
+    }
+
+    private CurrentUserInfoDto resolve() {
+        return (CurrentUserInfoDto) resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.mykyta.sirobaba.ailearningtracker.security;
+
+import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.UserRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenClaims;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenRevocationChecker;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Security")
+@DisplayName("Access token revocation checker test")
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationCheckerTest {
+    private static final String REFRESH_KEY = "refresh-key";
+
+    @Mock
+    private UserRepo userRepo;
+
+    private AccessTokenRevocationChecker revocationChecker;
+
+    private UserTokenStateDto state;
+
+    @BeforeEach
+    void setUp() {
+        revocationChecker = new AccessTokenRevocationChecker(userRepo, 60, 100);
+        state = UserTokenStateDto.builder()
+                .id(ModelUtils.TEST_ID)
+                .email(ModelUtils.TEST_EMAIL)
+                .username("user")
+                .role(Role.USER)
+                .refreshTokenKey(REFRESH_KEY)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should accept token and reuse cached state within the window")
+    void findActiveState_validToken_loadsStateOnce() {
+        when(userRepo.findTokenStateById(ModelUtils.TEST_ID)).thenReturn(Optional.of(state));
+        AccessTokenClaims claims = claims(JwtTool.tokenVersionOf(REFRESH_KEY), Role.USER);
+
+        assertTrue(revocationChecker.findActiveState(claims).isPresent());
+        assertTrue(revocationChecker.findActiveState(claims).isPresent());
+
+        verify(userRepo, times(1)).findTokenStateById(ModelUtils.TEST_ID);
+    }
+
+    @Test
+    @DisplayName("Should reject token issued before the refresh key was rotated")
+    void findActiveState_rotatedRefreshKey_returnsEmpty() {
+        when(userRepo.findTokenStateById(ModelUtils.TEST_ID)).thenReturn(Optional.of(state));
+
+        assertTrue(revocationChecker.findActiveState(claims(JwtTool.tokenVersionOf("old-key"), Role.USER)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject token when role has changed")
+    void findActiveState_roleChanged_returnsEmpty() {
+        when(userRepo.findTokenStateById(ModelUtils.TEST_ID)).thenReturn(Optional.of(state));
+
+        assertTrue(revocationChecker.findActiveState(claims(JwtTool.tokenVersionOf(REFRESH_KEY), Role.ADMIN)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject legacy token without version and token of deleted user")
+    void findActiveState_missingVersionOrUser_returnsEmpty() {
+        when(userRepo.findTokenStateById(ModelUtils.TEST_ID)).thenReturn(Optional.of(state));
+        assertTrue(revocationChecker.findActiveState(claims(null, Role.USER)).isEmpty());
+
+        revocationChecker.invalidate(ModelUtils.TEST_ID);
+        when(userRepo.findTokenStateById(ModelUtils.TEST_ID)).thenReturn(Optional.empty());
+        assertTrue(revocationChecker.findActiveState(claims(JwtTool.tokenVersionOf(REFRESH_KEY), Role.USER)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reload state after invalidation")
+    void invalidate_dropsCachedState() {
+        when(userRepo.findTokenStateById(ModelUtils.TEST_ID)).thenReturn(Optional.of(state));
+        AccessTokenClaims claims = claims(JwtTool.tokenVersionOf(REFRESH_KEY), Role.USER);
+
+        revocationChecker.findActiveState(claims);
+        revocationChecker.invalidate(ModelUtils.TEST_ID);
+        revocationChecker.findActiveState(claims);
+
+        verify(userRepo, times(2)).findTokenStateById(ModelUtils.TEST_ID);
+    }
+
+    private AccessTokenClaims claims(String tokenVersion, Role role) {
+        return new AccessTokenClaims(ModelUtils.TEST_EMAIL, ModelUtils.TEST_ID, role, tokenVersion,
+                new Date(System.currentTimeMillis() + 60_000));
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.mykyta.sirobaba.ailearningtracker.security;
+
+import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenClaims;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.JwtTool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("Security")
+@DisplayName("JWT tool test")
+class JwtToolTest {
+    private static final String SECRET = "123123123123123123123123123123123123";
+
+    private JwtTool jwtTool;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        jwtTool = new JwtTool(SECRET, 60_000L, 120_000L, 30_000L);
+        testUser = ModelUtils.createTestUser();
+        testUser.setRole(Role.USER);
+        testUser.setRefreshTokenKey("refresh-key");
+    }
+
+    @Test
+    @DisplayName("Should parse access token claims in a single pass")
+    void parseAccessToken_validToken_returnsClaims() {
+        String token = jwtTool.generateAccessToken(testUser);
+
+        Optional<AccessTokenClaims> result = jwtTool.parseAccessToken(token);
+
+        assertTrue(result.isPresent());
+        assertEquals(ModelUtils.TEST_EMAIL, result.get().email());
+        assertEquals(ModelUtils.TEST_ID, result.get().userId());
+        assertEquals(Role.USER, result.get().role());
+        assertEquals(JwtTool.tokenVersionOf("refresh-key"), result.get().tokenVersion());
+        assertNotNull(result.get().expiresAt());
+    }
+
+    @Test
+    @DisplayName("Should reject expired access token")
+    void parseAccessToken_expiredToken_returnsEmpty() {
+        JwtTool expiredTool = new JwtTool(SECRET, -1_000L, 120_000L, 30_000L);
+        String token = expiredTool.generateAccessToken(testUser);
+
+        assertTrue(jwtTool.parseAccessToken(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject token signed with another key")
+    void parseAccessToken_foreignSignature_returnsEmpty() {
+        JwtTool foreignTool = new JwtTool("456456456456456456456456456456456456", 60_000L, 120_000L, 30_000L);
+        String token = foreignTool.generateAccessToken(testUser);
+
+        assertTrue(jwtTool.parseAccessToken(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject refresh and 2FA tokens used as access tokens")
+    void parseAccessToken_otherTokenTypes_returnsEmpty() {
+        assertTrue(jwtTool.parseAccessToken(jwtTool.generateRefreshToken(testUser)).isEmpty());
+        assertTrue(jwtTool.parseAccessToken(jwtTool.generate2FaToken(testUser)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed token")
+    void parseAccessToken_malformedToken_returnsEmpty() {
+        assertTrue(jwtTool.parseAccessToken("not-a-jwt").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should validate refresh token against user refresh key")
+    void validateRefreshToken_matchingKey_returnsTrue() {
+        String token = jwtTool.generateRefreshToken(testUser);
+
+        assertTrue(jwtTool.validateRefreshToken(token, testUser));
+
+        testUser.setRefreshTokenKey("rotated-key");
+        assertFalse(jwtTool.validateRefreshToken(token, testUser));
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.mykyta.sirobaba.ailearningtracker.security;
+
+import org.junit.platform.suite.api.IncludeTags;
+import org.junit.platform.suite.api.SelectPackages;
+import org.junit.platform.suite.api.Suite;
+import org.junit.platform.suite.api.SuiteDisplayName;
+
+@Suite
+@IncludeTags("Security")
+@SuiteDisplayName("All Security Tests")
+@SelectPackages("com.github.mykyta.sirobaba.ailearningtracker")
+public class SecurityTestSuite {
+}
@@ -1,32 +1,44 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services;
 
+import com.github.mykyta.sirobaba.ailearningtracker.constants.AiPromptsTemplateNames;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisDetailsDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageCursor;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.AIAnalysis;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.AIAnalysisMapper;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.AIAnalysisRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiAnalysisStreamProperties;
 import com.github.mykyta.sirobaba.ailearningtracker.services.impl.AIAnalysisServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.mykyta.sirobaba.ailearningtracker.ModelUtils.createTestAIAnalysis;
 import static com.github.mykyta.sirobaba.ailearningtracker.ModelUtils.createTestGoal;
@@ -52,6 +64,12 @@ class AIAnalysisServiceImplTest {
     private AIService aiService;
     @Mock
     private AIAnalysisMapper aiAnalysisMapper;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+    @Spy
+    private AiAnalysisStreamProperties streamProperties = new AiAnalysisStreamProperties();
 
     @InjectMocks
     private AIAnalysisServiceImpl aiAnalysisService;
@@ -64,6 +82,8 @@ class AIAnalysisServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+
         testGoal = createTestGoal();
         testAIAnalysis = createTestAIAnalysis();
         requestDto = AIAnalysisRequestDto.builder().limit(5).build();
@@ -105,6 +125,173 @@ class AIAnalysisServiceImplTest {
         verify(aiAnalysisMapper, times(1)).toAIAnalysisDetailsDto(testAIAnalysis);
     }
 
+    @Test
+    @DisplayName("createAIAnalysis() — sends only new logs with the previous analysis and advances the watermark")
+    void createAIAnalysis_shouldAnalyseOnlyNewLogs() {
+        Long userId = 1L;
+        Long goalId = testGoal.getId();
+        AIAnalysis previous = createTestAIAnalysis();
+        previous.setLastProgressLogId(5L);
+        List<ProgressLogContentDto> newLogs = List.of(
+                ProgressLogContentDto.builder().id(6L).content("new log").build(),
+                ProgressLogContentDto.builder().id(7L).content("newer log").build());
+        AiAnalysisOfProgressLogDto aiResult = AiAnalysisOfProgressLogDto.builder()
+                .analysisText("Updated analysis")
+                .build();
+        AIAnalysis updated = AIAnalysis.builder().analysisText("Updated analysis").build();
+
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(testGoal);
+        when(aiAnalysisRepo.findFirstByGoalIdOrderByCreatedAtDescIdDesc(goalId)).thenReturn(Optional.of(previous));
+        when(progressLogService.getProgressLogContentAfter(goalId, userId, 5L, requestDto.getLimit())).thenReturn(newLogs);
+        when(aiService.analyseProgressLogChanges(newLogs, testGoal.getDescription(), previous.getAnalysisText()))
+                .thenReturn(aiResult);
+        when(aiAnalysisMapper.toAIAnalysis(aiResult)).thenReturn(updated);
+        when(aiAnalysisRepo.save(updated)).thenReturn(updated);
+        when(aiAnalysisMapper.toAIAnalysisDetailsDto(updated)).thenReturn(aiAnalysisDetailsDto);
+
+        aiAnalysisService.createAIAnalysis(userId, requestDto, goalId);
+
+        assertEquals(7L, updated.getLastProgressLogId());
+        assertSame(testGoal, updated.getGoal());
+        verify(progressLogService, never()).getProgressLogContent(any(), any(), any());
+        verify(aiService, never()).analyseProgressLog(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("createAIAnalysis() — advances the watermark only over the logs sent when more than the limit were added")
+    void createAIAnalysis_shouldLeaveLogsBeyondLimitForNextAnalysis() {
+        Long userId = 1L;
+        Long goalId = testGoal.getId();
+        AIAnalysisRequestDto limited = AIAnalysisRequestDto.builder().limit(2).build();
+        AIAnalysis previous = createTestAIAnalysis();
+        previous.setLastProgressLogId(5L);
+        List<ProgressLogContentDto> firstPage = List.of(
+                ProgressLogContentDto.builder().id(6L).content("first new log").build(),
+                ProgressLogContentDto.builder().id(9L).content("second new log").build());
+        AiAnalysisOfProgressLogDto aiResult = AiAnalysisOfProgressLogDto.builder()
+                .analysisText("Updated analysis")
+                .build();
+        AIAnalysis updated = AIAnalysis.builder().analysisText("Updated analysis").build();
+
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(testGoal);
+        when(aiAnalysisRepo.findFirstByGoalIdOrderByCreatedAtDescIdDesc(goalId)).thenReturn(Optional.of(previous));
+        when(progressLogService.getProgressLogContentAfter(goalId, userId, 5L, 2)).thenReturn(firstPage);
+        when(aiService.analyseProgressLogChanges(firstPage, testGoal.getDescription(), previous.getAnalysisText()))
+                .thenReturn(aiResult);
+        when(aiAnalysisMapper.toAIAnalysis(aiResult)).thenReturn(updated);
+        when(aiAnalysisRepo.save(updated)).thenReturn(updated);
+        when(aiAnalysisMapper.toAIAnalysisDetailsDto(updated)).thenReturn(aiAnalysisDetailsDto);
+
+        aiAnalysisService.createAIAnalysis(userId, limited, goalId);
+
+        assertEquals(9L, updated.getLastProgressLogId());
+    }
+
+    @Test
+    @DisplayName("createAIAnalysis() — returns the previous analysis without calling the AI when no logs were added")
+    void createAIAnalysis_shouldReturnPreviousAnalysisWhenNothingChanged() {
+        Long userId = 1L;
+        Long goalId = testGoal.getId();
+        AIAnalysis previous = createTestAIAnalysis();
+        previous.setLastProgressLogId(5L);
+
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(testGoal);
+        when(aiAnalysisRepo.findFirstByGoalIdOrderByCreatedAtDescIdDesc(goalId)).thenReturn(Optional.of(previous));
+        when(progressLogService.getProgressLogContentAfter(goalId, userId, 5L, requestDto.getLimit())).thenReturn(List.of());
+        when(aiAnalysisMapper.toAIAnalysisDetailsDto(previous)).thenReturn(aiAnalysisDetailsDto);
+
+        AIAnalysisDetailsDto result = aiAnalysisService.createAIAnalysis(userId, requestDto, goalId);
+
+        assertSame(aiAnalysisDetailsDto, result);
+        verifyNoInteractions(aiService);
+        verify(aiAnalysisRepo, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("createAIAnalysis() — calls the AI between two short transactions")
+    void createAIAnalysis_shouldCallAiOutsideTransaction() {
+        Long userId = 1L;
+        Long goalId = 1L;
+        List<ProgressLogContentDto> content = List.of(ProgressLogContentDto.builder().content("log content").build());
+        AiAnalysisOfProgressLogDto aiResult = AiAnalysisOfProgressLogDto.builder()
+                .analysisText("AI Analysis")
+                .build();
+        AtomicInteger openTransactions = new AtomicInteger();
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            openTransactions.incrementAndGet();
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> openTransactions.decrementAndGet()).when(transactionManager).commit(any());
+        when(progressLogService.getProgressLogContent(goalId, userId, requestDto.getLimit())).thenReturn(content);
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(testGoal);
+        when(aiService.analyseProgressLog(content, testGoal.getDescription(), testGoal.getSubgoals()))
+                .thenAnswer(invocation -> {
+                    assertEquals(0, openTransactions.get(), "AI call must not run inside a transaction");
+                    return aiResult;
+                });
+        when(aiAnalysisMapper.toAIAnalysis(aiResult)).thenReturn(testAIAnalysis);
+        when(aiAnalysisRepo.save(testAIAnalysis)).thenReturn(testAIAnalysis);
+        when(aiAnalysisMapper.toAIAnalysisDetailsDto(testAIAnalysis)).thenReturn(aiAnalysisDetailsDto);
+
+        aiAnalysisService.createAIAnalysis(userId, requestDto, goalId);
+
+        InOrder inOrder = inOrder(goalService, transactionManager, aiService, aiAnalysisRepo);
+        inOrder.verify(goalService).findByIdAndUserId(goalId, userId);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(aiService).analyseProgressLog(content, testGoal.getDescription(), testGoal.getSubgoals());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(aiAnalysisRepo).save(testAIAnalysis);
+        inOrder.verify(transactionManager).commit(any());
+        assertEquals(0, openTransactions.get());
+    }
+
+    @Test
+    @DisplayName("streamAIAnalysis() — assembles streamed chunks and persists the analysis on completion")
+    void streamAIAnalysis_shouldPersistAssembledAnalysis() {
+        Long userId = 1L;
+        Long goalId = 1L;
+        List<ProgressLogContentDto> content = List.of(ProgressLogContentDto.builder().content("log content").build());
+        AiAnalysisOfProgressLogDto aiResult = AiAnalysisOfProgressLogDto.builder()
+                .analysisText("AI Analysis")
+                .build();
+
+        when(progressLogService.getProgressLogContent(goalId, userId, requestDto.getLimit())).thenReturn(content);
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(testGoal);
+        when(aiService.streamProgressLogAnalysis(content, testGoal.getDescription(), testGoal.getSubgoals()))
+                .thenReturn(Flux.just("{\"analysisText\":", "\"AI Analysis\"}"));
+        when(aiService.parseProgressLogAnalysis(AiPromptsTemplateNames.CREATE_ANALYSE_PROGRESS_LOGS,
+                "{\"analysisText\":\"AI Analysis\"}", testGoal.getDescription()))
+                .thenReturn(aiResult);
+        when(aiAnalysisMapper.toAIAnalysis(aiResult)).thenReturn(testAIAnalysis);
+        when(aiAnalysisRepo.save(testAIAnalysis)).thenReturn(testAIAnalysis);
+        when(aiAnalysisMapper.toAIAnalysisDetailsDto(testAIAnalysis)).thenReturn(aiAnalysisDetailsDto);
+
+        SseEmitter emitter = aiAnalysisService.streamAIAnalysis(userId, requestDto, goalId);
+
+        assertNotNull(emitter);
+        verify(aiAnalysisMapper, timeout(1000)).toAIAnalysisDetailsDto(testAIAnalysis);
+        verify(aiAnalysisRepo).save(testAIAnalysis);
+        assertSame(testGoal, testAIAnalysis.getGoal());
+    }
+
+    @Test
+    @DisplayName("streamAIAnalysis() — does not persist anything when the stream fails")
+    void streamAIAnalysis_shouldNotPersistWhenStreamFails() {
+        Long userId = 1L;
+        Long goalId = 1L;
+
+        when(progressLogService.getProgressLogContent(goalId, userId, requestDto.getLimit())).thenReturn(List.of());
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(testGoal);
+        when(aiService.streamProgressLogAnalysis(List.of(), testGoal.getDescription(), testGoal.getSubgoals()))
+                .thenReturn(Flux.error(new IllegalStateException("model unavailable")));
+
+        aiAnalysisService.streamAIAnalysis(userId, requestDto, goalId);
+
+        verify(aiService, after(500).never()).parseProgressLogAnalysis(anyString(), anyString(), anyString());
+        verify(aiAnalysisRepo, never()).save(any());
+    }
+
     @Test
     @DisplayName("getAIAnalysis() — returns AIAnalysisResponseDto if found")
     void getAIAnalysis_shouldReturnResponseDto() {
@@ -140,6 +327,27 @@ class AIAnalysisServiceImplTest {
         verify(aiAnalysisRepo).findByIdAndUserIdAndGoalId(userId, goalId, pageable);
     }
 
+    @Test
+    @DisplayName("getAIAnalyses(cursor) — seeks past the cursor and returns the next cursor")
+    void getAIAnalyses_withCursor_shouldSeekAndReturnNextCursor() {
+        Long userId = 1L;
+        Long goalId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+        AIAnalysisResponseDto newer = new AIAnalysisResponseDto(7L, "Newer", createdAt);
+        AIAnalysisResponseDto older = new AIAnalysisResponseDto(6L, "Older", createdAt.minusDays(1));
+
+        when(aiAnalysisRepo.findByUserIdAndGoalIdAfter(userId, goalId, createdAt, 8L, PageRequest.ofSize(2)))
+                .thenReturn(List.of(newer, older));
+
+        CursorPageResponse<AIAnalysisResponseDto> result =
+                aiAnalysisService.getAIAnalyses(userId, goalId, PageCursor.of(createdAt, 8L).encode(), 1);
+
+        assertEquals(List.of(newer), result.content());
+        assertTrue(result.hasNext());
+        assertEquals(PageCursor.of(createdAt, 7L), PageCursor.decode(result.nextCursor()));
+        verify(aiAnalysisRepo, never()).findFirstByUserIdAndGoalId(any(), any(), any());
+    }
+
     @Test
     @DisplayName("deleteAIAnalysis() — deletes analysis if found")
     void deleteAIAnalysis_shouldDeleteIfFound() {
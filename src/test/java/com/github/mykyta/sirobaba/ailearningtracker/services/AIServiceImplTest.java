@@ -1,17 +1,26 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.cache.AiResponseCache;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.metrics.AiMetrics;
+import com.github.mykyta.sirobaba.ailearningtracker.ai.prompt.PromptTemplate;
+import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
 import com.github.mykyta.sirobaba.ailearningtracker.configs.AiTemplateConfig;
+import com.github.mykyta.sirobaba.ailearningtracker.configs.AiTemplateConfig.PlanGenerationMode;
+import com.github.mykyta.sirobaba.ailearningtracker.configs.AiTemplateConfig.ResponseFormat;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiCallRejectedException;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiJsonParseException;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalValidationException;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.GoalAiResultDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.PlanAiResultDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.SubgoalListAiResultDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.subgoal.SubGoalResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.AiJsonRepairProperties;
 import com.github.mykyta.sirobaba.ailearningtracker.services.impl.AIServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,17 +30,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.client.ChatClient;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -49,6 +66,12 @@ class AIServiceImplTest {
     private AiTemplateConfig aiTemplateConfig;
     @Mock
     private ObjectMapper objectMapper;
+    @Mock
+    private AiResponseCache aiResponseCache;
+    @Spy
+    private AiJsonRepairProperties jsonRepairProperties = new AiJsonRepairProperties();
+    @Mock
+    private AiMetrics aiMetrics;
 
     @InjectMocks
     private AIServiceImpl aiService;
@@ -63,6 +86,8 @@ class AIServiceImplTest {
                 .deadline(LocalDate.now().plusWeeks(10))
                 .hoursPerWeek(10)
                 .build();
+        lenient().when(aiTemplateConfig.getCompiledTemplate("repairJson"))
+                .thenReturn(PromptTemplate.compile("repairJson", "repair {{brokenOutput}}"));
     }
 
     @Test
@@ -71,8 +96,10 @@ class AIServiceImplTest {
         String mainGoalTemplate = "main template {{goal}}";
         String subgoalTemplate = "sub template {{generalGoal}}";
 
-        when(aiTemplateConfig.getTemplate("createMainGoal")).thenReturn(mainGoalTemplate);
-        when(aiTemplateConfig.getTemplate("createSubgoal")).thenReturn(subgoalTemplate);
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", mainGoalTemplate));
+        when(aiTemplateConfig.getCompiledTemplate("createSubgoal"))
+                .thenReturn(PromptTemplate.compile("createSubgoal", subgoalTemplate));
 
         String aiMainResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\"}";
         String aiSubResponse = "{\"subGoals\":[{\"title\":\"Learn Basics\",\"difficulty\":\"EASY\",\"estimatedHours\":10}]}";
@@ -103,13 +130,170 @@ class AIServiceImplTest {
         assertThat(result.getDescription()).isEqualTo("Master Spring Boot");
         assertThat(result.getDifficulty()).isEqualTo(Difficulty.MEDIUM);
         assertThat(result.getDeadline()).isEqualTo(goalRequestDto.getDeadline());
+        verify(aiResponseCache).put("createMainGoal", "main template Create a Spring Boot learning plan", aiMainResponse);
+        verify(aiResponseCache).put("createSubgoal", "sub template Master Spring Boot", aiSubResponse);
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — should reuse cached responses without calling the model")
+    void createLearningPlan_shouldUseCachedResponses() throws Exception {
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", "main template {{goal}}"));
+        when(aiTemplateConfig.getCompiledTemplate("createSubgoal"))
+                .thenReturn(PromptTemplate.compile("createSubgoal", "sub template {{generalGoal}}"));
+
+        String aiMainResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\"}";
+        String aiSubResponse = "{\"subGoals\":[{\"title\":\"Learn Basics\",\"difficulty\":\"EASY\",\"estimatedHours\":10}]}";
+        when(aiResponseCache.get("createMainGoal", "main template Create a Spring Boot learning plan"))
+                .thenReturn(Optional.of(aiMainResponse));
+        when(aiResponseCache.get("createSubgoal", "sub template Master Spring Boot"))
+                .thenReturn(Optional.of(aiSubResponse));
+
+        when(objectMapper.readValue(aiMainResponse, GoalAiResultDto.class)).thenReturn(GoalAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .build());
+        when(objectMapper.readValue(aiSubResponse, SubgoalListAiResultDto.class)).thenReturn(SubgoalListAiResultDto.builder()
+                .subGoals(List.of(SubGoalResponseDto.builder()
+                        .title("Learn Basics")
+                        .difficulty(Difficulty.EASY)
+                        .estimatedHours(10)
+                        .build()))
+                .build());
+
+        AiPlanResponseDto result = aiService.createLearningPlan(goalRequestDto);
+
+        assertThat(result.getDescription()).isEqualTo("Master Spring Boot");
+        verify(chatClient, never()).prompt(anyString());
+        verify(aiResponseCache, never()).put(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — parallel mode generates subgoals from the user prompt alongside the main goal")
+    void createLearningPlan_shouldGenerateSubgoalsInParallel() throws Exception {
+        when(aiTemplateConfig.getPlanGenerationMode()).thenReturn(PlanGenerationMode.PARALLEL);
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", "main template {{goal}}"));
+        when(aiTemplateConfig.getCompiledTemplate("createSubgoalFromGoal"))
+                .thenReturn(PromptTemplate.compile("createSubgoalFromGoal", "subgoals template {{goal}}"));
+
+        String aiMainResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\"}";
+        String aiSubResponse = "{\"subGoals\":[{\"title\":\"Learn Basics\",\"difficulty\":\"EASY\",\"estimatedHours\":10}]}";
+        when(chatClient.prompt("main template Create a Spring Boot learning plan").call().content())
+                .thenReturn(aiMainResponse);
+        when(chatClient.prompt("subgoals template Create a Spring Boot learning plan").call().content())
+                .thenReturn(aiSubResponse);
+
+        when(objectMapper.readValue(aiMainResponse, GoalAiResultDto.class)).thenReturn(GoalAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .build());
+        when(objectMapper.readValue(aiSubResponse, SubgoalListAiResultDto.class)).thenReturn(SubgoalListAiResultDto.builder()
+                .subGoals(List.of(SubGoalResponseDto.builder()
+                        .title("Learn Basics")
+                        .difficulty(Difficulty.EASY)
+                        .estimatedHours(10)
+                        .build()))
+                .build());
+
+        AiPlanResponseDto result = aiService.createLearningPlan(goalRequestDto);
+
+        assertThat(result.getDescription()).isEqualTo("Master Spring Boot");
+        assertThat(result.getSubGoals().getFirst().getTitle()).isEqualTo("Learn Basics");
+        assertThat(result.getDeadline()).isEqualTo(goalRequestDto.getDeadline());
+        verify(aiTemplateConfig, never()).getCompiledTemplate("createSubgoal");
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — parallel mode propagates a failure of either part")
+    void createLearningPlan_shouldPropagateParallelFailure() throws Exception {
+        when(aiTemplateConfig.getPlanGenerationMode()).thenReturn(PlanGenerationMode.PARALLEL);
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", "main template {{goal}}"));
+        when(aiTemplateConfig.getCompiledTemplate("createSubgoalFromGoal"))
+                .thenReturn(PromptTemplate.compile("createSubgoalFromGoal", "subgoals template {{goal}}"));
+
+        when(chatClient.prompt("main template Create a Spring Boot learning plan").call().content())
+                .thenReturn("{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\"}");
+        when(chatClient.prompt("subgoals template Create a Spring Boot learning plan").call().content())
+                .thenReturn("not json");
+        when(objectMapper.readValue(anyString(), eq(GoalAiResultDto.class))).thenReturn(GoalAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .build());
+
+        assertThatThrownBy(() -> aiService.createLearningPlan(goalRequestDto))
+                .isInstanceOf(AiJsonParseException.class)
+                .hasMessageContaining("AI did not return JSON");
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — combined mode builds the plan from a single prompt")
+    void createLearningPlan_shouldUseCombinedTemplate() throws Exception {
+        when(aiTemplateConfig.getPlanGenerationMode()).thenReturn(PlanGenerationMode.COMBINED);
+        when(aiTemplateConfig.getCompiledTemplate("createLearningPlan"))
+                .thenReturn(PromptTemplate.compile("createLearningPlan", "plan template {{goal}}"));
+
+        String aiResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\","
+                + "\"subGoals\":[{\"title\":\"Learn Basics\",\"difficulty\":\"EASY\",\"estimatedHours\":10}]}";
+        when(chatClient.prompt(anyString()).call().content()).thenReturn(aiResponse);
+        when(objectMapper.readValue(aiResponse, PlanAiResultDto.class)).thenReturn(PlanAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .subGoals(List.of(SubGoalResponseDto.builder()
+                        .title("Learn Basics")
+                        .difficulty(Difficulty.EASY)
+                        .estimatedHours(10)
+                        .build()))
+                .build());
+
+        AiPlanResponseDto result = aiService.createLearningPlan(goalRequestDto);
+
+        assertThat(result.getDescription()).isEqualTo("Master Spring Boot");
+        assertThat(result.getDifficulty()).isEqualTo(Difficulty.MEDIUM);
+        assertThat(result.getSubGoals().size()).isEqualTo(1);
+        assertThat(result.getDeadline()).isEqualTo(goalRequestDto.getDeadline());
+        verify(aiTemplateConfig, never()).getCompiledTemplate("createMainGoal");
+        verify(aiTemplateConfig, never()).getCompiledTemplate("createSubgoal");
+        verify(aiResponseCache).put("createLearningPlan", "plan template Create a Spring Boot learning plan", aiResponse);
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — schema mode sends the response schema and reads the response directly")
+    void createLearningPlan_shouldReadSchemaConstrainedResponseDirectly() throws Exception {
+        when(aiTemplateConfig.getPlanGenerationMode()).thenReturn(PlanGenerationMode.COMBINED);
+        when(aiTemplateConfig.getResponseFormat()).thenReturn(ResponseFormat.SCHEMA);
+        when(aiTemplateConfig.getCompiledTemplate("createLearningPlan"))
+                .thenReturn(PromptTemplate.compile("createLearningPlan", "plan template {{goal}}"));
+
+        // The trailing newline would be dropped by JSON extraction, so reading it proves the direct path
+        String aiResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\","
+                + "\"subGoals\":[{\"title\":\"Learn Basics\",\"difficulty\":\"EASY\",\"estimatedHours\":10}]}\n";
+        when(chatClient.prompt().user(anyString()).options(any()).call().content()).thenReturn(aiResponse);
+        when(objectMapper.readValue(aiResponse, PlanAiResultDto.class)).thenReturn(PlanAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .subGoals(List.of(SubGoalResponseDto.builder()
+                        .title("Learn Basics")
+                        .difficulty(Difficulty.EASY)
+                        .estimatedHours(10)
+                        .build()))
+                .build());
+
+        AiPlanResponseDto result = aiService.createLearningPlan(goalRequestDto);
+
+        assertThat(result.getDescription()).isEqualTo("Master Spring Boot");
+        assertThat(result.getSubGoals().size()).isEqualTo(1);
+        verify(chatClient, never()).prompt(anyString());
+        verify(aiResponseCache).put("createLearningPlan", "plan template Create a Spring Boot learning plan", aiResponse);
     }
 
     @Test
     @DisplayName("createLearningPlan() — should throw AiJsonParseException if AI response cannot be parsed")
     void createLearningPlan_shouldThrowWhenJsonInvalid() throws Exception {
-        when(aiTemplateConfig.getTemplate("createMainGoal")).thenReturn("template");
-        when(chatClient.prompt(anyString()).call().content()).thenReturn("{invalid_json");
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", "template"));
+        when(chatClient.prompt(anyString()).call().content()).thenReturn("{\"generalGoal\": \"Master\", \"difficulty\": }");
 
         when(objectMapper.readValue(anyString(), eq(GoalAiResultDto.class)))
                 .thenThrow(new RuntimeException("JSON parse error"));
@@ -119,14 +303,131 @@ class AIServiceImplTest {
                 .hasMessageContaining("Failed to parse AI JSON");
     }
 
+    @Test
+    @DisplayName("createLearningPlan() — should repair broken JSON with a follow-up prompt and cache the repaired JSON")
+    void createLearningPlan_shouldRepairBrokenJson() throws Exception {
+        when(aiTemplateConfig.getPlanGenerationMode()).thenReturn(PlanGenerationMode.COMBINED);
+        when(aiTemplateConfig.getCompiledTemplate("createLearningPlan"))
+                .thenReturn(PromptTemplate.compile("createLearningPlan", "plan template {{goal}}"));
+
+        String brokenResponse = "Here is your plan: {\"generalGoal\": Master Spring Boot}";
+        String repairedResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\",\"subGoals\":[]}";
+        when(chatClient.prompt("plan template Create a Spring Boot learning plan").call().content())
+                .thenReturn(brokenResponse);
+        when(chatClient.prompt("repair " + brokenResponse).call().content()).thenReturn(repairedResponse);
+        when(objectMapper.readValue(repairedResponse, PlanAiResultDto.class)).thenReturn(PlanAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .subGoals(List.of())
+                .build());
+
+        AiPlanResponseDto result = aiService.createLearningPlan(goalRequestDto);
+
+        assertThat(result.getDescription()).isEqualTo("Master Spring Boot");
+        verify(aiResponseCache).put("createLearningPlan", "plan template Create a Spring Boot learning plan", repairedResponse);
+        verify(aiMetrics).recordParse("createLearningPlan", AiMetrics.PARSE_REPAIRED);
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — should send truncated output to the repair prompt instead of using the partial plan")
+    void createLearningPlan_shouldRepairTruncatedJson() throws Exception {
+        when(aiTemplateConfig.getPlanGenerationMode()).thenReturn(PlanGenerationMode.COMBINED);
+        when(aiTemplateConfig.getCompiledTemplate("createLearningPlan"))
+                .thenReturn(PromptTemplate.compile("createLearningPlan", "plan template {{goal}}"));
+
+        String truncatedResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\",\"subGoals\":[]";
+        String repairedResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\","
+                + "\"subGoals\":[{\"title\":\"Learn Basics\",\"difficulty\":\"EASY\",\"estimatedHours\":10}]}";
+        when(chatClient.prompt("plan template Create a Spring Boot learning plan").call().content())
+                .thenReturn(truncatedResponse);
+        when(chatClient.prompt("repair " + truncatedResponse).call().content()).thenReturn(repairedResponse);
+        when(objectMapper.readValue(truncatedResponse + "}", PlanAiResultDto.class)).thenReturn(PlanAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .subGoals(List.of())
+                .build());
+        when(objectMapper.readValue(repairedResponse, PlanAiResultDto.class)).thenReturn(PlanAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .subGoals(List.of(SubGoalResponseDto.builder()
+                        .title("Learn Basics")
+                        .difficulty(Difficulty.EASY)
+                        .estimatedHours(10)
+                        .build()))
+                .build());
+
+        AiPlanResponseDto result = aiService.createLearningPlan(goalRequestDto);
+
+        assertThat(result.getSubGoals().size()).isEqualTo(1);
+        verify(aiResponseCache).put("createLearningPlan", "plan template Create a Spring Boot learning plan", repairedResponse);
+        verify(aiMetrics).recordParse("createLearningPlan", AiMetrics.PARSE_REPAIRED);
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — should never cache a plan recovered from truncated output")
+    void createLearningPlan_shouldNotCacheTruncatedJson() throws Exception {
+        jsonRepairProperties.setEnabled(false);
+        when(aiTemplateConfig.getPlanGenerationMode()).thenReturn(PlanGenerationMode.COMBINED);
+        when(aiTemplateConfig.getCompiledTemplate("createLearningPlan"))
+                .thenReturn(PromptTemplate.compile("createLearningPlan", "plan template {{goal}}"));
+
+        String truncatedResponse = "{\"generalGoal\":\"Master Spring Boot\",\"difficulty\":\"MEDIUM\",\"subGoals\":[]";
+        when(chatClient.prompt(anyString()).call().content()).thenReturn(truncatedResponse);
+        when(objectMapper.readValue(truncatedResponse + "}", PlanAiResultDto.class)).thenReturn(PlanAiResultDto.builder()
+                .generalGoal("Master Spring Boot")
+                .difficulty(Difficulty.MEDIUM)
+                .subGoals(List.of())
+                .build());
+
+        AiPlanResponseDto result = aiService.createLearningPlan(goalRequestDto);
+
+        assertThat(result.getDescription()).isEqualTo("Master Spring Boot");
+        verify(aiResponseCache, never()).put(anyString(), anyString(), anyString());
+        verify(aiMetrics).recordParse("createLearningPlan", AiMetrics.PARSE_TRUNCATED);
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — should give up after the configured number of repair attempts")
+    void createLearningPlan_shouldFailWhenRepairDoesNotHelp() {
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", "main template {{goal}}"));
+        when(chatClient.prompt(anyString()).call().content()).thenReturn("I cannot answer in JSON");
+
+        assertThatThrownBy(() -> aiService.createLearningPlan(goalRequestDto))
+                .isInstanceOf(AiJsonParseException.class)
+                .hasMessageContaining("AI did not return JSON");
+        verify(aiTemplateConfig, times(1)).getCompiledTemplate("repairJson");
+        verify(aiResponseCache, never()).put(anyString(), anyString(), anyString());
+        verify(aiMetrics).recordParse("createMainGoal", AiMetrics.PARSE_FAILED);
+    }
+
+    @Test
+    @DisplayName("createLearningPlan() — should propagate a rejection of the repair call instead of a parse error")
+    void createLearningPlan_shouldPropagateRejectedRepair() {
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", "main template {{goal}}"));
+        String brokenResponse = "I cannot answer in JSON";
+        when(chatClient.prompt("main template Create a Spring Boot learning plan").call().content())
+                .thenReturn(brokenResponse);
+        when(chatClient.prompt("repair " + brokenResponse).call().content())
+                .thenThrow(new AiCallRejectedException(ErrorMessage.AI_SERVICE_BUSY));
+
+        assertThatThrownBy(() -> aiService.createLearningPlan(goalRequestDto))
+                .isInstanceOf(AiCallRejectedException.class)
+                .hasMessage(ErrorMessage.AI_SERVICE_BUSY);
+        verify(aiMetrics, never()).recordParse("createMainGoal", AiMetrics.PARSE_FAILED);
+    }
+
     @Test
     @DisplayName("createLearningPlan() — should throw GoalValidationException if deadline unrealistic")
     void createLearningPlan_shouldThrowGoalValidationException() throws Exception {
         String aiMainResponse = "{\"generalGoal\":\"Learn AI\",\"difficulty\":\"HARD\"}";
         String aiSubResponse = "{\"subGoals\":[{\"title\":\"Study ML\",\"difficulty\":\"HARD\",\"estimatedHours\":500}]}";
 
-        when(aiTemplateConfig.getTemplate("createMainGoal")).thenReturn("template");
-        when(aiTemplateConfig.getTemplate("createSubgoal")).thenReturn("template");
+        when(aiTemplateConfig.getCompiledTemplate("createMainGoal"))
+                .thenReturn(PromptTemplate.compile("createMainGoal", "template"));
+        when(aiTemplateConfig.getCompiledTemplate("createSubgoal"))
+                .thenReturn(PromptTemplate.compile("createSubgoal", "template"));
 
         when(chatClient.prompt(anyString()).call().content())
                 .thenReturn(aiMainResponse)
@@ -158,7 +459,8 @@ class AIServiceImplTest {
     @DisplayName("analyseProgressLog() — should return AiAnalysisOfProgressLogDto when AI returns valid JSON")
     void analyseProgressLog_shouldReturnValidAnalysis() throws Exception {
         String template = "analyse template {{goalDescription}}";
-        when(aiTemplateConfig.getTemplate("createAnalysisProgressLogs")).thenReturn(template);
+        when(aiTemplateConfig.getCompiledTemplate("createAnalysisProgressLogs"))
+                .thenReturn(PromptTemplate.compile("createAnalysisProgressLogs", template));
 
         String aiResponse = "{\"title\":\"Progress Summary\",\"analysisText\":\"Good progress overall\"}";
         when(chatClient.prompt(anyString()).call().content()).thenReturn(aiResponse);
@@ -187,9 +489,10 @@ class AIServiceImplTest {
     @DisplayName("analyseProgressLog() — should throw AiJsonParseException if AI response invalid")
     void analyseProgressLog_shouldThrowAiJsonParseException() throws Exception {
         String template = "analyse template {{goalDescription}}";
-        when(aiTemplateConfig.getTemplate("createAnalysisProgressLogs")).thenReturn(template);
+        when(aiTemplateConfig.getCompiledTemplate("createAnalysisProgressLogs"))
+                .thenReturn(PromptTemplate.compile("createAnalysisProgressLogs", template));
 
-        String invalidJson = "{not-valid-json";
+        String invalidJson = "{\"title\": \"Progress Summary\", \"analysisText\": \"Good\"";
         when(chatClient.prompt(anyString()).call().content()).thenReturn(invalidJson);
         when(objectMapper.readValue(anyString(), eq(AiAnalysisOfProgressLogDto.class)))
                 .thenThrow(new RuntimeException("Parse error"));
@@ -199,4 +502,54 @@ class AIServiceImplTest {
         ).isInstanceOf(AiJsonParseException.class)
                 .hasMessageContaining("Failed to parse AI JSON");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("analyseProgressLogChanges() — should send only the previous analysis and the new logs")
+    void analyseProgressLogChanges_shouldSendPreviousAnalysisAndNewLogs() throws Exception {
+        String template = "update {{goalDescription}} | {{previousAnalysis}} | {{progressLogContent}}";
+        when(aiTemplateConfig.getCompiledTemplate("updateAnalysisProgressLogs"))
+                .thenReturn(PromptTemplate.compile("updateAnalysisProgressLogs", template));
+
+        String aiResponse = "{\"title\":\"Progress Summary\",\"analysisText\":\"Still on track\"}";
+        when(chatClient.prompt("update Spring Boot app | Good progress overall | - Finished the security chapter")
+                .call()
+                .content()).thenReturn(aiResponse);
+        when(objectMapper.readValue(aiResponse, AiAnalysisOfProgressLogDto.class))
+                .thenReturn(AiAnalysisOfProgressLogDto.builder().analysisText("Still on track").build());
+
+        List<ProgressLogContentDto> newLogs = List.of(
+                ProgressLogContentDto.builder().id(7L).content("Finished the security chapter").build()
+        );
+
+        AiAnalysisOfProgressLogDto result =
+                aiService.analyseProgressLogChanges(newLogs, "Spring Boot app", "Good progress overall\n");
+
+        assertThat(result.getAnalysisText()).isEqualTo("Still on track");
+        verify(aiTemplateConfig, never()).getCompiledTemplate("createAnalysisProgressLogs");
+        verify(aiMetrics).recordParse("updateAnalysisProgressLogs", AiMetrics.PARSE_DIRECT);
+    }
+
+    @Test
+    @DisplayName("streamProgressLogAnalysis() — should emit response chunks from the streaming API")
+    void streamProgressLogAnalysis_shouldEmitChunks() {
+        String template = "analyse template {{goalDescription}}";
+        when(aiTemplateConfig.getCompiledTemplate("createAnalysisProgressLogs"))
+                .thenReturn(PromptTemplate.compile("createAnalysisProgressLogs", template));
+        when(chatClient.prompt(anyString()).stream().content())
+                .thenReturn(Flux.just("{\"title\":", "\"Progress Summary\"}"));
+
+        List<String> chunks = aiService.streamProgressLogAnalysis(List.of(), "desc", List.of())
+                .collectList()
+                .block();
+
+        assertThat(chunks).isEqualTo(List.of("{\"title\":", "\"Progress Summary\"}"));
+    }
+
+    @Test
+    @DisplayName("parseProgressLogAnalysis() — should throw AiJsonParseException if the assembled response is empty")
+    void parseProgressLogAnalysis_shouldThrowWhenResponseEmpty() {
+        assertThatThrownBy(() -> aiService.parseProgressLogAnalysis("createAnalysisProgressLogs", "  ", "desc"))
+                .isInstanceOf(AiJsonParseException.class)
+                .hasMessageContaining("AI returned empty response");
+    }
+}
@@ -0,0 +1,169 @@
+package com.github.mykyta.sirobaba.ailearningtracker.services;
+
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiAnalysisOfProgressLogDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.aianalysis.AIAnalysisRequestDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.subgoal.SubGoalResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLog;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Difficulty;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.enums.Role;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.GoalRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.UserRepo;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies on the full application context that no transaction is open and no pooled connection
+ * is checked out while the services wait for the AI model. The model is replaced by a mock that
+ * checks this from inside the call, so the test fails if a service method becomes transactional
+ * again or open-in-view is re-enabled.
+ */
+@Tag("Service")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "GOOGLE_CLIENT_ID=test",
+        "GOOGLE_CLIENT_SECRET=test",
+        "PROJECT_ID=test",
+        "AI_GEMINI_KEY=test"
+})
+@ActiveProfiles({"h2", "ai-stub"})
+@DisplayName("AI call connection test")
+class AiCallConnectionTest {
+
+    @MockitoBean
+    private AIService aiService;
+
+    @Autowired
+    private GoalService goalService;
+    @Autowired
+    private AIAnalysisService aiAnalysisService;
+    @Autowired
+    private UserRepo userRepo;
+    @Autowired
+    private GoalRepo goalRepo;
+    @Autowired
+    private ProgressLogRepo progressLogRepo;
+    @Autowired
+    private HikariDataSource dataSource;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepo.save(User.builder()
+                .username("connection")
+                .email("connection@test.com")
+                .password("password")
+                .refreshTokenKey("key")
+                .role(Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepo.deleteById(owner.getId());
+    }
+
+    @Test
+    @DisplayName("createGoal() — holds no transaction and no connection during the AI call")
+    void createGoal_shouldHoldNoConnectionDuringAiCall() {
+        GoalRequestDto request = GoalRequestDto.builder()
+                .title("Learn SQL")
+                .prompt("Learn SQL indexes")
+                .deadline(LocalDate.now().plusWeeks(4))
+                .hoursPerWeek(5)
+                .build();
+        when(aiService.createLearningPlan(request)).thenAnswer(invocation -> {
+            assertNoConnectionHeld();
+            return AiPlanResponseDto.builder()
+                    .title("Learn SQL")
+                    .description("Indexes and plans")
+                    .difficulty(Difficulty.EASY)
+                    .deadline(request.getDeadline())
+                    .subGoals(List.of(SubGoalResponseDto.builder()
+                            .title("Indexes")
+                            .difficulty(Difficulty.EASY)
+                            .estimatedHours(5)
+                            .build()))
+                    .build();
+        });
+
+        goalService.createGoal(request, currentUser());
+
+        verify(aiService).createLearningPlan(request);
+        assertThat(goalRepo.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("createAIAnalysis() — holds no transaction and no connection during the AI call")
+    void createAIAnalysis_shouldHoldNoConnectionDuringAiCall() {
+        Goal goal = goalRepo.save(Goal.builder()
+                .title("Learn SQL")
+                .description("Indexes and plans")
+                .difficulty(Difficulty.EASY)
+                .createdAt(LocalDate.now())
+                .deadline(LocalDate.now().plusWeeks(4))
+                .user(owner)
+                .build());
+        progressLogRepo.save(ProgressLog.builder()
+                .title("Read about B-trees")
+                .logTime(LocalDateTime.now())
+                .minutesSpent(30)
+                .goal(goal)
+                .build());
+        when(aiService.analyseProgressLog(anyList(), anyString(), any())).thenAnswer(invocation -> {
+            assertNoConnectionHeld();
+            return AiAnalysisOfProgressLogDto.builder()
+                    .title("Log analysis")
+                    .analysisText("On track")
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        });
+
+        aiAnalysisService.createAIAnalysis(owner.getId(), AIAnalysisRequestDto.builder().limit(10).build(), goal.getId());
+
+        verify(aiService).analyseProgressLog(anyList(), anyString(), any());
+    }
+
+    private void assertNoConnectionHeld() {
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive())
+                .as("AI call must not run inside a transaction")
+                .isFalse();
+        assertThat(dataSource.getHikariPoolMXBean().getActiveConnections())
+                .as("AI call must not hold a pooled connection")
+                .isZero();
+    }
+
+    private CurrentUserInfoDto currentUser() {
+        return CurrentUserInfoDto.builder()
+                .id(owner.getId())
+                .username(owner.getUsername())
+                .email(owner.getEmail())
+                .role(Role.USER)
+                .build();
+    }
+}
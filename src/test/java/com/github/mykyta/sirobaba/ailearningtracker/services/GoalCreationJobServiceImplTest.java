@@ -0,0 +1,139 @@
+package com.github.mykyta.sirobaba.ailearningtracker.services;
+
+import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
+import com.github.mykyta.sirobaba.ailearningtracker.constants.ErrorMessage;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.AiJsonParseException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalCreationJobNotFoundException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalCreationRejectedException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalValidationException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalCreationJobStatus;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.GoalCreationJobProperties;
+import com.github.mykyta.sirobaba.ailearningtracker.services.impl.GoalCreationJobServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("Service")
+@DisplayName("Goal creation job service test")
+@ExtendWith(MockitoExtension.class)
+class GoalCreationJobServiceImplTest {
+
+    @Mock
+    private AIService aiService;
+    @Mock
+    private GoalService goalService;
+
+    private GoalCreationJobServiceImpl jobService;
+    private GoalRequestDto goalRequestDto;
+    private CurrentUserInfoDto currentUser;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new GoalCreationJobServiceImpl(aiService, goalService, new SyncTaskExecutor(),
+                new GoalCreationJobProperties());
+        goalRequestDto = GoalRequestDto.builder()
+                .title(ModelUtils.TEST_NAME_GOAL)
+                .deadline(ModelUtils.TEST_DEADLINE)
+                .build();
+        currentUser = CurrentUserInfoDto.builder()
+                .id(ModelUtils.TEST_ID)
+                .email(ModelUtils.TEST_EMAIL)
+                .build();
+    }
+
+    @Test
+    @DisplayName("submit should generate plan off the request path and store the created goal")
+    void submit_success_jobCompleted() {
+        AiPlanResponseDto plan = new AiPlanResponseDto();
+        GoalResponseDto goal = GoalResponseDto.builder().id(ModelUtils.TEST_ID).build();
+        when(aiService.createLearningPlan(goalRequestDto)).thenReturn(plan);
+        when(goalService.createGoalFromPlan(plan, currentUser)).thenReturn(goal);
+
+        GoalCreationJobDto accepted = jobService.submit(goalRequestDto, currentUser);
+        GoalCreationJobDto result = jobService.getJob(accepted.getJobId(), ModelUtils.TEST_ID);
+
+        assertEquals(GoalCreationJobStatus.COMPLETED, result.getStatus());
+        assertEquals(goal, result.getGoal());
+        assertNotNull(result.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("submit should record failure when plan generation fails")
+    void submit_aiFailure_jobFailed() {
+        when(aiService.createLearningPlan(goalRequestDto)).thenThrow(new GoalValidationException("Unrealistic deadline"));
+
+        GoalCreationJobDto accepted = jobService.submit(goalRequestDto, currentUser);
+        GoalCreationJobDto result = jobService.getJob(accepted.getJobId(), ModelUtils.TEST_ID);
+
+        assertEquals(GoalCreationJobStatus.FAILED, result.getStatus());
+        assertEquals("Unrealistic deadline", result.getError());
+        verifyNoInteractions(goalService);
+    }
+
+    @Test
+    @DisplayName("submit should not expose details of unexpected failures")
+    void submit_unexpectedFailure_jobFailedWithGenericReason() {
+        AiPlanResponseDto plan = new AiPlanResponseDto();
+        when(aiService.createLearningPlan(goalRequestDto)).thenReturn(plan);
+        when(goalService.createGoalFromPlan(plan, currentUser))
+                .thenThrow(new IllegalStateException("could not execute statement [insert into goals]"));
+
+        GoalCreationJobDto accepted = jobService.submit(goalRequestDto, currentUser);
+        GoalCreationJobDto result = jobService.getJob(accepted.getJobId(), ModelUtils.TEST_ID);
+
+        assertEquals(GoalCreationJobStatus.FAILED, result.getStatus());
+        assertEquals(ErrorMessage.UNEXPECTED_SERVER_ERROR, result.getError());
+    }
+
+    @Test
+    @DisplayName("submit should report unparseable AI output with a fixed message")
+    void submit_aiJsonParseFailure_jobFailedWithFixedReason() {
+        when(aiService.createLearningPlan(goalRequestDto))
+                .thenThrow(new AiJsonParseException("Failed to parse AI JSON: {broken"));
+
+        GoalCreationJobDto accepted = jobService.submit(goalRequestDto, currentUser);
+        GoalCreationJobDto result = jobService.getJob(accepted.getJobId(), ModelUtils.TEST_ID);
+
+        assertEquals(ErrorMessage.AI_PLAN_NOT_GENERATED, result.getError());
+    }
+
+    @Test
+    @DisplayName("submit should reject job when executor is saturated")
+    void submit_executorSaturated_throwsException() {
+        jobService = new GoalCreationJobServiceImpl(aiService, goalService,
+                task -> {
+                    throw new TaskRejectedException("full");
+                },
+                new GoalCreationJobProperties());
+
+        assertThrows(GoalCreationRejectedException.class, () -> jobService.submit(goalRequestDto, currentUser));
+        verifyNoInteractions(aiService);
+    }
+
+    @Test
+    @DisplayName("getJob should not expose jobs of other users")
+    void getJob_otherUser_throwsException() {
+        AiPlanResponseDto plan = new AiPlanResponseDto();
+        when(aiService.createLearningPlan(goalRequestDto)).thenReturn(plan);
+        when(goalService.createGoalFromPlan(plan, currentUser))
+                .thenReturn(GoalResponseDto.builder().id(ModelUtils.TEST_ID).build());
+
+        GoalCreationJobDto accepted = jobService.submit(goalRequestDto, currentUser);
+
+        assertThrows(GoalCreationJobNotFoundException.class, () -> jobService.getJob(accepted.getJobId(), 2L));
+    }
+}
@@ -3,12 +3,16 @@ package com.github.mykyta.sirobaba.ailearningtracker.services;
 import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
 import com.github.mykyta.sirobaba.ailearningtracker.events.goal.SubgoalCompletedEvent;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalHasAlreadyCompleted;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalNotFoundException;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.MissingDataException;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.ai.AiPlanResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.goal.GoalSummaryDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.subgoal.SubGoalResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
@@ -20,14 +24,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,6 +66,10 @@ class GoalServiceImplTest {
     private GoalMapper goalMapper;
     @Mock
     private SubgoalService subGoalService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
 
     @InjectMocks
     private GoalServiceImpl goalServiceImpl;
@@ -59,9 +79,12 @@ class GoalServiceImplTest {
     private Subgoal testSubgoal;
     private GoalRequestDto testGoalRequestDto;
     private CurrentUserInfoDto testCurrentUserInfo;
+    private UserTokenStateDto testUserState;
 
     @BeforeEach
     void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+
         testUser = ModelUtils.createTestUser();
         testGoal = ModelUtils.createTestGoal();
         testSubgoal = testGoal.getSubgoals().getFirst();
@@ -71,6 +94,11 @@ class GoalServiceImplTest {
         testGoalRequestDto.setDeadline(ModelUtils.TEST_DEADLINE);
 
         testCurrentUserInfo = CurrentUserInfoDto.builder()
+                .id(ModelUtils.TEST_ID)
+                .email(ModelUtils.TEST_EMAIL)
+                .build();
+        testUserState = UserTokenStateDto.builder()
+                .id(ModelUtils.TEST_ID)
                 .email(ModelUtils.TEST_EMAIL)
                 .build();
     }
@@ -87,17 +115,54 @@ class GoalServiceImplTest {
         when(goalMapper.toGoal(aiPlanResponseDto)).thenReturn(testGoal);
         when(subGoalService.createAndLinkSubGoals(aiPlanResponseDto.getSubGoals(), testGoal))
                 .thenReturn(List.of(testSubgoal));
-        when(userService.findByEmail(testCurrentUserInfo.getEmail())).thenReturn(testUser);
+        when(userService.findTokenStateByEmail(testCurrentUserInfo.getEmail())).thenReturn(testUserState);
+        when(userService.getReference(testCurrentUserInfo.getId())).thenReturn(testUser);
         when(goalRepo.save(testGoal)).thenReturn(testGoal);
         when(goalMapper.toGoalResponseDto(testGoal)).thenReturn(new GoalResponseDto());
 
         GoalResponseDto result = goalServiceImpl.createGoal(testGoalRequestDto, testCurrentUserInfo);
 
         assertNotNull(result);
+        assertEquals(1, testGoal.getSubgoalCount());
+        assertSame(testUser, testGoal.getUser());
         verify(goalRepo).save(testGoal);
         verify(subGoalService).createAndLinkSubGoals(aiPlanResponseDto.getSubGoals(), testGoal);
     }
 
+    @Test
+    @DisplayName("createGoal should call the AI without an open transaction and persist in a short one")
+    void createGoal_aiCallRunsOutsideTransaction() {
+        AiPlanResponseDto aiPlanResponseDto = new AiPlanResponseDto();
+        aiPlanResponseDto.setSubGoals(List.of(new SubGoalResponseDto()));
+        AtomicInteger openTransactions = new AtomicInteger();
+
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            openTransactions.incrementAndGet();
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> openTransactions.decrementAndGet()).when(transactionManager).commit(any());
+        when(aiService.createLearningPlan(testGoalRequestDto)).thenAnswer(invocation -> {
+            assertEquals(0, openTransactions.get(), "AI call must not run inside a transaction");
+            return aiPlanResponseDto;
+        });
+        when(goalMapper.toGoal(aiPlanResponseDto)).thenReturn(testGoal);
+        when(subGoalService.createAndLinkSubGoals(aiPlanResponseDto.getSubGoals(), testGoal))
+                .thenReturn(List.of(testSubgoal));
+        when(userService.findTokenStateByEmail(testCurrentUserInfo.getEmail())).thenReturn(testUserState);
+        when(userService.getReference(testCurrentUserInfo.getId())).thenReturn(testUser);
+        when(goalRepo.save(testGoal)).thenReturn(testGoal);
+        when(goalMapper.toGoalResponseDto(testGoal)).thenReturn(new GoalResponseDto());
+
+        goalServiceImpl.createGoal(testGoalRequestDto, testCurrentUserInfo);
+
+        InOrder inOrder = inOrder(aiService, transactionManager, goalRepo);
+        inOrder.verify(aiService).createLearningPlan(testGoalRequestDto);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(goalRepo).save(testGoal);
+        inOrder.verify(transactionManager).commit(any());
+        assertEquals(0, openTransactions.get());
+    }
+
     @Test
     @DisplayName("createGoal should throw MissingDataException when request is null")
     void createGoal_nullRequest_shouldThrowException() {
@@ -110,6 +175,8 @@ class GoalServiceImplTest {
     @DisplayName("completeGoal should mark goal and subgoals as completed")
     void completeGoal_success() {
         testGoal.setCompleted(false);
+        testGoal.setSubgoalCount(1);
+        testGoal.setCompletedSubgoalCount(0);
         testSubgoal.setCompleted(false);
 
         when(goalRepo.findByGoalIdAndOwnerId(testGoal.getId(), testUser.getId()))
@@ -122,6 +189,7 @@ class GoalServiceImplTest {
         assertNotNull(result);
         assertTrue(testGoal.isCompleted());
         assertTrue(testSubgoal.isCompleted());
+        assertEquals(1, testGoal.getCompletedSubgoalCount());
         verify(goalRepo).save(testGoal);
     }
 
@@ -150,6 +218,16 @@ class GoalServiceImplTest {
         verify(goalMapper).toGoalResponseDto(testGoal);
     }
 
+    @Test
+    @DisplayName("checkOwnership should use the exists query and throw for a goal of another user")
+    void checkOwnership_foreignGoal_shouldThrowException() {
+        when(goalRepo.existsByGoalIdAndOwnerId(testGoal.getId(), testUser.getId())).thenReturn(false);
+
+        assertThrows(GoalNotFoundException.class,
+                () -> goalServiceImpl.checkOwnership(testGoal.getId(), testUser.getId()));
+        verify(goalRepo, never()).findByGoalIdAndOwnerId(any(), any());
+    }
+
     @Test
     @DisplayName("removeGoal should delete goal")
     void removeGoal_success() {
@@ -176,4 +254,23 @@ class GoalServiceImplTest {
         assertTrue(testGoal.isCompleted());
         verify(goalRepo).save(testGoal);
     }
+
+    @Test
+    @DisplayName("getAllCompletedGoals(cursor) should return last slice without next cursor")
+    void getAllCompletedGoals_withoutCursor_lastSlice() {
+        GoalSummaryDto summary = GoalSummaryDto.builder()
+                .id(1L)
+                .completed(true)
+                .createdAt(LocalDate.of(2025, 10, 1))
+                .build();
+        when(goalRepo.findFirstGoalsWithSubCount(testUser.getId(), true, PageRequest.ofSize(11)))
+                .thenReturn(List.of(summary));
+
+        CursorPageResponse<GoalSummaryDto> result =
+                goalServiceImpl.getAllCompletedGoals(null, 10, testUser.getId());
+
+        assertEquals(List.of(summary), result.content());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
 }
@@ -1,38 +1,76 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services;
 
 import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.GoalNotFoundException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidCursorException;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidProgressLogBatchException;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.ProgressLogNotFoundException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogBatchResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogContentDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogDetailsResponseDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogRequestDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.progresslog.ProgressLogResponseDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.CursorPageResponse;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageCursor;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.tool.PageResponse;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLog;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.ProgressLogDailyStats;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.ProgressLogMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogDailyStatsRepo;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.properties.ProgressLogBatchProperties;
 import com.github.mykyta.sirobaba.ailearningtracker.services.impl.ProgressLogServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -47,15 +85,40 @@ class ProgressLogServiceImplTest {
     @Mock
     private ProgressLogRepo progressLogRepo;
 
+    @Mock
+    private ProgressLogDailyStatsRepo dailyStatsRepo;
+
     @Mock
     private GoalService goalService;
 
     @Mock
     private ProgressLogMapper progressLogMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ProgressLogBatchProperties batchProperties = new ProgressLogBatchProperties();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate();
+
     @InjectMocks
     private ProgressLogServiceImpl progressLogService;
 
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.setTransactionManager(transactionManager);
+    }
 
     @Test
     @DisplayName("createProgressLog() — creates a progress log and returns DTO")
@@ -83,6 +146,7 @@ class ProgressLogServiceImplTest {
         when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(goal);
         when(progressLogRepo.save(any(ProgressLog.class))).thenReturn(savedEntity);
         when(progressLogMapper.progressLogToProgressLogResponseDto(savedEntity)).thenReturn(expectedDto);
+        when(dailyStatsRepo.addLogs(goalId, ModelUtils.TEST_LOG_TIME.toLocalDate(), 1, 135L)).thenReturn(1);
 
         ProgressLogResponseDto actual = progressLogService.createProgressLog(goalId, requestDto, userId);
 
@@ -90,9 +154,211 @@ class ProgressLogServiceImplTest {
         verify(progressLogRepo).save(any(ProgressLog.class));
         verify(goalService).findByIdAndUserId(goalId, userId);
         verify(progressLogMapper).progressLogToProgressLogResponseDto(savedEntity);
+        verify(dailyStatsRepo).addLogs(goalId, ModelUtils.TEST_LOG_TIME.toLocalDate(), 1, 135L);
+        verify(dailyStatsRepo, never()).save(any());
+        verify(entityManager, never()).find(eq(Goal.class), any(), any(LockModeType.class));
+    }
+
+    @Test
+    @DisplayName("createProgressLog() — inserts the daily rollup row under a goal lock for the first log of a day")
+    void createProgressLog_FirstLogOfDay_ShouldInsertDailyStats() {
+        Long goalId = 1L;
+        Long userId = 1L;
+        LocalDate logDate = ModelUtils.TEST_LOG_TIME.toLocalDate();
+        ProgressLogRequestDto requestDto = ProgressLogRequestDto.builder()
+                .title("Check progress")
+                .hours(2)
+                .minutes(15)
+                .build();
+        ProgressLog savedEntity = ModelUtils.createTestProgressLog();
+
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(ModelUtils.createTestGoal());
+        when(progressLogRepo.save(any(ProgressLog.class))).thenReturn(savedEntity);
+        when(dailyStatsRepo.addLogs(goalId, logDate, 1, 135L)).thenReturn(0);
+
+        progressLogService.createProgressLog(goalId, requestDto, userId);
+
+        ArgumentCaptor<ProgressLogDailyStats> inserted = ArgumentCaptor.forClass(ProgressLogDailyStats.class);
+        InOrder inOrder = inOrder(dailyStatsRepo, entityManager);
+        inOrder.verify(dailyStatsRepo).addLogs(goalId, logDate, 1, 135L);
+        inOrder.verify(entityManager).find(Goal.class, goalId, LockModeType.PESSIMISTIC_WRITE);
+        inOrder.verify(dailyStatsRepo).addLogs(goalId, logDate, 1, 135L);
+        inOrder.verify(dailyStatsRepo).save(inserted.capture());
+        assertThat(inserted.getValue()).isEqualTo(new ProgressLogDailyStats(goalId, logDate, userId, 1, 135L));
+    }
+
+    @Test
+    @DisplayName("createProgressLog() — stores the log at the current time with the requested duration")
+    void createProgressLog_ShouldUseCurrentTime() {
+        Goal goal = ModelUtils.createTestGoal();
+        ProgressLogRequestDto requestDto = ProgressLogRequestDto.builder()
+                .title("Check progress")
+                .hours(1)
+                .minutes(30)
+                .note("Good day of learning")
+                .build();
+        ArgumentCaptor<ProgressLog> saved = ArgumentCaptor.forClass(ProgressLog.class);
+        LocalDateTime before = LocalDateTime.now();
+
+        when(goalService.findByIdAndUserId(1L, 1L)).thenReturn(goal);
+        when(progressLogRepo.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        progressLogService.createProgressLog(1L, requestDto, 1L);
+
+        assertThat(saved.getValue().getMinutesSpent()).isEqualTo(90);
+        assertThat(saved.getValue().getLogTime()).isBetween(before, LocalDateTime.now());
+        assertThat(saved.getValue().getGoal()).isSameAs(goal);
     }
 
 
+    @Test
+    @DisplayName("createProgressLogs() — streams NDJSON and persists it in chunks of one transaction")
+    void createProgressLogs_Ndjson_ShouldPersistInChunks() {
+        Long goalId = 1L;
+        Long userId = 1L;
+        Goal goal = ModelUtils.createTestGoal();
+        batchProperties.setChunkSize(2);
+        List<ProgressLog> saved = new ArrayList<>();
+        String body = """
+                {"title":"Day 1","hours":1,"minutes":0,"note":"Read the first chapter of the book","logTime":"2025-10-01T10:00:00"}
+                {"title":"Day 2","hours":0,"minutes":45,"note":"Solved the exercises of chapter one"}
+                {"title":"Day 3","hours":2,"minutes":15,"note":"Built a small project with new skills"}
+                """;
+
+        when(goalService.getReference(goalId)).thenReturn(goal);
+        when(progressLogRepo.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ProgressLog> chunk = invocation.getArgument(0);
+            saved.addAll(chunk);
+            return chunk;
+        });
+        when(dailyStatsRepo.addLogs(eq(goalId), any(), anyInt(), anyLong())).thenReturn(1);
+
+        ProgressLogBatchResponseDto result = progressLogService.createProgressLogs(goalId, stream(body), userId);
+
+        assertThat(result.getCreated()).isEqualTo(3);
+        assertThat(saved.size()).isEqualTo(3);
+        assertThat(saved.getFirst().getLogTime()).isEqualTo(LocalDateTime.of(2025, 10, 1, 10, 0));
+        assertThat(saved.getFirst().getGoal()).isSameAs(goal);
+        assertThat(saved.get(2).getMinutesSpent()).isEqualTo(135);
+        verify(goalService).checkOwnership(goalId, userId);
+        verify(goalService, never()).findByIdAndUserId(any(), any());
+        verify(progressLogRepo, times(2)).saveAll(anyList());
+        verify(dailyStatsRepo).addLogs(goalId, LocalDate.of(2025, 10, 1), 1, 60L);
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("createProgressLogs() — parses the body outside of any transaction")
+    void createProgressLogs_ShouldParseOutsideTransaction() {
+        batchProperties.setChunkSize(1);
+        AtomicInteger openTransactions = new AtomicInteger();
+        InputStream body = new FilterInputStream(stream("""
+                {"title":"Day 1","hours":1,"minutes":0,"note":"Read the first chapter of the book"}
+                {"title":"Day 2","hours":0,"minutes":45,"note":"Solved the exercises of chapter one"}
+                """)) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                assertThat(openTransactions.get()).isZero();
+                return super.read(buffer, offset, length);
+            }
+        };
+
+        when(goalService.getReference(1L)).thenReturn(ModelUtils.createTestGoal());
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            openTransactions.incrementAndGet();
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> openTransactions.decrementAndGet()).when(transactionManager).commit(any());
+
+        ProgressLogBatchResponseDto result = progressLogService.createProgressLogs(1L, body, 1L);
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("createProgressLogs() — accepts a JSON array")
+    void createProgressLogs_JsonArray_ShouldPersistAllEntries() {
+        Long goalId = 1L;
+        Long userId = 1L;
+        String body = """
+                [{"title":"Day 1","hours":1,"minutes":0,"note":"Read the first chapter of the book"},
+                 {"title":"Day 2","hours":0,"minutes":45,"note":"Solved the exercises of chapter one"}]
+                """;
+
+        when(goalService.getReference(goalId)).thenReturn(ModelUtils.createTestGoal());
+
+        ProgressLogBatchResponseDto result = progressLogService.createProgressLogs(goalId, stream(body), userId);
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        verify(progressLogRepo, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("createProgressLogs() — rejects the batch when an entry is invalid")
+    void createProgressLogs_InvalidEntry_ShouldThrow() {
+        String body = """
+                {"title":"Day 1","hours":1,"minutes":0,"note":"Read the first chapter of the book"}
+                {"title":"Day 2","hours":0,"minutes":75,"note":"Solved the exercises of chapter one"}
+                """;
+
+        assertThatThrownBy(() -> progressLogService.createProgressLogs(1L, stream(body), 1L))
+                .isInstanceOf(InvalidProgressLogBatchException.class)
+                .hasMessageContaining("index 1");
+        verify(progressLogRepo, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("createProgressLogs() — writes nothing when an entry after a full chunk is invalid")
+    void createProgressLogs_InvalidEntryAfterChunk_ShouldWriteNothing() {
+        batchProperties.setChunkSize(1);
+        String body = """
+                {"title":"Day 1","hours":1,"minutes":0,"note":"Read the first chapter of the book"}
+                {"title":"Day 2","hours":0,"minutes":75,"note":"Solved the exercises of chapter one"}
+                """;
+
+        assertThatThrownBy(() -> progressLogService.createProgressLogs(1L, stream(body), 1L))
+                .isInstanceOf(InvalidProgressLogBatchException.class)
+                .hasMessageContaining("index 1");
+        verify(progressLogRepo, never()).saveAll(anyList());
+        verifyNoInteractions(dailyStatsRepo, transactionManager);
+    }
+
+    @Test
+    @DisplayName("createProgressLogs() — rejects a goal of another user before reading the body")
+    void createProgressLogs_ForeignGoal_ShouldThrow() {
+        doThrow(new GoalNotFoundException("Goal with ID 1 not found for user 2"))
+                .when(goalService).checkOwnership(1L, 2L);
+
+        assertThatThrownBy(() -> progressLogService.createProgressLogs(1L, stream("{\"title\":"), 2L))
+                .isInstanceOf(GoalNotFoundException.class);
+        verifyNoInteractions(progressLogRepo, transactionManager);
+    }
+
+    @Test
+    @DisplayName("createProgressLogs() — rejects malformed JSON")
+    void createProgressLogs_MalformedJson_ShouldThrow() {
+        assertThatThrownBy(() -> progressLogService.createProgressLogs(1L, stream("{\"title\":"), 1L))
+                .isInstanceOf(InvalidProgressLogBatchException.class);
+    }
+
+    @Test
+    @DisplayName("createProgressLogs() — rejects batches above the configured size")
+    void createProgressLogs_TooManyEntries_ShouldThrow() {
+        batchProperties.setMaxEntries(1);
+        String body = """
+                {"title":"Day 1","hours":1,"minutes":0,"note":"Read the first chapter of the book"}
+                {"title":"Day 2","hours":0,"minutes":45,"note":"Solved the exercises of chapter one"}
+                """;
+
+        assertThatThrownBy(() -> progressLogService.createProgressLogs(1L, stream(body), 1L))
+                .isInstanceOf(InvalidProgressLogBatchException.class)
+                .hasMessageContaining("exceeds 1");
+    }
+
     @Test
     @DisplayName("getLogsForGoal() — returns a page of logs")
     void getLogsForGoal_ShouldReturnPageResponse() {
@@ -126,6 +392,66 @@ class ProgressLogServiceImplTest {
         verify(progressLogRepo).findProgressLogsByGoalIdAndUserId(pageable, goalId, userId);
     }
 
+    @Test
+    @DisplayName("getLogsForGoal(cursor) — first slice probes one extra row and returns next cursor")
+    void getLogsForGoal_WithoutCursor_ShouldReturnFirstSliceAndNextCursor() {
+        Long goalId = 1L;
+        Long userId = 1L;
+        LocalDateTime logTime = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+        ProgressLog first = new ProgressLog();
+        first.setId(3L);
+        first.setLogTime(logTime);
+        ProgressLog second = new ProgressLog();
+        second.setId(2L);
+        second.setLogTime(logTime);
+
+        when(progressLogRepo.findFirstLogsByGoalIdAndUserId(goalId, userId, PageRequest.ofSize(2)))
+                .thenReturn(List.of(first, second));
+        when(progressLogMapper.progressLogToProgressLogResponseDto(first))
+                .thenReturn(ProgressLogResponseDto.builder().progressLogId(3L).build());
+
+        CursorPageResponse<ProgressLogResponseDto> result =
+                progressLogService.getLogsForGoal(null, 1, goalId, userId);
+
+        assertThat(result.content().size()).isEqualTo(1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(PageCursor.decode(result.nextCursor())).isEqualTo(PageCursor.of(logTime, 3L));
+        verify(progressLogMapper, never()).progressLogToProgressLogResponseDto(second);
+    }
+
+    @Test
+    @DisplayName("getLogsForGoal(cursor) — seeks past the cursor position and ends the slice")
+    void getLogsForGoal_WithCursor_ShouldSeekPastCursor() {
+        Long goalId = 1L;
+        Long userId = 1L;
+        LocalDateTime logTime = LocalDateTime.of(2025, 10, 1, 12, 0);
+        String cursor = PageCursor.of(logTime, 3L).encode();
+
+        ProgressLog entity = new ProgressLog();
+        entity.setId(2L);
+        entity.setLogTime(logTime);
+
+        when(progressLogRepo.findLogsByGoalIdAndUserIdAfter(goalId, userId, logTime, 3L, PageRequest.ofSize(11)))
+                .thenReturn(List.of(entity));
+        when(progressLogMapper.progressLogToProgressLogResponseDto(entity))
+                .thenReturn(ProgressLogResponseDto.builder().progressLogId(2L).build());
+
+        CursorPageResponse<ProgressLogResponseDto> result =
+                progressLogService.getLogsForGoal(cursor, 10, goalId, userId);
+
+        assertThat(result.content().getFirst().getProgressLogId()).isEqualTo(2L);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("getLogsForGoal(cursor) — rejects a malformed cursor")
+    void getLogsForGoal_WithMalformedCursor_ShouldThrow() {
+        assertThatThrownBy(() -> progressLogService.getLogsForGoal("not a cursor", 10, 1L, 1L))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
 
     @Test
     @DisplayName("getProgressLogDetails() — returns log details")
@@ -181,6 +507,8 @@ class ProgressLogServiceImplTest {
         progressLogService.deleteProgressLog(goalId, logId, userId);
 
         verify(progressLogRepo).delete(progressLog);
+        verify(dailyStatsRepo).removeLog(goalId, ModelUtils.TEST_LOG_TIME.toLocalDate(), 135L);
+        verify(dailyStatsRepo).deleteIfEmpty(goalId, ModelUtils.TEST_LOG_TIME.toLocalDate());
     }
 
 
@@ -213,4 +541,8 @@ class ProgressLogServiceImplTest {
         assertThatThrownBy(() -> progressLogService.getProgressLogContent(1L, 1L, 3))
                 .isInstanceOf(ProgressLogNotFoundException.class);
     }
-}
\ No newline at end of file
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
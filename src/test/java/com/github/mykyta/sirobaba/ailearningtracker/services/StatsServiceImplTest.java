@@ -0,0 +1,151 @@
+package com.github.mykyta.sirobaba.ailearningtracker.services;
+
+import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
+import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.InvalidStatsRangeException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.DailyStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDetailsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.GoalStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.stats.UserStatsDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.ProgressLogDailyStatsRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.services.impl.StatsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("Service")
+@DisplayName("Stats service test")
+@ExtendWith(MockitoExtension.class)
+class StatsServiceImplTest {
+
+    @Mock
+    private ProgressLogDailyStatsRepo dailyStatsRepo;
+
+    @Mock
+    private GoalService goalService;
+
+    @InjectMocks
+    private StatsServiceImpl statsService;
+
+    @Test
+    @DisplayName("getUserStats() — sums goal totals and computes streaks from active days")
+    void getUserStats_ShouldAggregateTotalsAndStreaks() {
+        Long userId = 1L;
+        LocalDate today = LocalDate.now();
+        List<GoalStatsDto> goals = List.of(
+                new GoalStatsDto(1L, "Learn SQL", 5L, 300L, today),
+                new GoalStatsDto(2L, "Learn Java", 3L, 120L, today.minusDays(10))
+        );
+        List<DailyStatsDto> daily = List.of(new DailyStatsDto(today, 2L, 90L));
+
+        when(dailyStatsRepo.findGoalTotalsByUserId(userId)).thenReturn(goals);
+        // Current run of three days, and an older run of four days
+        when(dailyStatsRepo.findActiveDaysByUserId(userId, today.minusDays(365))).thenReturn(List.of(
+                today, today.minusDays(1), today.minusDays(2),
+                today.minusDays(10), today.minusDays(11), today.minusDays(12), today.minusDays(13)
+        ));
+        when(dailyStatsRepo.countActiveDaysByUserId(userId)).thenReturn(7L);
+        when(dailyStatsRepo.findDailyByUserId(userId, today.minusDays(29), today)).thenReturn(daily);
+
+        UserStatsDto stats = statsService.getUserStats(userId, null, null);
+
+        assertThat(stats.getTotalLogs()).isEqualTo(8L);
+        assertThat(stats.getTotalMinutes()).isEqualTo(420L);
+        assertThat(stats.getActiveDays()).isEqualTo(7);
+        assertThat(stats.getCurrentStreak()).isEqualTo(3);
+        assertThat(stats.getLongestStreak()).isEqualTo(4);
+        assertThat(stats.getFrom()).isEqualTo(today.minusDays(29));
+        assertThat(stats.getGoals()).isEqualTo(goals);
+        assertThat(stats.getDaily()).isEqualTo(daily);
+    }
+
+    @Test
+    @DisplayName("getUserStats() — current streak is zero when the last active day is before yesterday")
+    void getUserStats_ShouldResetCurrentStreakAfterMissedDay() {
+        Long userId = 1L;
+        LocalDate today = LocalDate.now();
+
+        when(dailyStatsRepo.findGoalTotalsByUserId(userId)).thenReturn(List.of());
+        when(dailyStatsRepo.findActiveDaysByUserId(userId, today.minusDays(365)))
+                .thenReturn(List.of(today.minusDays(2), today.minusDays(3)));
+        when(dailyStatsRepo.findDailyByUserId(any(), any(), any())).thenReturn(List.of());
+
+        UserStatsDto stats = statsService.getUserStats(userId, null, null);
+
+        assertThat(stats.getCurrentStreak()).isZero();
+        assertThat(stats.getLongestStreak()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("getUserStats() — rejects a reversed or too long range")
+    void getUserStats_ShouldRejectInvalidRange() {
+        LocalDate day = LocalDate.of(2025, 10, 1);
+
+        assertThatThrownBy(() -> statsService.getUserStats(1L, day, day.minusDays(1)))
+                .isInstanceOf(InvalidStatsRangeException.class);
+        assertThatThrownBy(() -> statsService.getUserStats(1L, day, day.plusDays(400)))
+                .isInstanceOf(InvalidStatsRangeException.class);
+        verify(dailyStatsRepo, never()).findGoalTotalsByUserId(any());
+    }
+
+    @Test
+    @DisplayName("getGoalStats() — returns rollup totals without loading the goal")
+    void getGoalStats_ShouldReadRollup() {
+        Long goalId = 1L;
+        Long userId = 1L;
+        LocalDate from = LocalDate.of(2025, 10, 1);
+        LocalDate to = LocalDate.of(2025, 10, 31);
+        List<DailyStatsDto> daily = List.of(new DailyStatsDto(LocalDate.of(2025, 10, 5), 1L, 45L));
+
+        when(dailyStatsRepo.findGoalTotals(goalId, userId))
+                .thenReturn(Optional.of(new GoalStatsDto(goalId, "Learn SQL", 1L, 45L, LocalDate.of(2025, 10, 5))));
+        when(dailyStatsRepo.findActiveDaysByGoalId(goalId, userId, LocalDate.now().minusDays(365)))
+                .thenReturn(List.of(LocalDate.of(2025, 10, 5)));
+        when(dailyStatsRepo.countActiveDaysByGoalId(goalId, userId)).thenReturn(1L);
+        when(dailyStatsRepo.findDailyByGoalId(goalId, userId, from, to)).thenReturn(daily);
+
+        GoalStatsDetailsDto stats = statsService.getGoalStats(goalId, userId, from, to);
+
+        assertThat(stats.getTitle()).isEqualTo("Learn SQL");
+        assertThat(stats.getTotalMinutes()).isEqualTo(45L);
+        assertThat(stats.getActiveDays()).isEqualTo(1);
+        assertThat(stats.getLongestStreak()).isEqualTo(1);
+        assertThat(stats.getDaily()).isEqualTo(daily);
+        verify(goalService, never()).findByIdAndUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("getGoalStats() — checks ownership and returns zeros for a goal without logs")
+    void getGoalStats_ShouldReturnZerosForGoalWithoutLogs() {
+        Long goalId = 1L;
+        Long userId = 1L;
+        Goal goal = ModelUtils.createTestGoal();
+
+        when(dailyStatsRepo.findGoalTotals(goalId, userId)).thenReturn(Optional.empty());
+        when(goalService.findByIdAndUserId(goalId, userId)).thenReturn(goal);
+        when(dailyStatsRepo.findActiveDaysByGoalId(goalId, userId, LocalDate.now().minusDays(365))).thenReturn(List.of());
+
+        GoalStatsDetailsDto stats = statsService.getGoalStats(goalId, userId, null, null);
+
+        assertThat(stats.getGoalId()).isEqualTo(goal.getId());
+        assertThat(stats.getTotalLogs()).isZero();
+        assertThat(stats.getCurrentStreak()).isZero();
+        assertThat(stats.getDaily()).isEmpty();
+        verify(dailyStatsRepo, never()).findDailyByGoalId(any(), any(), any(), any());
+    }
+}
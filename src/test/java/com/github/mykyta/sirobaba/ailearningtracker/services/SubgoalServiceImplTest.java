@@ -8,6 +8,7 @@ import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.subgoal.SubG
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Goal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.Subgoal;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.SubgoalMapper;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.GoalRepo;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.SubgoalRepo;
 import com.github.mykyta.sirobaba.ailearningtracker.services.impl.SubgoalServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +38,8 @@ class SubgoalServiceImplTest {
     @Mock
     private SubgoalRepo subGoalRepo;
     @Mock
+    private GoalRepo goalRepo;
+    @Mock
     private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
@@ -72,7 +75,8 @@ class SubgoalServiceImplTest {
         assertNotNull(result);
         assertTrue(testSubgoal.isCompleted());
         verify(subGoalRepo).save(testSubgoal);
-        verify(eventPublisher).publishEvent(any(SubgoalCompletedEvent.class));
+        verify(goalRepo).incrementCompletedSubgoalCount(parentGoal.getId());
+        verify(eventPublisher).publishEvent(new SubgoalCompletedEvent(parentGoal.getId()));
     }
 
     @Test
@@ -86,6 +90,7 @@ class SubgoalServiceImplTest {
         );
 
         verify(subGoalRepo, never()).save(any());
+        verify(goalRepo, never()).incrementCompletedSubgoalCount(any());
         verify(eventPublisher, never()).publishEvent(any());
     }
 
@@ -1,9 +1,15 @@
 package com.github.mykyta.sirobaba.ailearningtracker.services;
 
 import com.github.mykyta.sirobaba.ailearningtracker.ModelUtils;
+import com.github.mykyta.sirobaba.ailearningtracker.constants.CacheNames;
+import com.github.mykyta.sirobaba.ailearningtracker.events.user.UserChangedEvent;
 import com.github.mykyta.sirobaba.ailearningtracker.exceptions.exceptions.UserNotFoundException;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.CurrentUserInfoDto;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.dto.user.UserTokenStateDto;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.entity.User;
+import com.github.mykyta.sirobaba.ailearningtracker.persistence.mapper.UserMapper;
 import com.github.mykyta.sirobaba.ailearningtracker.persistence.repository.UserRepo;
+import com.github.mykyta.sirobaba.ailearningtracker.security.jwt.AccessTokenRevocationChecker;
 import com.github.mykyta.sirobaba.ailearningtracker.services.impl.UserServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -12,9 +18,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +42,27 @@ class UserServiceImplTest {
     @Mock
     private UserRepo userRepo;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AccessTokenRevocationChecker revocationChecker;
+
+    @Mock
+    private Cache cache;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private ObjectProvider<UserService> self;
+
+    @Mock
+    private UserService proxiedUserService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -79,4 +112,65 @@ class UserServiceImplTest {
         assertThrows(UserNotFoundException.class,
                 () -> userService.findById(ModelUtils.TEST_ID));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return user state when email exists")
+    void findTokenStateByEmail_ShouldReturnState_WhenEmailExists() {
+        UserTokenStateDto state = UserTokenStateDto.builder()
+                .id(ModelUtils.TEST_ID)
+                .email(ModelUtils.TEST_EMAIL)
+                .build();
+        when(userRepo.findTokenStateByEmail(ModelUtils.TEST_EMAIL)).thenReturn(Optional.of(state));
+
+        assertSame(state, userService.findTokenStateByEmail(ModelUtils.TEST_EMAIL));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when user state not found")
+    void findTokenStateByEmail_ShouldThrowException_WhenUserNotFound() {
+        when(userRepo.findTokenStateByEmail(ModelUtils.TEST_EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundException.class,
+                () -> userService.findTokenStateByEmail(ModelUtils.TEST_EMAIL));
+    }
+
+    @Test
+    @DisplayName("Should look up current user info through the cached service proxy")
+    void findCurrentUserInfoDto_ShouldUseProxiedLookup() {
+        UserTokenStateDto state = UserTokenStateDto.builder()
+                .id(ModelUtils.TEST_ID)
+                .email(ModelUtils.TEST_EMAIL)
+                .build();
+        CurrentUserInfoDto currentUser = CurrentUserInfoDto.builder()
+                .id(ModelUtils.TEST_ID)
+                .email(ModelUtils.TEST_EMAIL)
+                .build();
+        when(self.getObject()).thenReturn(proxiedUserService);
+        when(proxiedUserService.findTokenStateByEmail(ModelUtils.TEST_EMAIL)).thenReturn(state);
+        when(userMapper.fromTokenState(state)).thenReturn(currentUser);
+
+        assertSame(currentUser, userService.findCurrentUserInfoDto(ModelUtils.TEST_EMAIL));
+        verify(userRepo, never()).findTokenStateByEmail(ModelUtils.TEST_EMAIL);
+    }
+
+    @Test
+    @DisplayName("Should publish user change event after creating user")
+    void createUser_ShouldPublishUserChangedEvent() {
+        when(userRepo.save(testUser)).thenReturn(testUser);
+
+        userService.createUser(testUser);
+
+        verify(eventPublisher).publishEvent(new UserChangedEvent(ModelUtils.TEST_ID, ModelUtils.TEST_EMAIL));
+    }
+
+    @Test
+    @DisplayName("Should evict cached user state when user changes")
+    void handleUserChanged_ShouldEvictCachesAndRevocationState() {
+        when(cacheManager.getCache(CacheNames.USERS_BY_EMAIL)).thenReturn(cache);
+
+        userService.handleUserChanged(new UserChangedEvent(ModelUtils.TEST_ID, ModelUtils.TEST_EMAIL));
+
+        verify(cache).evict(ModelUtils.TEST_EMAIL);
+        verify(revocationChecker).invalidate(ModelUtils.TEST_ID);
+    }
+}